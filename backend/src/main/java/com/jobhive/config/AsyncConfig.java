@@ -0,0 +1,129 @@
+package com.jobhive.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors for background work that must never run on request threads
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Bounded pool for resume parsing. When the queue is full, submissions are
+     * rejected and the resume stays PENDING until the requeue sweep picks it up.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor resumeParsingExecutor(
+            @Value("${app.resume.parser-threads:2}") int threads,
+            @Value("${app.resume.parser-queue-capacity:100}") int queueCapacity,
+            @Value("${app.async.virtual-threads:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("resume-parser-");
+        useVirtualThreads(executor, virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Pool for resume analyzer calls, sized to the analyzer concurrency limit.
+     * ResumeAnalysisService never has more calls outstanding than threads.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor resumeAnalysisExecutor(@Value("${app.analyzer.max-concurrent-calls:2}") int maxCalls,
+                                                         @Value("${app.async.virtual-threads:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxCalls);
+        executor.setMaxPoolSize(maxCalls);
+        executor.setQueueCapacity(maxCalls);
+        executor.setThreadNamePrefix("resume-analyzer-");
+        useVirtualThreads(executor, virtualThreads);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Pool that writes buffered events to SSE connections. Only connections with
+     * something to send hold a thread, and at most one each, so the queue is bounded
+     * by the number of connections; a rejected drain evicts that connection.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor eventPushExecutor(@Value("${app.events.push-threads:2}") int threads,
+                                                    @Value("${app.events.max-connections:10000}") int maxConnections,
+                                                    @Value("${app.async.virtual-threads:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(maxConnections);
+        executor.setThreadNamePrefix("event-push-");
+        useVirtualThreads(executor, virtualThreads);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Single worker for account deletions, so bulk deletes never compete with each
+     * other for locks or I/O. A full queue rejects the request; the client retries.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor accountDeletionExecutor(
+            @Value("${app.account-deletion.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("account-deletion-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Single worker for retention archiving, which can run for the whole maintenance
+     * window and must not hold up the scheduler thread. Only one run at a time.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor jobArchiveExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("job-archive-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * Work-stealing pool for CPU-bound job ranking. Kept separate from the common
+     * pool so ranking load cannot starve parallel streams elsewhere.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool jobRankingPool(@Value("${app.ranking.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(threads);
+    }
+
+    /**
+     * Run the pool's workers on virtual threads (JDK 21+). Pool size and queue still
+     * bound how much work runs at once; only the threads themselves get cheaper.
+     */
+    private static void useVirtualThreads(ThreadPoolTaskExecutor executor, boolean enabled) {
+        if (enabled) {
+            executor.setThreadFactory(
+                    new VirtualThreadTaskExecutor(executor.getThreadNamePrefix()).getVirtualThreadFactory());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.jobhive.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Configuration for a concurrency limit in front of the JDBC pool, enabled by
+ * app.jdbc.bounded-checkout (the "virtual" profile sets it)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.jdbc.bounded-checkout", havingValue = "true")
+public class JdbcConcurrencyConfig {
+
+    /**
+     * Wrap every DataSource bean in a BoundedDataSource. The limit is the pool size
+     * (Hikari's default is 10), so the two cannot drift apart.
+     */
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConnections,
+            @Value("${app.jdbc.acquire-timeout:10s}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BoundedDataSource) {
+                    return bean;
+                }
+                return new BoundedDataSource(dataSource, maxConnections, acquireTimeout);
+            }
+        };
+    }
+
+    /**
+     * Free permits and waiting threads of the bounded DataSource
+     */
+    @Bean
+    public MeterBinder jdbcConcurrencyMetrics(DataSource dataSource) {
+        return registry -> {
+            BoundedDataSource bounded;
+            try {
+                bounded = dataSource.unwrap(BoundedDataSource.class);
+            } catch (SQLException e) {
+                return;
+            }
+            Gauge.builder("jobhive.jdbc.permits.available", bounded, BoundedDataSource::getAvailablePermits)
+                    .description("Connections that can still be checked out")
+                    .register(registry);
+            Gauge.builder("jobhive.jdbc.permits.waiting", bounded, BoundedDataSource::getWaitingCount)
+                    .description("Threads waiting for a connection")
+                    .register(registry);
+        };
+    }
+}
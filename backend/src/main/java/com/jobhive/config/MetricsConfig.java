@@ -0,0 +1,110 @@
+package com.jobhive.config;
+
+import com.jobhive.security.RateLimitFilter;
+import com.jobhive.security.TokenBucketRateLimiter;
+import com.jobhive.service.JobArchiveService;
+import com.jobhive.service.JobRankingService;
+import com.jobhive.service.LoginActivityTracker;
+import com.jobhive.service.MatchScoreService;
+import com.jobhive.service.ResumeAnalysisService;
+import com.jobhive.service.ResumeUploadService;
+import com.jobhive.service.SkillMatchIndex;
+import com.jobhive.service.UserEventHub;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for application metrics. HTTP, JVM, Hikari and repository timings come
+ * from Spring Boot; this adds @Timed support and gauges for the in-memory queues and indexes.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Aspect backing @Timed on service classes
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Gauges for background work queues and per-user in-memory indexes
+     */
+    @Bean
+    public MeterBinder backgroundWorkMetrics(LoginActivityTracker loginActivityTracker,
+                                             MatchScoreService matchScoreService,
+                                             ResumeAnalysisService resumeAnalysisService,
+                                             ResumeUploadService resumeUploadService,
+                                             SkillMatchIndex skillMatchIndex,
+                                             JobRankingService jobRankingService,
+                                             UserEventHub userEventHub,
+                                             JobArchiveService jobArchiveService) {
+        return registry -> {
+            Gauge.builder("jobhive.login.pending", loginActivityTracker, LoginActivityTracker::getPendingCount)
+                    .description("Login timestamps waiting to be flushed")
+                    .register(registry);
+            FunctionCounter.builder("jobhive.login.dropped", loginActivityTracker, LoginActivityTracker::getDroppedCount)
+                    .description("Logins not recorded because the pending map was full")
+                    .register(registry);
+            Gauge.builder("jobhive.match_scores.pending", matchScoreService, MatchScoreService::getPendingCount)
+                    .description("Jobs waiting for their match score to be recomputed")
+                    .register(registry);
+            Gauge.builder("jobhive.analyzer.queued", resumeAnalysisService, ResumeAnalysisService::getQueuedCount)
+                    .description("Resume analyses waiting for a batch")
+                    .register(registry);
+            Gauge.builder("jobhive.analyzer.in_flight", resumeAnalysisService, ResumeAnalysisService::getInFlightCount)
+                    .description("Resume analyses queued or running")
+                    .register(registry);
+            Gauge.builder("jobhive.uploads.active", resumeUploadService, ResumeUploadService::getActiveCount)
+                    .description("Open chunked upload sessions")
+                    .register(registry);
+            Gauge.builder("jobhive.index.loaded_users", skillMatchIndex, SkillMatchIndex::getLoadedUserCount)
+                    .description("Users with an in-memory index loaded")
+                    .tag("index", "skill_match")
+                    .register(registry);
+            Gauge.builder("jobhive.index.loaded_users", jobRankingService, JobRankingService::getLoadedUserCount)
+                    .description("Users with an in-memory index loaded")
+                    .tag("index", "job_ranking")
+                    .register(registry);
+            Gauge.builder("jobhive.events.connections", userEventHub, UserEventHub::getConnectionCount)
+                    .description("Open event stream connections")
+                    .register(registry);
+            FunctionCounter.builder("jobhive.events.evicted", userEventHub, UserEventHub::getEvictedCount)
+                    .description("Event stream connections closed because the client fell behind")
+                    .register(registry);
+            FunctionCounter.builder("jobhive.retention.archived", jobArchiveService, JobArchiveService::getArchivedCount)
+                    .description("Jobs moved to the archive by the retention policy")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Permitted/throttled counts and live bucket counts per rate limiter
+     */
+    @Bean
+    public MeterBinder rateLimitMetrics(ObjectProvider<RateLimitFilter> rateLimitFilter) {
+        return registry -> rateLimitFilter.ifAvailable(filter -> {
+            for (TokenBucketRateLimiter limiter : filter.getLimiters()) {
+                FunctionCounter.builder("jobhive.rate_limit.requests", limiter, TokenBucketRateLimiter::getPermittedCount)
+                        .description("Requests checked against a rate limiter, by result")
+                        .tags("limiter", limiter.getName(), "result", "permitted")
+                        .register(registry);
+                FunctionCounter.builder("jobhive.rate_limit.requests", limiter, TokenBucketRateLimiter::getThrottledCount)
+                        .description("Requests checked against a rate limiter, by result")
+                        .tags("limiter", limiter.getName(), "result", "throttled")
+                        .register(registry);
+                Gauge.builder("jobhive.rate_limit.buckets", limiter, TokenBucketRateLimiter::getBucketCount)
+                        .description("Clients currently tracked by a rate limiter")
+                        .tag("limiter", limiter.getName())
+                        .register(registry);
+            }
+        });
+    }
+}
@@ -0,0 +1,122 @@
+package com.jobhive.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Rate limiting settings bound from app.rate-limit.* properties.
+ * Each endpoint entry can limit by client IP, by the target email, or both.
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Buckets untouched for this long are dropped (they would be full anyway)
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Largest request body inspected when extracting the email from JSON
+     */
+    private int maxInspectedBodyBytes = 4096;
+
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    public int getMaxInspectedBodyBytes() {
+        return maxInspectedBodyBytes;
+    }
+
+    public void setMaxInspectedBodyBytes(int maxInspectedBodyBytes) {
+        this.maxInspectedBodyBytes = maxInspectedBodyBytes;
+    }
+
+    public Map<String, Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Endpoint> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Limits for a single endpoint path (relative to the context path)
+     */
+    public static class Endpoint {
+
+        private String path;
+        private Limit perIp;
+        private Limit perEmail;
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public Limit getPerIp() {
+            return perIp;
+        }
+
+        public void setPerIp(Limit perIp) {
+            this.perIp = perIp;
+        }
+
+        public Limit getPerEmail() {
+            return perEmail;
+        }
+
+        public void setPerEmail(Limit perEmail) {
+            this.perEmail = perEmail;
+        }
+    }
+
+    /**
+     * Token bucket holding up to capacity tokens, refilled continuously so
+     * that a full bucket's worth of tokens is restored every refill period
+     */
+    public static class Limit {
+
+        private int capacity;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getRefillPeriod() {
+            return refillPeriod;
+        }
+
+        public void setRefillPeriod(Duration refillPeriod) {
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
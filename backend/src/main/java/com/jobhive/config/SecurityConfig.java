@@ -1,10 +1,14 @@
 package com.jobhive.config;
 
 import com.jobhive.security.JwtAuthenticationFilter;
+import com.jobhive.security.RateLimitFilter;
 import com.jobhive.service.UserService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -18,6 +22,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
 
 import java.util.Arrays;
 
@@ -38,6 +43,9 @@ public class SecurityConfig {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private ObjectProvider<RateLimitFilter> rateLimitFilter;
+
     /**
      * Authentication manager bean
      */
@@ -87,7 +95,7 @@ public class SecurityConfig {
         
         // Expose headers
         configuration.setExposedHeaders(Arrays.asList(
-            "Access-Control-Allow-Origin", "Access-Control-Allow-Methods", "Access-Control-Allow-Headers", "Access-Control-Max-Age", "Authorization"
+            "Access-Control-Allow-Origin", "Access-Control-Allow-Methods", "Access-Control-Allow-Headers", "Access-Control-Max-Age", "Authorization", "Retry-After"
         ));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -104,17 +112,22 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // Completion of async requests (event streams) was authorized on the original dispatch
+                .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
+
                 // Public endpoints
                 .requestMatchers("/user/register").permitAll()
                 .requestMatchers("/user/login").permitAll()
                 .requestMatchers("/user/health").permitAll()
                 .requestMatchers("/user/check-email").permitAll()
+                // Still readable with the token of an account that has just been deleted; checked in the controller
+                .requestMatchers(HttpMethod.GET, "/user/account/deletion").permitAll()
                 
                 // H2 Console (for development)
                 .requestMatchers("/h2-console/**").permitAll()
                 
-                // Actuator endpoints
-                .requestMatchers("/actuator/**").permitAll()
+                // Health and probes are public; metrics and the other actuator endpoints need a token
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
                 
                 // All other endpoints require authentication
                 .anyRequest().authenticated()
@@ -122,6 +135,9 @@ public class SecurityConfig {
             .authenticationProvider(authenticationProvider())
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // Throttle right after CORS so 429s are readable cross-origin, but before JWT parsing and BCrypt
+        rateLimitFilter.ifAvailable(filter -> http.addFilterAfter(filter, CorsFilter.class));
+
         // Allow H2 console frames (for development)
         http.headers(headers -> headers.frameOptions(frameOptions -> frameOptions.sameOrigin()));
 
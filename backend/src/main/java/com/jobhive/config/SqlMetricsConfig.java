@@ -0,0 +1,65 @@
+package com.jobhive.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Configuration for per-request SQL statement counting. The pool is wrapped in a
+ * JDBC proxy that reports each statement to SqlStatementListener.
+ */
+@Configuration
+public class SqlMetricsConfig {
+
+    /**
+     * Listener that counts, times and logs statements
+     */
+    @Bean
+    public SqlStatementListener sqlStatementListener(
+            @Value("${app.sql.slow-threshold:200ms}") Duration slowThreshold,
+            @Value("${app.sql.log-sample-rate:0.0}") double logSampleRate) {
+        return new SqlStatementListener(slowThreshold, logSampleRate);
+    }
+
+    /**
+     * Wrap every DataSource bean in the counting proxy
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatementDataSourceProxy(ObjectProvider<SqlStatementListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener.getObject())
+                        .build();
+            }
+        };
+    }
+
+    /**
+     * Register the statement filter outside the security chain so rejected requests are counted too
+     */
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilterRegistration(
+            SqlStatementListener listener, MeterRegistry meterRegistry,
+            @Value("${app.sql.warn-statements-per-request:25}") int warnStatementsPerRequest) {
+        FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatementFilter(listener, meterRegistry, warnStatementsPerRequest));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -0,0 +1,79 @@
+package com.jobhive.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how many SQL statements each request issued and how long they took, per
+ * route, and warns about requests over the statement budget (usually an N+1 query).
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    private final SqlStatementListener listener;
+    private final MeterRegistry meterRegistry;
+    private final int warnStatementsPerRequest;
+
+    public SqlStatementFilter(SqlStatementListener listener, MeterRegistry meterRegistry,
+                              int warnStatementsPerRequest) {
+        this.listener = listener;
+        this.meterRegistry = meterRegistry;
+        this.warnStatementsPerRequest = warnStatementsPerRequest;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        listener.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementListener.Stats stats = listener.end();
+            if (stats != null) {
+                record(request, response, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, SqlStatementListener.Stats stats) {
+        // Tag by route pattern, not raw URI, to keep the number of series bounded
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("jobhive.sql.statements.per_request")
+                .description("SQL statements issued while handling a request")
+                .tags("method", request.getMethod(), "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("jobhive.sql.time.per_request")
+                .description("Time spent in SQL statements while handling a request")
+                .tags("method", request.getMethod(), "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getElapsedMillis(), TimeUnit.MILLISECONDS);
+
+        if (stats.getStatements() > warnStatementsPerRequest) {
+            log.warn("{} {} -> {} issued {} SQL statements in {} ms (budget {})", request.getMethod(),
+                    request.getRequestURI(), response.getStatus(), stats.getStatements(),
+                    stats.getElapsedMillis(), warnStatementsPerRequest);
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} {} -> {} issued {} SQL statements in {} ms", request.getMethod(),
+                    request.getRequestURI(), response.getStatus(), stats.getStatements(), stats.getElapsedMillis());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.jobhive.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Counts and times every JDBC statement run on the current thread while a request is
+ * being tracked, and logs statements that are slow or picked by sampling. Statements
+ * from background threads are not attributed to any request.
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementListener.class);
+
+    private final ThreadLocal<Stats> current = new ThreadLocal<>();
+    private final long slowThresholdMillis;
+    private final double logSampleRate;
+
+    public SqlStatementListener(Duration slowThreshold, double logSampleRate) {
+        this.slowThresholdMillis = slowThreshold.toMillis();
+        this.logSampleRate = logSampleRate;
+    }
+
+    /**
+     * Start counting statements on this thread
+     */
+    public void begin() {
+        current.set(new Stats());
+    }
+
+    /**
+     * Stop counting statements on this thread
+     * @return statements and their total time since begin, or null if nothing was being counted
+     */
+    public Stats end() {
+        Stats stats = current.get();
+        current.remove();
+        return stats;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        Stats stats = current.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.elapsedMillis += elapsedMillis;
+        }
+
+        if (elapsedMillis >= slowThresholdMillis) {
+            log.warn("Slow SQL ({} ms): {}", elapsedMillis, describe(execInfo, queryInfoList));
+        } else if (logSampleRate > 0 && log.isDebugEnabled()
+                && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+            log.debug("Sampled SQL ({} ms): {}", elapsedMillis, describe(execInfo, queryInfoList));
+        }
+    }
+
+    private static String describe(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        if (execInfo.isBatch()) {
+            return sql + " [batch of " + execInfo.getBatchSize() + "]";
+        }
+        return sql;
+    }
+
+    /**
+     * Statements run while a request was tracked
+     */
+    public static final class Stats {
+        private int statements;
+        private long elapsedMillis;
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+    }
+}
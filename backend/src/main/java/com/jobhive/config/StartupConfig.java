@@ -0,0 +1,52 @@
+package com.jobhive.config;
+
+import com.jobhive.security.JwtUtils;
+import com.jobhive.service.UserService;
+import jakarta.servlet.Filter;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Startup tuning used when spring.main.lazy-initialization is on (the "fast" profile)
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Keep beans with @Scheduled methods eager. A lazy bean's schedule would not be
+     * registered until something first used it, so its sweeps would silently stop.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> {
+            AtomicBoolean scheduled = new AtomicBoolean();
+            ReflectionUtils.doWithMethods(beanType, method -> scheduled.set(true),
+                    method -> !scheduled.get() && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+            return scheduled.get();
+        };
+    }
+
+    /**
+     * Keep the beans every request goes through eager: controllers, the security filter
+     * chain and its filters, and what login and token checks need. Otherwise the first
+     * requests after startup would pay for creating them.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter requestPathBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> AnnotatedElementUtils.hasAnnotation(beanType, RestController.class)
+                || SecurityFilterChain.class.isAssignableFrom(beanType)
+                || Filter.class.isAssignableFrom(beanType)
+                || UserService.class.isAssignableFrom(beanType)
+                || JwtUtils.class.isAssignableFrom(beanType)
+                || PasswordEncoder.class.isAssignableFrom(beanType);
+    }
+}
@@ -0,0 +1,121 @@
+package com.jobhive.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhive.dto.ErrorResponse;
+import com.jobhive.exception.JobHiveException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Central mapping from exceptions to error responses for all REST controllers.
+ * <p>
+ * Error bodies for domain exceptions and internal errors are serialized once: only
+ * the timestamp is appended per request, so a failed login under credential stuffing
+ * costs neither an ErrorResponse nor a Jackson pass.
+ */
+@RestControllerAdvice(basePackages = "com.jobhive.controller")
+public class ApiExceptionHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(ApiExceptionHandler.class);
+
+    private static final byte[] BODY_END = "}".getBytes(StandardCharsets.UTF_8);
+
+    private final byte[] internalErrorPrefix = bodyPrefix("Internal server error", "Please try again later");
+
+    /** Serialized bodies up to the timestamp; domain exceptions are mostly singletons, others are collected with them */
+    private final Map<JobHiveException, byte[]> domainPrefixes = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Expected domain failures carry their own status and error title. The content type
+     * is fixed so the error is still written when the client only accepts an event stream.
+     */
+    @ExceptionHandler(JobHiveException.class)
+    public ResponseEntity<byte[]> handleDomainException(JobHiveException e) {
+        byte[] prefix = domainPrefixes.computeIfAbsent(e, ex -> bodyPrefix(ex.getError(), ex.getMessage()));
+        return errorBody(e.getStatus(), prefix);
+    }
+
+    /**
+     * Bean validation failures on request bodies report the first offending field
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException e) {
+        FieldError fieldError = e.getBindingResult().getFieldError();
+        String message = fieldError != null ? fieldError.getDefaultMessage() : "Invalid request";
+        return ResponseEntity.badRequest()
+            .body(new ErrorResponse("Validation failed", message));
+    }
+
+    /**
+     * Database failures are logged and hidden from the client
+     */
+    @ExceptionHandler(DataAccessException.class)
+    public ResponseEntity<byte[]> handleDataAccessException(DataAccessException e) {
+        log.error("Database error while handling request", e);
+        return errorBody(HttpStatus.INTERNAL_SERVER_ERROR, internalErrorPrefix);
+    }
+
+    /**
+     * Any other failure is a bug: log it and answer with the generic 500. Exceptions
+     * Spring answers itself (malformed requests, security decisions) are rethrown,
+     * which leaves them to the framework's own resolvers and filters.
+     */
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<byte[]> handleUnexpectedException(RuntimeException e) {
+        if (e instanceof org.springframework.web.ErrorResponse
+                || e instanceof HttpMessageConversionException
+                || e instanceof TypeMismatchException
+                || e instanceof AccessDeniedException
+                || e instanceof AuthenticationException) {
+            throw e;
+        }
+        log.error("Unexpected error while handling request", e);
+        return errorBody(HttpStatus.INTERNAL_SERVER_ERROR, internalErrorPrefix);
+    }
+
+    private static ResponseEntity<byte[]> errorBody(HttpStatusCode status, byte[] prefix) {
+        byte[] timestamp = Long.toString(System.currentTimeMillis()).getBytes(StandardCharsets.US_ASCII);
+        byte[] body = new byte[prefix.length + timestamp.length + BODY_END.length];
+        System.arraycopy(prefix, 0, body, 0, prefix.length);
+        System.arraycopy(timestamp, 0, body, prefix.length, timestamp.length);
+        System.arraycopy(BODY_END, 0, body, prefix.length + timestamp.length, BODY_END.length);
+        return ResponseEntity.status(status)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    /**
+     * Serialize an error body in ErrorResponse's field order, up to the timestamp value
+     */
+    private static byte[] bodyPrefix(String error, String message) {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("error", error);
+        fields.put("message", message);
+        try {
+            String json = new ObjectMapper().writeValueAsString(fields);
+            return (json.substring(0, json.length() - 1) + ",\"timestamp\":").getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize error body", e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.jobhive.controller;
+
+import com.jobhive.service.UserEventHub;
+import com.jobhive.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Server-Sent Events stream of the user's job and resume updates
+ */
+@RestController
+@RequestMapping("/events")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class EventController {
+
+    @Autowired
+    private UserEventHub userEventHub;
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * Open an event stream. Events: resume.parsed, resume.failed, job.changed,
+     * job.status and job.deleted, each with a small JSON payload of IDs.
+     * GET /api/v1/events
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe() {
+        return userEventHub.subscribe(currentUserId());
+    }
+
+    private Long currentUserId() {
+        return userService.getUserId(SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+}
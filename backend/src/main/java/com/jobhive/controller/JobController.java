@@ -0,0 +1,132 @@
+package com.jobhive.controller;
+
+import com.jobhive.dto.ArchivedJobResponse;
+import com.jobhive.dto.JobRankingResponse;
+import com.jobhive.dto.JobRequest;
+import com.jobhive.dto.JobResponse;
+import com.jobhive.model.Job;
+import com.jobhive.service.JobArchiveService;
+import com.jobhive.service.JobRankingService;
+import com.jobhive.service.JobService;
+import com.jobhive.service.UserService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the user's saved jobs
+ */
+@RestController
+@RequestMapping("/job")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class JobController {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRankingService jobRankingService;
+
+    @Autowired
+    private JobArchiveService jobArchiveService;
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * Save a new job
+     * POST /api/v1/job
+     */
+    @PostMapping
+    public ResponseEntity<JobResponse> createJob(@Valid @RequestBody JobRequest request) {
+        Job job = jobService.createJob(currentUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(job));
+    }
+
+    /**
+     * List saved jobs, newest first, with cached match scores against the latest resume
+     * GET /api/v1/job?page=0&size=20
+     */
+    @GetMapping
+    public ResponseEntity<Page<JobResponse>> getJobs(
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(jobService.getJobs(currentUserId(), pageable).map(scored -> {
+            JobResponse response = toResponse(scored.job());
+            response.setMatchScore(scored.matchScore());
+            return response;
+        }));
+    }
+
+    /**
+     * Rank saved jobs by relevance to the latest parsed resume
+     * GET /api/v1/job/ranked?limit=10
+     */
+    @GetMapping("/ranked")
+    public ResponseEntity<List<JobRankingResponse>> getRankedJobs(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(jobRankingService.rankJobs(currentUserId(), Math.min(Math.max(limit, 1), 100)));
+    }
+
+    /**
+     * List jobs moved to the archive by the retention policy, most recently archived first
+     * GET /api/v1/job/archive?page=0&size=20
+     */
+    @GetMapping("/archive")
+    public ResponseEntity<Page<ArchivedJobResponse>> getArchivedJobs(
+            @PageableDefault(size = 20, sort = "archivedAt", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(jobArchiveService.getArchivedJobs(currentUserId(), pageable).map(ArchivedJobResponse::new));
+    }
+
+    /**
+     * Get an archived job
+     * GET /api/v1/job/archive/{id}
+     */
+    @GetMapping("/archive/{id}")
+    public ResponseEntity<ArchivedJobResponse> getArchivedJob(@PathVariable Long id) {
+        return ResponseEntity.ok(new ArchivedJobResponse(jobArchiveService.getArchivedJob(currentUserId(), id)));
+    }
+
+    /**
+     * Get a saved job
+     * GET /api/v1/job/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<JobResponse> getJob(@PathVariable Long id) {
+        return ResponseEntity.ok(toResponse(jobService.getJob(currentUserId(), id)));
+    }
+
+    /**
+     * Update a saved job
+     * PUT /api/v1/job/{id}
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<JobResponse> updateJob(@PathVariable Long id, @Valid @RequestBody JobRequest request) {
+        return ResponseEntity.ok(toResponse(jobService.updateJob(currentUserId(), id, request)));
+    }
+
+    /**
+     * Delete a saved job
+     * DELETE /api/v1/job/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteJob(@PathVariable Long id) {
+        jobService.deleteJob(currentUserId(), id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private JobResponse toResponse(Job job) {
+        return new JobResponse(job, jobService.getSkillNames(job));
+    }
+
+    private Long currentUserId() {
+        return userService.getUserId(SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+}
@@ -0,0 +1,247 @@
+package com.jobhive.controller;
+
+import com.jobhive.dto.CompleteUploadRequest;
+import com.jobhive.dto.JobMatchResponse;
+import com.jobhive.dto.ResumeResponse;
+import com.jobhive.dto.ResumeDiffResponse;
+import com.jobhive.dto.ResumeStatusResponse;
+import com.jobhive.dto.ResumeVersionResponse;
+import com.jobhive.dto.UploadSessionRequest;
+import com.jobhive.dto.UploadSessionResponse;
+import com.jobhive.exception.ResumeNotFoundException;
+import com.jobhive.model.Resume;
+import com.jobhive.service.JobService;
+import com.jobhive.service.ResumeBlobStore;
+import com.jobhive.service.ResumeService;
+import com.jobhive.service.ResumeUploadService;
+import com.jobhive.service.ResumeVersionService;
+import com.jobhive.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * REST controller for resume upload and parse status
+ */
+@RestController
+@RequestMapping("/resume")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class ResumeController {
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ResumeBlobStore resumeBlobStore;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ResumeUploadService resumeUploadService;
+
+    @Autowired
+    private ResumeVersionService resumeVersionService;
+
+    /**
+     * Upload a resume; parsing happens in the background
+     * POST /api/v1/resume/upload
+     */
+    @PostMapping("/upload")
+    public ResponseEntity<ResumeStatusResponse> uploadResume(@RequestParam("file") MultipartFile file) {
+        Resume resume = resumeService.uploadResume(currentUserId(), file);
+
+        URI statusUri = ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path("/resume/{id}/status")
+            .buildAndExpand(resume.getId())
+            .toUri();
+        return ResponseEntity.accepted()
+            .location(statusUri)
+            .body(new ResumeStatusResponse(resume));
+    }
+
+    /**
+     * Start a resumable chunked upload
+     * POST /api/v1/resume/uploads
+     */
+    @PostMapping("/uploads")
+    public ResponseEntity<UploadSessionResponse> startUpload(@Valid @RequestBody UploadSessionRequest request) {
+        ResumeUploadService.UploadSession session = resumeUploadService.startUpload(currentUserId(),
+            request.getFileName(), request.getFileSize(), request.getChunkSize());
+
+        URI sessionUri = ServletUriComponentsBuilder.fromCurrentRequest()
+            .path("/{uploadId}")
+            .buildAndExpand(session.getId())
+            .toUri();
+        return ResponseEntity.created(sessionUri).body(new UploadSessionResponse(session));
+    }
+
+    /**
+     * Get the chunks received so far, to resume an interrupted upload
+     * GET /api/v1/resume/uploads/{uploadId}
+     */
+    @GetMapping("/uploads/{uploadId}")
+    public ResponseEntity<UploadSessionResponse> getUpload(@PathVariable String uploadId) {
+        return ResponseEntity.ok(new UploadSessionResponse(resumeUploadService.getUpload(currentUserId(), uploadId)));
+    }
+
+    /**
+     * Upload one chunk as the raw request body; the body is streamed to disk, never buffered
+     * PUT /api/v1/resume/uploads/{uploadId}/chunks/{index}
+     */
+    @PutMapping("/uploads/{uploadId}/chunks/{index}")
+    public ResponseEntity<UploadSessionResponse> uploadChunk(@PathVariable String uploadId,
+                                                             @PathVariable int index,
+                                                             HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(new UploadSessionResponse(resumeUploadService.writeChunk(currentUserId(), uploadId,
+            index, request.getContentLengthLong(), request.getInputStream())));
+    }
+
+    /**
+     * Verify the checksum and turn the upload into a resume; parsing happens in the background
+     * POST /api/v1/resume/uploads/{uploadId}/complete
+     */
+    @PostMapping("/uploads/{uploadId}/complete")
+    public ResponseEntity<ResumeStatusResponse> completeUpload(@PathVariable String uploadId,
+                                                               @Valid @RequestBody CompleteUploadRequest request) {
+        Resume resume = resumeUploadService.completeUpload(currentUserId(), uploadId, request.getSha256());
+
+        URI statusUri = ServletUriComponentsBuilder.fromCurrentContextPath()
+            .path("/resume/{id}/status")
+            .buildAndExpand(resume.getId())
+            .toUri();
+        return ResponseEntity.accepted()
+            .location(statusUri)
+            .body(new ResumeStatusResponse(resume));
+    }
+
+    /**
+     * Cancel a chunked upload
+     * DELETE /api/v1/resume/uploads/{uploadId}
+     */
+    @DeleteMapping("/uploads/{uploadId}")
+    public ResponseEntity<Void> abortUpload(@PathVariable String uploadId) {
+        resumeUploadService.abortUpload(currentUserId(), uploadId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Poll the parse status of a resume
+     * GET /api/v1/resume/{id}/status
+     */
+    @GetMapping("/{id}/status")
+    public ResponseEntity<ResumeStatusResponse> getResumeStatus(@PathVariable Long id) {
+        return ResponseEntity.ok(new ResumeStatusResponse(resumeService.getResume(currentUserId(), id)));
+    }
+
+    /**
+     * Get a resume with its parsed content
+     * GET /api/v1/resume/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ResumeResponse> getResume(@PathVariable Long id) {
+        Resume resume = resumeService.getResume(currentUserId(), id);
+        ResumeResponse response = new ResumeResponse(resume);
+        response.setParsedContent(resumeVersionService.getParsedContent(resume));
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * List the user's resume history, newest first
+     * GET /api/v1/resume/versions
+     */
+    @GetMapping("/versions")
+    public ResponseEntity<List<ResumeVersionResponse>> getVersions() {
+        return ResponseEntity.ok(resumeVersionService.listVersions(currentUserId()).stream()
+            .map(ResumeVersionResponse::new)
+            .toList());
+    }
+
+    /**
+     * Get the full text of one version
+     * GET /api/v1/resume/versions/{version}
+     */
+    @GetMapping("/versions/{version}")
+    public ResponseEntity<ResumeVersionResponse> getVersion(@PathVariable int version) {
+        Long userId = currentUserId();
+        return ResponseEntity.ok(new ResumeVersionResponse(resumeVersionService.getVersion(userId, version),
+            resumeVersionService.getContent(userId, version)));
+    }
+
+    /**
+     * Line diff between two versions
+     * GET /api/v1/resume/versions/diff?from=1&to=2&context=3
+     */
+    @GetMapping("/versions/diff")
+    public ResponseEntity<ResumeDiffResponse> diffVersions(@RequestParam int from,
+                                                           @RequestParam int to,
+                                                           @RequestParam(defaultValue = "3") int context) {
+        return ResponseEntity.ok(new ResumeDiffResponse(from, to,
+            resumeVersionService.diff(currentUserId(), from, to, Math.min(Math.max(context, 0), 20))));
+    }
+
+    /**
+     * Download the original resume file.
+     * Uses Tomcat's sendfile support when available so the bytes go from the page
+     * cache to the socket without being copied through the JVM heap.
+     * GET /api/v1/resume/{id}/file
+     */
+    @GetMapping("/{id}/file")
+    public void downloadResume(@PathVariable Long id,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        Resume resume = resumeService.getResume(currentUserId(), id);
+        if (resume.getContentHash() == null || !resumeBlobStore.exists(resume.getContentHash())) {
+            throw ResumeNotFoundException.INSTANCE;
+        }
+        Path blob = resumeBlobStore.resolve(resume.getContentHash());
+
+        response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        response.setContentLengthLong(resume.getFileSize());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+            .filename(resume.getFileName(), StandardCharsets.UTF_8)
+            .build()
+            .toString());
+
+        if (Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            request.setAttribute("org.apache.tomcat.sendfile.filename", blob.toAbsolutePath().toString());
+            request.setAttribute("org.apache.tomcat.sendfile.start", 0L);
+            request.setAttribute("org.apache.tomcat.sendfile.end", resume.getFileSize());
+            return;
+        }
+        resumeBlobStore.transferTo(resume.getContentHash(), Channels.newChannel(response.getOutputStream()));
+    }
+
+    /**
+     * Rank the user's saved jobs by how many of their skills this resume covers
+     * GET /api/v1/resume/{id}/matches?limit=20
+     */
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<List<JobMatchResponse>> getMatchingJobs(@PathVariable Long id,
+                                                                  @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(jobService.findMatchingJobs(currentUserId(), id, Math.min(Math.max(limit, 1), 100)));
+    }
+
+    private Long currentUserId() {
+        return userService.getUserId(SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+}
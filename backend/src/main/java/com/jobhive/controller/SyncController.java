@@ -0,0 +1,39 @@
+package com.jobhive.controller;
+
+import com.jobhive.dto.SyncResponse;
+import com.jobhive.service.SyncService;
+import com.jobhive.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for incremental sync of the frontend's persisted store
+ */
+@RestController
+@RequestMapping("/sync")
+@CrossOrigin(origins = {"http://localhost:5173", "http://localhost:3000"})
+public class SyncController {
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * Jobs, resumes and profile changed since a cursor, with tombstones for deletions
+     * GET /api/v1/sync?since=0&limit=100
+     */
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(@RequestParam(defaultValue = "0") long since,
+                                             @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(syncService.sync(currentUserId(), Math.max(since, 0),
+                Math.min(Math.max(limit, 1), 500)));
+    }
+
+    private Long currentUserId() {
+        return userService.getUserId(SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+}
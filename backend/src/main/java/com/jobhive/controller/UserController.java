@@ -4,10 +4,14 @@ import com.jobhive.dto.AuthResponse;
 import com.jobhive.dto.LoginRequest;
 import com.jobhive.dto.RegisterRequest;
 import com.jobhive.model.User;
+import com.jobhive.security.JwtUtils;
+import com.jobhive.service.AccountDeletionService;
 import com.jobhive.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
@@ -23,22 +27,19 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
     /**
      * Register a new user
      * POST /api/v1/user/register
      */
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(@Valid @RequestBody RegisterRequest registerRequest) {
-        try {
-            AuthResponse authResponse = userService.registerUser(registerRequest);
-            return ResponseEntity.ok(authResponse);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                .body(new ErrorResponse("Registration failed", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                .body(new ErrorResponse("Internal server error", "Please try again later"));
-        }
+    public ResponseEntity<AuthResponse> registerUser(@Valid @RequestBody RegisterRequest registerRequest) {
+        return ResponseEntity.ok(userService.registerUser(registerRequest));
     }
 
     /**
@@ -46,17 +47,8 @@ public class UserController {
      * POST /api/v1/user/login
      */
     @PostMapping("/login")
-    public ResponseEntity<?> loginUser(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            AuthResponse authResponse = userService.authenticateUser(loginRequest);
-            return ResponseEntity.ok(authResponse);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                .body(new ErrorResponse("Login failed", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                .body(new ErrorResponse("Internal server error", "Please try again later"));
-        }
+    public ResponseEntity<AuthResponse> loginUser(@Valid @RequestBody LoginRequest loginRequest) {
+        return ResponseEntity.ok(userService.authenticateUser(loginRequest));
     }
 
     /**
@@ -64,20 +56,11 @@ public class UserController {
      * GET /api/v1/user/profile
      */
     @GetMapping("/profile")
-    public ResponseEntity<?> getUserProfile() {
-        try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User user = userService.getUserProfile(email);
-            return ResponseEntity.ok(user);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                .body(new ErrorResponse("Profile fetch failed", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                .body(new ErrorResponse("Internal server error", "Please try again later"));
-        }
+    public ResponseEntity<User> getUserProfile() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String email = authentication.getName();
+
+        return ResponseEntity.ok(userService.getUserProfile(email));
     }
 
     /**
@@ -85,20 +68,45 @@ public class UserController {
      * PUT /api/v1/user/profile
      */
     @PutMapping("/profile")
-    public ResponseEntity<?> updateUserProfile(@RequestBody User userUpdates) {
-        try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String email = authentication.getName();
-            
-            User updatedUser = userService.updateUserProfile(email, userUpdates);
-            return ResponseEntity.ok(updatedUser);
-        } catch (RuntimeException e) {
-            return ResponseEntity.badRequest()
-                .body(new ErrorResponse("Profile update failed", e.getMessage()));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                .body(new ErrorResponse("Internal server error", "Please try again later"));
+    public ResponseEntity<User> updateUserProfile(@RequestBody User userUpdates) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String email = authentication.getName();
+
+        return ResponseEntity.ok(userService.updateUserProfile(email, userUpdates));
+    }
+
+    /**
+     * Delete the current user's account and all its data in the background
+     * DELETE /api/v1/user/account
+     */
+    @DeleteMapping("/account")
+    public ResponseEntity<AccountDeletionService.Progress> deleteAccount() {
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(accountDeletionService.requestDeletion(userService.getUserId(email), email));
+    }
+
+    /**
+     * Progress of the current user's account deletion. Once the account is gone its
+     * token no longer authenticates, so the progress is then found by the token's subject.
+     * GET /api/v1/user/account/deletion
+     */
+    @GetMapping("/account/deletion")
+    public ResponseEntity<AccountDeletionService.Progress> getAccountDeletion(
+            @RequestHeader(value = "Authorization", required = false) String authorization) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        AccountDeletionService.Progress progress;
+        if (authentication != null && !(authentication instanceof AnonymousAuthenticationToken)) {
+            progress = accountDeletionService.getProgress(currentUserId());
+        } else {
+            String token = authorization != null && authorization.startsWith("Bearer ") ? authorization.substring(7) : null;
+            if (token == null || !jwtUtils.validateToken(token)) {
+                // Same answer as the filter chain gives other endpoints without a valid token
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+            }
+            progress = accountDeletionService.getDeletedAccountProgress(jwtUtils.extractUsername(token));
         }
+        return progress != null ? ResponseEntity.ok(progress) : ResponseEntity.notFound().build();
     }
 
     /**
@@ -106,14 +114,8 @@ public class UserController {
      * GET /api/v1/user/check-email?email=test@example.com
      */
     @GetMapping("/check-email")
-    public ResponseEntity<?> checkEmail(@RequestParam String email) {
-        try {
-            boolean exists = userService.emailExists(email);
-            return ResponseEntity.ok(new EmailCheckResponse(exists));
-        } catch (Exception e) {
-            return ResponseEntity.internalServerError()
-                .body(new ErrorResponse("Email check failed", "Please try again later"));
-        }
+    public ResponseEntity<EmailCheckResponse> checkEmail(@RequestParam String email) {
+        return ResponseEntity.ok(new EmailCheckResponse(userService.emailExists(email)));
     }
 
     /**
@@ -125,24 +127,11 @@ public class UserController {
         return ResponseEntity.ok("User service is running! 🚀");
     }
 
-    // Helper classes for responses
-    public static class ErrorResponse {
-        private String error;
-        private String message;
-        private long timestamp;
-
-        public ErrorResponse(String error, String message) {
-            this.error = error;
-            this.message = message;
-            this.timestamp = System.currentTimeMillis();
-        }
-
-        // Getters
-        public String getError() { return error; }
-        public String getMessage() { return message; }
-        public long getTimestamp() { return timestamp; }
+    private Long currentUserId() {
+        return userService.getUserId(SecurityContextHolder.getContext().getAuthentication().getName());
     }
 
+    // Helper classes for responses
     public static class EmailCheckResponse {
         private boolean exists;
 
@@ -0,0 +1,26 @@
+package com.jobhive.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * DTO for finishing a chunked resume upload
+ */
+public class CompleteUploadRequest {
+
+    @NotBlank(message = "SHA-256 checksum is required")
+    @Pattern(regexp = "[0-9a-fA-F]{64}", message = "Checksum must be a hex SHA-256 digest")
+    private String sha256;
+
+    // Constructors
+    public CompleteUploadRequest() {}
+
+    // Getters and Setters
+    public String getSha256() {
+        return sha256;
+    }
+
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+}
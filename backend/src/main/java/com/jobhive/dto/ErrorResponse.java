@@ -0,0 +1,30 @@
+package com.jobhive.dto;
+
+/**
+ * DTO for error responses returned by the REST API
+ */
+public class ErrorResponse {
+
+    private final String error;
+    private final String message;
+    private final long timestamp;
+
+    public ErrorResponse(String error, String message) {
+        this.error = error;
+        this.message = message;
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    // Getters
+    public String getError() {
+        return error;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
@@ -0,0 +1,89 @@
+package com.jobhive.dto;
+
+import com.jobhive.model.Job;
+
+import java.util.List;
+
+/**
+ * DTO for a saved job ranked against a resume by shared skills
+ */
+public class JobMatchResponse {
+
+    private Long jobId;
+    private String jobTitle;
+    private String companyName;
+    private Job.ApplicationStatus applicationStatus;
+    private double score;
+    private List<String> matchedSkills;
+    private List<String> missingSkills;
+
+    // Constructors
+    public JobMatchResponse() {}
+
+    public JobMatchResponse(Job job, double score, List<String> matchedSkills, List<String> missingSkills) {
+        this.jobId = job.getId();
+        this.jobTitle = job.getJobTitle();
+        this.companyName = job.getCompanyName();
+        this.applicationStatus = job.getApplicationStatus();
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+        this.missingSkills = missingSkills;
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public Job.ApplicationStatus getApplicationStatus() {
+        return applicationStatus;
+    }
+
+    public void setApplicationStatus(Job.ApplicationStatus applicationStatus) {
+        this.applicationStatus = applicationStatus;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public List<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(List<String> matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+
+    public List<String> getMissingSkills() {
+        return missingSkills;
+    }
+
+    public void setMissingSkills(List<String> missingSkills) {
+        this.missingSkills = missingSkills;
+    }
+}
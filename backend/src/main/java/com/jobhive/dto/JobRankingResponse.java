@@ -0,0 +1,121 @@
+package com.jobhive.dto;
+
+import com.jobhive.model.Job;
+
+import java.util.List;
+
+/**
+ * DTO for a saved job ranked against a resume by text relevance
+ */
+public class JobRankingResponse {
+
+    private Long jobId;
+    private String jobTitle;
+    private String companyName;
+    private Job.ApplicationStatus applicationStatus;
+    private Long resumeId;
+    private double score;
+    private List<TermScore> explanation;
+
+    // Constructors
+    public JobRankingResponse() {}
+
+    public JobRankingResponse(Job job, Long resumeId, double score, List<TermScore> explanation) {
+        this.jobId = job.getId();
+        this.jobTitle = job.getJobTitle();
+        this.companyName = job.getCompanyName();
+        this.applicationStatus = job.getApplicationStatus();
+        this.resumeId = resumeId;
+        this.score = score;
+        this.explanation = explanation;
+    }
+
+    // Getters and Setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public Job.ApplicationStatus getApplicationStatus() {
+        return applicationStatus;
+    }
+
+    public void setApplicationStatus(Job.ApplicationStatus applicationStatus) {
+        this.applicationStatus = applicationStatus;
+    }
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public List<TermScore> getExplanation() {
+        return explanation;
+    }
+
+    public void setExplanation(List<TermScore> explanation) {
+        this.explanation = explanation;
+    }
+
+    /**
+     * A term shared by the resume and the job and its contribution to the score
+     */
+    public static class TermScore {
+
+        private String term;
+        private double score;
+
+        public TermScore() {}
+
+        public TermScore(String term, double score) {
+            this.term = term;
+            this.score = score;
+        }
+
+        public String getTerm() {
+            return term;
+        }
+
+        public void setTerm(String term) {
+            this.term = term;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public void setScore(double score) {
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.jobhive.dto;
+
+import com.jobhive.model.Job;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for creating or updating a saved job
+ */
+public class JobRequest {
+
+    @NotBlank(message = "Job title is required")
+    @Size(max = 200, message = "Job title cannot exceed 200 characters")
+    private String jobTitle;
+
+    @NotBlank(message = "Company name is required")
+    @Size(max = 150, message = "Company name cannot exceed 150 characters")
+    private String companyName;
+
+    @Size(max = 500, message = "Job URL cannot exceed 500 characters")
+    private String jobUrl;
+
+    @Size(max = 200, message = "Location cannot exceed 200 characters")
+    private String location;
+
+    @Size(max = 100, message = "Salary range cannot exceed 100 characters")
+    private String salaryRange;
+
+    private Job.JobType jobType;
+    private Job.ApplicationStatus applicationStatus;
+    private String jobDescription;
+    private String requirements;
+    private String notes;
+    private LocalDateTime appliedDate;
+    private LocalDateTime deadline;
+
+    // Constructors
+    public JobRequest() {}
+
+    // Getters and Setters
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public String getJobUrl() {
+        return jobUrl;
+    }
+
+    public void setJobUrl(String jobUrl) {
+        this.jobUrl = jobUrl;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getSalaryRange() {
+        return salaryRange;
+    }
+
+    public void setSalaryRange(String salaryRange) {
+        this.salaryRange = salaryRange;
+    }
+
+    public Job.JobType getJobType() {
+        return jobType;
+    }
+
+    public void setJobType(Job.JobType jobType) {
+        this.jobType = jobType;
+    }
+
+    public Job.ApplicationStatus getApplicationStatus() {
+        return applicationStatus;
+    }
+
+    public void setApplicationStatus(Job.ApplicationStatus applicationStatus) {
+        this.applicationStatus = applicationStatus;
+    }
+
+    public String getJobDescription() {
+        return jobDescription;
+    }
+
+    public void setJobDescription(String jobDescription) {
+        this.jobDescription = jobDescription;
+    }
+
+    public String getRequirements() {
+        return requirements;
+    }
+
+    public void setRequirements(String requirements) {
+        this.requirements = requirements;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public LocalDateTime getAppliedDate() {
+        return appliedDate;
+    }
+
+    public void setAppliedDate(LocalDateTime appliedDate) {
+        this.appliedDate = appliedDate;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(LocalDateTime deadline) {
+        this.deadline = deadline;
+    }
+}
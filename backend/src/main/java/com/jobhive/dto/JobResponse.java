@@ -0,0 +1,189 @@
+package com.jobhive.dto;
+
+import com.jobhive.model.Job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for saved job details
+ */
+public class JobResponse {
+
+    private Long id;
+    private String jobTitle;
+    private String companyName;
+    private String jobUrl;
+    private String location;
+    private String salaryRange;
+    private Job.JobType jobType;
+    private Job.ApplicationStatus applicationStatus;
+    private String jobDescription;
+    private String requirements;
+    private String notes;
+    private LocalDateTime appliedDate;
+    private LocalDateTime deadline;
+    private List<String> skills;
+    private Double matchScore;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public JobResponse() {}
+
+    public JobResponse(Job job, List<String> skills) {
+        this.id = job.getId();
+        this.jobTitle = job.getJobTitle();
+        this.companyName = job.getCompanyName();
+        this.jobUrl = job.getJobUrl();
+        this.location = job.getLocation();
+        this.salaryRange = job.getSalaryRange();
+        this.jobType = job.getJobType();
+        this.applicationStatus = job.getApplicationStatus();
+        this.jobDescription = job.getJobDescription();
+        this.requirements = job.getRequirements();
+        this.notes = job.getNotes();
+        this.appliedDate = job.getAppliedDate();
+        this.deadline = job.getDeadline();
+        this.createdAt = job.getCreatedAt();
+        this.updatedAt = job.getUpdatedAt();
+        this.skills = skills;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getJobTitle() {
+        return jobTitle;
+    }
+
+    public void setJobTitle(String jobTitle) {
+        this.jobTitle = jobTitle;
+    }
+
+    public String getCompanyName() {
+        return companyName;
+    }
+
+    public void setCompanyName(String companyName) {
+        this.companyName = companyName;
+    }
+
+    public String getJobUrl() {
+        return jobUrl;
+    }
+
+    public void setJobUrl(String jobUrl) {
+        this.jobUrl = jobUrl;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getSalaryRange() {
+        return salaryRange;
+    }
+
+    public void setSalaryRange(String salaryRange) {
+        this.salaryRange = salaryRange;
+    }
+
+    public Job.JobType getJobType() {
+        return jobType;
+    }
+
+    public void setJobType(Job.JobType jobType) {
+        this.jobType = jobType;
+    }
+
+    public Job.ApplicationStatus getApplicationStatus() {
+        return applicationStatus;
+    }
+
+    public void setApplicationStatus(Job.ApplicationStatus applicationStatus) {
+        this.applicationStatus = applicationStatus;
+    }
+
+    public String getJobDescription() {
+        return jobDescription;
+    }
+
+    public void setJobDescription(String jobDescription) {
+        this.jobDescription = jobDescription;
+    }
+
+    public String getRequirements() {
+        return requirements;
+    }
+
+    public void setRequirements(String requirements) {
+        this.requirements = requirements;
+    }
+
+    public String getNotes() {
+        return notes;
+    }
+
+    public void setNotes(String notes) {
+        this.notes = notes;
+    }
+
+    public LocalDateTime getAppliedDate() {
+        return appliedDate;
+    }
+
+    public void setAppliedDate(LocalDateTime appliedDate) {
+        this.appliedDate = appliedDate;
+    }
+
+    public LocalDateTime getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(LocalDateTime deadline) {
+        this.deadline = deadline;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<String> skills) {
+        this.skills = skills;
+    }
+
+    public Double getMatchScore() {
+        return matchScore;
+    }
+
+    public void setMatchScore(Double matchScore) {
+        this.matchScore = matchScore;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,69 @@
+package com.jobhive.dto;
+
+import com.jobhive.service.ResumeVersionService;
+
+import java.util.List;
+
+/**
+ * DTO for a line diff between two resume versions
+ */
+public class ResumeDiffResponse {
+
+    private int fromVersion;
+    private int toVersion;
+    private int added;
+    private int removed;
+    private List<ResumeVersionService.DiffHunk> hunks;
+
+    // Constructors
+    public ResumeDiffResponse() {}
+
+    public ResumeDiffResponse(int fromVersion, int toVersion, ResumeVersionService.VersionDiff diff) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.added = diff.added();
+        this.removed = diff.removed();
+        this.hunks = diff.hunks();
+    }
+
+    // Getters and Setters
+    public int getFromVersion() {
+        return fromVersion;
+    }
+
+    public void setFromVersion(int fromVersion) {
+        this.fromVersion = fromVersion;
+    }
+
+    public int getToVersion() {
+        return toVersion;
+    }
+
+    public void setToVersion(int toVersion) {
+        this.toVersion = toVersion;
+    }
+
+    public int getAdded() {
+        return added;
+    }
+
+    public void setAdded(int added) {
+        this.added = added;
+    }
+
+    public int getRemoved() {
+        return removed;
+    }
+
+    public void setRemoved(int removed) {
+        this.removed = removed;
+    }
+
+    public List<ResumeVersionService.DiffHunk> getHunks() {
+        return hunks;
+    }
+
+    public void setHunks(List<ResumeVersionService.DiffHunk> hunks) {
+        this.hunks = hunks;
+    }
+}
@@ -0,0 +1,151 @@
+package com.jobhive.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.jobhive.model.Resume;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for parsed resume details
+ */
+public class ResumeResponse {
+
+    private Long id;
+    private String fileName;
+    private String fileType;
+    private Long fileSize;
+    private Resume.ParseStatus status;
+    private String failureReason;
+    private String parsedContent;
+    private String skills;
+    private String experience;
+    private String education;
+    private String aiSuggestions;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ResumeResponse() {}
+
+    public ResumeResponse(Resume resume) {
+        this.id = resume.getId();
+        this.fileName = resume.getFileName();
+        this.fileType = resume.getFileType();
+        this.fileSize = resume.getFileSize();
+        this.status = resume.getStatus();
+        this.failureReason = resume.getFailureReason();
+        this.parsedContent = resume.getParsedContent();
+        this.skills = resume.getSkills();
+        this.experience = resume.getExperience();
+        this.education = resume.getEducation();
+        this.aiSuggestions = resume.getAiSuggestions();
+        this.createdAt = resume.getCreatedAt();
+        this.updatedAt = resume.getUpdatedAt();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileType() {
+        return fileType;
+    }
+
+    public void setFileType(String fileType) {
+        this.fileType = fileType;
+    }
+
+    public Long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(Long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Resume.ParseStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Resume.ParseStatus status) {
+        this.status = status;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    public String getParsedContent() {
+        return parsedContent;
+    }
+
+    public void setParsedContent(String parsedContent) {
+        this.parsedContent = parsedContent;
+    }
+
+    public String getSkills() {
+        return skills;
+    }
+
+    public void setSkills(String skills) {
+        this.skills = skills;
+    }
+
+    public String getExperience() {
+        return experience;
+    }
+
+    public void setExperience(String experience) {
+        this.experience = experience;
+    }
+
+    public String getEducation() {
+        return education;
+    }
+
+    public void setEducation(String education) {
+        this.education = education;
+    }
+
+    @JsonRawValue
+    public String getAiSuggestions() {
+        return aiSuggestions;
+    }
+
+    public void setAiSuggestions(String aiSuggestions) {
+        this.aiSuggestions = aiSuggestions;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobhive.dto;
+
+import com.jobhive.model.Resume;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for resume upload acknowledgements and parse status polling
+ */
+public class ResumeStatusResponse {
+
+    private Long id;
+    private Resume.ParseStatus status;
+    private String failureReason;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ResumeStatusResponse() {}
+
+    public ResumeStatusResponse(Resume resume) {
+        this.id = resume.getId();
+        this.status = resume.getStatus();
+        this.failureReason = resume.getFailureReason();
+        this.updatedAt = resume.getUpdatedAt();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Resume.ParseStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Resume.ParseStatus status) {
+        this.status = status;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
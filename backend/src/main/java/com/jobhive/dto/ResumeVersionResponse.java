@@ -0,0 +1,104 @@
+package com.jobhive.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.jobhive.model.ResumeVersion;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a version in the user's resume history
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResumeVersionResponse {
+
+    private int version;
+    private Long resumeId;
+    private ResumeVersion.Storage storage;
+    private int contentLength;
+    private Integer storedLength;
+    private LocalDateTime createdAt;
+    private String content;
+
+    // Constructors
+    public ResumeVersionResponse() {}
+
+    public ResumeVersionResponse(ResumeVersion version, String content) {
+        this.version = version.getVersionNumber();
+        this.resumeId = version.getResumeId();
+        this.storage = version.getStorage();
+        this.contentLength = version.getContentLength();
+        this.storedLength = version.getData().length();
+        this.createdAt = version.getCreatedAt();
+        this.content = content;
+    }
+
+    /**
+     * Build from a summary row of ResumeVersionRepository.findSummariesByUserId
+     * @param row [versionNumber, resumeId, storage, contentLength, storedLength, createdAt]
+     */
+    public ResumeVersionResponse(Object[] row) {
+        this.version = (Integer) row[0];
+        this.resumeId = (Long) row[1];
+        this.storage = (ResumeVersion.Storage) row[2];
+        this.contentLength = (Integer) row[3];
+        this.storedLength = row[4] != null ? ((Number) row[4]).intValue() : null;
+        this.createdAt = (LocalDateTime) row[5];
+    }
+
+    // Getters and Setters
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public ResumeVersion.Storage getStorage() {
+        return storage;
+    }
+
+    public void setStorage(ResumeVersion.Storage storage) {
+        this.storage = storage;
+    }
+
+    public int getContentLength() {
+        return contentLength;
+    }
+
+    public void setContentLength(int contentLength) {
+        this.contentLength = contentLength;
+    }
+
+    public Integer getStoredLength() {
+        return storedLength;
+    }
+
+    public void setStoredLength(Integer storedLength) {
+        this.storedLength = storedLength;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
@@ -0,0 +1,79 @@
+package com.jobhive.dto;
+
+import com.jobhive.model.ChangeLogEntry;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one changed entity in a delta-sync page. Tombstones carry no data.
+ */
+public class SyncChange {
+
+    private long seq;
+    private ChangeLogEntry.EntityType type;
+    private Long id;
+    private boolean deleted;
+    private LocalDateTime changedAt;
+    private Object data;
+
+    // Constructors
+    public SyncChange() {}
+
+    public SyncChange(ChangeLogEntry entry, Object data) {
+        this.seq = entry.getSeq();
+        this.type = entry.getEntityType();
+        this.id = entry.getEntityId();
+        this.deleted = data == null;
+        this.changedAt = entry.getChangedAt();
+        this.data = data;
+    }
+
+    // Getters and Setters
+    public long getSeq() {
+        return seq;
+    }
+
+    public void setSeq(long seq) {
+        this.seq = seq;
+    }
+
+    public ChangeLogEntry.EntityType getType() {
+        return type;
+    }
+
+    public void setType(ChangeLogEntry.EntityType type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+    public void setData(Object data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,57 @@
+package com.jobhive.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a page of delta-sync changes
+ */
+public class SyncResponse {
+
+    private long cursor;
+    private boolean hasMore;
+    private boolean reset;
+    private List<SyncChange> changes;
+
+    // Constructors
+    public SyncResponse() {}
+
+    public SyncResponse(long cursor, boolean hasMore, boolean reset, List<SyncChange> changes) {
+        this.cursor = cursor;
+        this.hasMore = hasMore;
+        this.reset = reset;
+        this.changes = changes;
+    }
+
+    // Getters and Setters
+    public long getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(long cursor) {
+        this.cursor = cursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public boolean isReset() {
+        return reset;
+    }
+
+    public void setReset(boolean reset) {
+        this.reset = reset;
+    }
+
+    public List<SyncChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<SyncChange> changes) {
+        this.changes = changes;
+    }
+}
@@ -0,0 +1,49 @@
+package com.jobhive.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO for starting a chunked resume upload
+ */
+public class UploadSessionRequest {
+
+    @NotBlank(message = "File name is required")
+    @Size(max = 255, message = "File name cannot exceed 255 characters")
+    private String fileName;
+
+    @Positive(message = "File size must be positive")
+    private long fileSize;
+
+    @Positive(message = "Chunk size must be positive")
+    private Integer chunkSize;
+
+    // Constructors
+    public UploadSessionRequest() {}
+
+    // Getters and Setters
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public Integer getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(Integer chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+}
@@ -0,0 +1,89 @@
+package com.jobhive.dto;
+
+import com.jobhive.service.ResumeUploadService;
+
+import java.util.List;
+
+/**
+ * DTO for the state of a chunked resume upload
+ */
+public class UploadSessionResponse {
+
+    private String uploadId;
+    private String fileName;
+    private long fileSize;
+    private int chunkSize;
+    private int chunkCount;
+    private int receivedChunks;
+    private List<int[]> receivedRanges;
+
+    // Constructors
+    public UploadSessionResponse() {}
+
+    public UploadSessionResponse(ResumeUploadService.UploadSession session) {
+        this.uploadId = session.getId();
+        this.fileName = session.getFileName();
+        this.fileSize = session.getFileSize();
+        this.chunkSize = session.getChunkSize();
+        this.chunkCount = session.getChunkCount();
+        this.receivedChunks = session.getReceivedCount();
+        this.receivedRanges = session.getReceivedRanges();
+    }
+
+    // Getters and Setters
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public void setUploadId(String uploadId) {
+        this.uploadId = uploadId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    public void setChunkCount(int chunkCount) {
+        this.chunkCount = chunkCount;
+    }
+
+    public int getReceivedChunks() {
+        return receivedChunks;
+    }
+
+    public void setReceivedChunks(int receivedChunks) {
+        this.receivedChunks = receivedChunks;
+    }
+
+    public List<int[]> getReceivedRanges() {
+        return receivedRanges;
+    }
+
+    public void setReceivedRanges(List<int[]> receivedRanges) {
+        this.receivedRanges = receivedRanges;
+    }
+}
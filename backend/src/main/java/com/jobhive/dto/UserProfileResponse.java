@@ -0,0 +1,159 @@
+package com.jobhive.dto;
+
+import com.jobhive.model.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a user's profile without credentials
+ */
+public class UserProfileResponse {
+
+    private Long id;
+    private String name;
+    private String email;
+    private String phone;
+    private String location;
+    private String currentRole;
+    private User.ExperienceLevel experienceLevel;
+    private String salaryExpectation;
+    private Boolean emailVerified;
+    private Boolean profileCompleted;
+    private LocalDateTime lastLoginAt;
+    private Long loginCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public UserProfileResponse() {}
+
+    public UserProfileResponse(User user) {
+        this.id = user.getId();
+        this.name = user.getName();
+        this.email = user.getEmail();
+        this.phone = user.getPhone();
+        this.location = user.getLocation();
+        this.currentRole = user.getCurrentRole();
+        this.experienceLevel = user.getExperienceLevel();
+        this.salaryExpectation = user.getSalaryExpectation();
+        this.emailVerified = user.getEmailVerified();
+        this.profileCompleted = user.getProfileCompleted();
+        this.lastLoginAt = user.getLastLoginAt();
+        this.loginCount = user.getLoginCount();
+        this.createdAt = user.getCreatedAt();
+        this.updatedAt = user.getUpdatedAt();
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getCurrentRole() {
+        return currentRole;
+    }
+
+    public void setCurrentRole(String currentRole) {
+        this.currentRole = currentRole;
+    }
+
+    public User.ExperienceLevel getExperienceLevel() {
+        return experienceLevel;
+    }
+
+    public void setExperienceLevel(User.ExperienceLevel experienceLevel) {
+        this.experienceLevel = experienceLevel;
+    }
+
+    public String getSalaryExpectation() {
+        return salaryExpectation;
+    }
+
+    public void setSalaryExpectation(String salaryExpectation) {
+        this.salaryExpectation = salaryExpectation;
+    }
+
+    public Boolean getEmailVerified() {
+        return emailVerified;
+    }
+
+    public void setEmailVerified(Boolean emailVerified) {
+        this.emailVerified = emailVerified;
+    }
+
+    public Boolean getProfileCompleted() {
+        return profileCompleted;
+    }
+
+    public void setProfileCompleted(Boolean profileCompleted) {
+        this.profileCompleted = profileCompleted;
+    }
+
+    public LocalDateTime getLastLoginAt() {
+        return lastLoginAt;
+    }
+
+    public void setLastLoginAt(LocalDateTime lastLoginAt) {
+        this.lastLoginAt = lastLoginAt;
+    }
+
+    public Long getLoginCount() {
+        return loginCount;
+    }
+
+    public void setLoginCount(Long loginCount) {
+        this.loginCount = loginCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
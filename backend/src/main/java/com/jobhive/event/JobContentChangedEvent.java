@@ -0,0 +1,17 @@
+package com.jobhive.event;
+
+import java.util.Set;
+
+/**
+ * Published when a job is created or its title, description or requirements change
+ * @param userId the owner's ID
+ * @param jobId the job ID
+ * @param contentVersion the job's new content version
+ * @param skillIds the job's skill ids as written by the transaction
+ * @param jobTitle the job's new title
+ * @param jobDescription the job's new description
+ * @param requirements the job's new requirements
+ */
+public record JobContentChangedEvent(Long userId, Long jobId, int contentVersion, Set<Integer> skillIds,
+                                     String jobTitle, String jobDescription, String requirements) {
+}
@@ -0,0 +1,9 @@
+package com.jobhive.event;
+
+/**
+ * Published when a job is deleted
+ * @param userId the owner's ID
+ * @param jobId the job ID
+ */
+public record JobDeletedEvent(Long userId, Long jobId) {
+}
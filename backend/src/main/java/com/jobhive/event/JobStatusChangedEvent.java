@@ -0,0 +1,12 @@
+package com.jobhive.event;
+
+import com.jobhive.model.Job;
+
+/**
+ * Published when a job's application status changes
+ * @param userId the owner's ID
+ * @param jobId the job ID
+ * @param status the new status
+ */
+public record JobStatusChangedEvent(Long userId, Long jobId, Job.ApplicationStatus status) {
+}
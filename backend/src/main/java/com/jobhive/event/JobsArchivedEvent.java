@@ -0,0 +1,11 @@
+package com.jobhive.event;
+
+import java.util.List;
+
+/**
+ * Published when the retention policy moves jobs to the archive
+ * @param userId the owner's ID
+ * @param jobIds the archived job IDs
+ */
+public record JobsArchivedEvent(Long userId, List<Long> jobIds) {
+}
@@ -0,0 +1,9 @@
+package com.jobhive.event;
+
+/**
+ * Published when a resume could not be parsed
+ * @param userId the owner's ID
+ * @param resumeId the resume ID
+ */
+public record ResumeParseFailedEvent(Long userId, Long resumeId) {
+}
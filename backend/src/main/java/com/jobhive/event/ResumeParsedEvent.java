@@ -0,0 +1,9 @@
+package com.jobhive.event;
+
+/**
+ * Published when a resume has new parsed content (after parsing or deduplicated upload)
+ * @param userId the owner's ID
+ * @param resumeId the resume ID
+ */
+public record ResumeParsedEvent(Long userId, Long resumeId) {
+}
@@ -0,0 +1,15 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when too many account deletions are already queued
+ */
+public class AccountDeletionBusyException extends JobHiveException {
+
+    public static final AccountDeletionBusyException INSTANCE = new AccountDeletionBusyException();
+
+    private AccountDeletionBusyException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Account deletion unavailable", "Too many deletions in progress, retry later");
+    }
+}
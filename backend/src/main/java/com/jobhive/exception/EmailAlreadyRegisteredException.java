@@ -0,0 +1,15 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when registering an email that already belongs to an account
+ */
+public class EmailAlreadyRegisteredException extends JobHiveException {
+
+    public static final EmailAlreadyRegisteredException INSTANCE = new EmailAlreadyRegisteredException();
+
+    private EmailAlreadyRegisteredException() {
+        super(HttpStatus.CONFLICT, "Registration failed", "Email is already registered");
+    }
+}
@@ -0,0 +1,15 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when the server already holds its maximum number of event stream connections
+ */
+public class EventStreamUnavailableException extends JobHiveException {
+
+    public static final EventStreamUnavailableException INSTANCE = new EventStreamUnavailableException();
+
+    private EventStreamUnavailableException() {
+        super(HttpStatus.SERVICE_UNAVAILABLE, "Event stream unavailable", "Too many open event streams, retry later");
+    }
+}
@@ -0,0 +1,16 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a login attempt fails for any reason (unknown email or wrong password).
+ * The message is deliberately identical in both cases, so a single shared instance is used.
+ */
+public class InvalidCredentialsException extends JobHiveException {
+
+    public static final InvalidCredentialsException INSTANCE = new InvalidCredentialsException();
+
+    private InvalidCredentialsException() {
+        super(HttpStatus.UNAUTHORIZED, "Login failed", "Invalid email or password");
+    }
+}
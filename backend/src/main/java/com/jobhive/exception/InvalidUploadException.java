@@ -0,0 +1,13 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when an uploaded file is empty, too large or of an unsupported type
+ */
+public class InvalidUploadException extends JobHiveException {
+
+    public InvalidUploadException(HttpStatus status, String message) {
+        super(status, "Upload failed", message);
+    }
+}
@@ -0,0 +1,34 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Base class for expected domain failures (bad credentials, duplicate email, ...).
+ * These are control flow, not bugs, so the stack trace is never captured:
+ * filling it in dominates the cost of a failed login under credential stuffing.
+ */
+public class JobHiveException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final String error;
+
+    public JobHiveException(HttpStatus status, String error, String message) {
+        super(message, null, false, false);
+        this.status = status;
+        this.error = error;
+    }
+
+    /**
+     * HTTP status returned to the client
+     */
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Short error title returned to the client
+     */
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,15 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a job does not exist or belongs to another user
+ */
+public class JobNotFoundException extends JobHiveException {
+
+    public static final JobNotFoundException INSTANCE = new JobNotFoundException();
+
+    private JobNotFoundException() {
+        super(HttpStatus.NOT_FOUND, "Job not found", "Job not found");
+    }
+}
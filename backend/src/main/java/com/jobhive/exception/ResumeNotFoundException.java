@@ -0,0 +1,15 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a resume does not exist or belongs to another user
+ */
+public class ResumeNotFoundException extends JobHiveException {
+
+    public static final ResumeNotFoundException INSTANCE = new ResumeNotFoundException();
+
+    private ResumeNotFoundException() {
+        super(HttpStatus.NOT_FOUND, "Resume not found", "Resume not found");
+    }
+}
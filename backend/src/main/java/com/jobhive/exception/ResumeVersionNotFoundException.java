@@ -0,0 +1,15 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a resume history version does not exist for the user
+ */
+public class ResumeVersionNotFoundException extends JobHiveException {
+
+    public static final ResumeVersionNotFoundException INSTANCE = new ResumeVersionNotFoundException();
+
+    private ResumeVersionNotFoundException() {
+        super(HttpStatus.NOT_FOUND, "Version not found", "Resume version not found");
+    }
+}
@@ -0,0 +1,15 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a chunked upload session does not exist, has expired or belongs to another user
+ */
+public class UploadSessionNotFoundException extends JobHiveException {
+
+    public static final UploadSessionNotFoundException INSTANCE = new UploadSessionNotFoundException();
+
+    private UploadSessionNotFoundException() {
+        super(HttpStatus.NOT_FOUND, "Upload not found", "Upload session not found or expired");
+    }
+}
@@ -0,0 +1,15 @@
+package com.jobhive.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when the authenticated or requested user no longer exists
+ */
+public class UserNotFoundException extends JobHiveException {
+
+    public static final UserNotFoundException INSTANCE = new UserNotFoundException();
+
+    private UserNotFoundException() {
+        super(HttpStatus.NOT_FOUND, "User not found", "User not found");
+    }
+}
@@ -0,0 +1,45 @@
+package com.jobhive.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marks a one-shot data migration as done, so it is not repeated on later startups
+ */
+@Entity
+@Table(name = "data_migrations")
+public class DataMigration {
+
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public DataMigration() {}
+
+    public DataMigration(String name) {
+        this.name = name;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+}
@@ -8,12 +8,17 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Job entity representing job applications saved by users
  */
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    // Lets the retention sweep find stale jobs without scanning the table
+    @Index(name = "idx_jobs_status_updated", columnList = "application_status, updated_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Job {
 
@@ -57,6 +62,18 @@ public class Job {
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
 
+    // Bumped when the title, description or requirements change; cached match scores record the version they saw
+    @Column(name = "content_version", nullable = false)
+    private int contentVersion;
+
+    // Skill ids (see Skill) extracted from the text, used for matching
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "job_skills",
+            joinColumns = @JoinColumn(name = "job_id"),
+            indexes = @Index(name = "idx_job_skills_skill", columnList = "skill_id"))
+    @Column(name = "skill_id", nullable = false)
+    private Set<Integer> skillIds = new HashSet<>();
+
     @Column(name = "applied_date")
     private LocalDateTime appliedDate;
 
@@ -197,6 +214,22 @@ public class Job {
         this.user = user;
     }
 
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
+    public void setContentVersion(int contentVersion) {
+        this.contentVersion = contentVersion;
+    }
+
+    public Set<Integer> getSkillIds() {
+        return skillIds;
+    }
+
+    public void setSkillIds(Set<Integer> skillIds) {
+        this.skillIds = skillIds;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
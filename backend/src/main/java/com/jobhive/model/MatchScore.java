@@ -0,0 +1,108 @@
+package com.jobhive.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Precomputed resume/job fit. A row is only valid while both content versions
+ * still equal the current versions on the resume and the job.
+ */
+@Entity
+@Table(name = "match_scores", indexes = {
+    @Index(name = "idx_match_scores_job", columnList = "job_id")
+})
+public class MatchScore {
+
+    @EmbeddedId
+    private MatchScoreId id;
+
+    @Column(name = "resume_version", nullable = false)
+    private int resumeVersion;
+
+    @Column(name = "job_version", nullable = false)
+    private int jobVersion;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "matched_skills", nullable = false)
+    private int matchedSkills;
+
+    @Column(name = "required_skills", nullable = false)
+    private int requiredSkills;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    // Constructors
+    public MatchScore() {}
+
+    public MatchScore(MatchScoreId id, int resumeVersion, int jobVersion, double score,
+                      int matchedSkills, int requiredSkills) {
+        this.id = id;
+        this.resumeVersion = resumeVersion;
+        this.jobVersion = jobVersion;
+        this.score = score;
+        this.matchedSkills = matchedSkills;
+        this.requiredSkills = requiredSkills;
+        this.computedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public MatchScoreId getId() {
+        return id;
+    }
+
+    public void setId(MatchScoreId id) {
+        this.id = id;
+    }
+
+    public int getResumeVersion() {
+        return resumeVersion;
+    }
+
+    public void setResumeVersion(int resumeVersion) {
+        this.resumeVersion = resumeVersion;
+    }
+
+    public int getJobVersion() {
+        return jobVersion;
+    }
+
+    public void setJobVersion(int jobVersion) {
+        this.jobVersion = jobVersion;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    public int getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    public void setMatchedSkills(int matchedSkills) {
+        this.matchedSkills = matchedSkills;
+    }
+
+    public int getRequiredSkills() {
+        return requiredSkills;
+    }
+
+    public void setRequiredSkills(int requiredSkills) {
+        this.requiredSkills = requiredSkills;
+    }
+
+    public LocalDateTime getComputedAt() {
+        return computedAt;
+    }
+
+    public void setComputedAt(LocalDateTime computedAt) {
+        this.computedAt = computedAt;
+    }
+}
@@ -0,0 +1,61 @@
+package com.jobhive.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Composite key of a cached match score: one row per resume and job pair
+ */
+@Embeddable
+public class MatchScoreId implements Serializable {
+
+    @Column(name = "resume_id", nullable = false)
+    private Long resumeId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    // Constructors
+    public MatchScoreId() {}
+
+    public MatchScoreId(Long resumeId, Long jobId) {
+        this.resumeId = resumeId;
+        this.jobId = jobId;
+    }
+
+    // Getters and Setters
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MatchScoreId other)) {
+            return false;
+        }
+        return Objects.equals(resumeId, other.resumeId) && Objects.equals(jobId, other.jobId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resumeId, jobId);
+    }
+}
@@ -6,13 +6,17 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Resume entity for storing parsed resume information (optional)
  * This can be used to store analyzed resume content for future reference
  */
 @Entity
-@Table(name = "resumes")
+@Table(name = "resumes", indexes = {
+    @Index(name = "idx_resumes_content_hash", columnList = "content_hash")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class Resume {
 
@@ -33,7 +37,15 @@ public class Resume {
     private String parsedContent;
 
     @Column(name = "skills", columnDefinition = "TEXT")
-    private String skills; // JSON or comma-separated string
+    private String skills; // Comma-separated skill ids from SkillExtractor
+
+    // Skill ids (see Skill) extracted from the text, used for matching
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "resume_skills",
+            joinColumns = @JoinColumn(name = "resume_id"),
+            indexes = @Index(name = "idx_resume_skills_skill", columnList = "skill_id"))
+    @Column(name = "skill_id", nullable = false)
+    private Set<Integer> skillIds = new HashSet<>();
 
     @Column(name = "experience", columnDefinition = "TEXT")
     private String experience;
@@ -44,6 +56,33 @@ public class Resume {
     @Column(name = "ai_suggestions", columnDefinition = "TEXT")
     private String aiSuggestions; // JSON format for AI analysis results
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ParseStatus status = ParseStatus.PENDING;
+
+    @Column(name = "failure_reason", length = 500)
+    private String failureReason;
+
+    // Token of the parse attempt holding this resume in PARSING; the claim lapses at
+    // claimExpiresAt unless the worker's heartbeat renews it
+    @Column(name = "parse_claim", length = 36)
+    private String parseClaim;
+
+    @Column(name = "claim_expires_at")
+    private LocalDateTime claimExpiresAt;
+
+    // Bumped every time parsing produces new content; cached match scores record the version they saw
+    @Column(name = "content_version", nullable = false)
+    private int contentVersion;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // SHA-256 of the file, key into ResumeBlobStore
+
+    // Owner's resume history version holding this resume's parsed text (see ResumeVersion);
+    // once set, parsedContent may be cleared and rebuilt from the history on demand
+    @Column(name = "history_version")
+    private Integer historyVersion;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -139,6 +178,54 @@ public class Resume {
         this.aiSuggestions = aiSuggestions;
     }
 
+    public ParseStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ParseStatus status) {
+        this.status = status;
+    }
+
+    public String getFailureReason() {
+        return failureReason;
+    }
+
+    public void setFailureReason(String failureReason) {
+        this.failureReason = failureReason;
+    }
+
+    public String getParseClaim() {
+        return parseClaim;
+    }
+
+    public void setParseClaim(String parseClaim) {
+        this.parseClaim = parseClaim;
+    }
+
+    public LocalDateTime getClaimExpiresAt() {
+        return claimExpiresAt;
+    }
+
+    public void setClaimExpiresAt(LocalDateTime claimExpiresAt) {
+        this.claimExpiresAt = claimExpiresAt;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public Integer getHistoryVersion() {
+        return historyVersion;
+    }
+
+    public void setHistoryVersion(Integer historyVersion) {
+        this.historyVersion = historyVersion;
+    }
+
     public User getUser() {
         return user;
     }
@@ -147,6 +234,22 @@ public class Resume {
         this.user = user;
     }
 
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
+    public void setContentVersion(int contentVersion) {
+        this.contentVersion = contentVersion;
+    }
+
+    public Set<Integer> getSkillIds() {
+        return skillIds;
+    }
+
+    public void setSkillIds(Set<Integer> skillIds) {
+        this.skillIds = skillIds;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -170,8 +273,29 @@ public class Resume {
                 ", fileName='" + fileName + '\'' +
                 ", fileType='" + fileType + '\'' +
                 ", fileSize=" + fileSize +
+                ", status=" + status +
                 ", createdAt=" + createdAt +
                 ", userId=" + (user != null ? user.getId() : null) +
                 '}';
     }
-}
\ No newline at end of file
+
+    /**
+     * Parsing state of an uploaded resume
+     */
+    public enum ParseStatus {
+        PENDING("Pending"),
+        PARSING("Parsing"),
+        DONE("Done"),
+        FAILED("Failed");
+
+        private final String displayName;
+
+        ParseStatus(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobhive.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Memoized analyzer output, keyed by a hash of the analyzer id and the parsed
+ * resume content, so identical resumes are only ever analyzed once
+ */
+@Entity
+@Table(name = "resume_analyses")
+public class ResumeAnalysis {
+
+    @Id
+    @Column(name = "analysis_key", length = 64)
+    private String analysisKey;
+
+    @Column(name = "analyzer", nullable = false, length = 100)
+    private String analyzer;
+
+    @Column(name = "result", nullable = false, columnDefinition = "TEXT")
+    private String result;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public ResumeAnalysis() {}
+
+    public ResumeAnalysis(String analysisKey, String analyzer, String result) {
+        this.analysisKey = analysisKey;
+        this.analyzer = analyzer;
+        this.result = result;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getAnalysisKey() {
+        return analysisKey;
+    }
+
+    public void setAnalysisKey(String analysisKey) {
+        this.analysisKey = analysisKey;
+    }
+
+    public String getAnalyzer() {
+        return analyzer;
+    }
+
+    public void setAnalyzer(String analyzer) {
+        this.analyzer = analyzer;
+    }
+
+    public String getResult() {
+        return result;
+    }
+
+    public void setResult(String result) {
+        this.result = result;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
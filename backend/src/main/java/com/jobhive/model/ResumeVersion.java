@@ -0,0 +1,157 @@
+package com.jobhive.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * One version in a user's resume history. Versions are numbered per user; most
+ * store only a line delta against the previous version, with a full snapshot
+ * every few versions so any version can be rebuilt with a bounded number of
+ * delta applications.
+ */
+@Entity
+@Table(name = "resume_versions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_resume_versions_user_version", columnNames = {"user_id", "version_number"})
+})
+@EntityListeners(AuditingEntityListener.class)
+public class ResumeVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "version_number", nullable = false)
+    private int versionNumber;
+
+    @Column(name = "resume_id")
+    private Long resumeId; // Resume whose parsed text introduced this version
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage", nullable = false, length = 20)
+    private Storage storage;
+
+    @Column(name = "data", nullable = false, columnDefinition = "TEXT")
+    private String data; // Full text for snapshots, LineDiff delta against the previous version otherwise
+
+    @Column(name = "content_length", nullable = false)
+    private int contentLength;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // SHA-256 of the full text
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public ResumeVersion() {}
+
+    public ResumeVersion(User user, int versionNumber, Long resumeId, Storage storage, String data,
+                         int contentLength, String contentHash) {
+        this.user = user;
+        this.versionNumber = versionNumber;
+        this.resumeId = resumeId;
+        this.storage = storage;
+        this.data = data;
+        this.contentLength = contentLength;
+        this.contentHash = contentHash;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public int getVersionNumber() {
+        return versionNumber;
+    }
+
+    public void setVersionNumber(int versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public void setStorage(Storage storage) {
+        this.storage = storage;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public void setData(String data) {
+        this.data = data;
+    }
+
+    public int getContentLength() {
+        return contentLength;
+    }
+
+    public void setContentLength(int contentLength) {
+        this.contentLength = contentLength;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * How a version's text is stored
+     */
+    public enum Storage {
+        SNAPSHOT("Snapshot"),
+        DELTA("Delta");
+
+        private final String displayName;
+
+        Storage(String displayName) {
+            this.displayName = displayName;
+        }
+
+        public String getDisplayName() {
+            return displayName;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.jobhive.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Skill entity: maps a dictionary skill id to a compact integer id used in
+ * the resume_skills and job_skills join tables and in-memory bitsets
+ */
+@Entity
+@Table(name = "skills", uniqueConstraints = @UniqueConstraint(name = "uk_skills_code", columnNames = "code"))
+public class Skill {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "code", nullable = false, length = 100)
+    private String code;
+
+    @Column(name = "display_name", nullable = false, length = 150)
+    private String displayName;
+
+    // Constructors
+    public Skill() {}
+
+    public Skill(String code, String displayName) {
+        this.code = code;
+        this.displayName = displayName;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    public void setCode(String code) {
+        this.code = code;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return "Skill{" +
+                "id=" + id +
+                ", code='" + code + '\'' +
+                ", displayName='" + displayName + '\'' +
+                '}';
+    }
+}
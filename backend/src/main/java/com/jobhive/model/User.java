@@ -1,5 +1,6 @@
 package com.jobhive.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -16,10 +17,17 @@ import java.util.List;
  * User entity representing registered users in the JobHive platform
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+    @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class User {
 
+    /**
+     * Unique constraint over the (lower-cased) email column
+     */
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -31,8 +39,8 @@ public class User {
 
     @Email(message = "Please provide a valid email address")
     @NotBlank(message = "Email is required")
-    @Column(unique = true, nullable = false, length = 150)
-    private String email;
+    @Column(nullable = false, length = 150)
+    private String email; // Always stored lower-cased, see UserService.normalizeEmail
 
     @NotBlank(message = "Password is required")
     @Size(min = 8, message = "Password must be at least 8 characters")
@@ -61,6 +69,20 @@ public class User {
     @Column(name = "profile_completed")
     private Boolean profileCompleted = false;
 
+    // Login statistics are written in batches by LoginActivityTracker, never through the entity
+    @Column(name = "last_login_at", insertable = false, updatable = false)
+    private LocalDateTime lastLoginAt;
+
+    @Column(name = "login_count", insertable = false, updatable = false)
+    private Long loginCount;
+
+    // Delta-sync change sequence, advanced by ChangeLogService with atomic updates; null until first used
+    @JsonIgnore
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
+    // Jobs are served by JobController; serializing them here would recurse through Job.user
+    @JsonIgnore
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Job> jobApplications = new ArrayList<>();
 
@@ -170,6 +192,22 @@ public class User {
         this.profileCompleted = profileCompleted;
     }
 
+    public LocalDateTime getLastLoginAt() {
+        return lastLoginAt;
+    }
+
+    public void setLastLoginAt(LocalDateTime lastLoginAt) {
+        this.lastLoginAt = lastLoginAt;
+    }
+
+    public Long getLoginCount() {
+        return loginCount;
+    }
+
+    public void setLoginCount(Long loginCount) {
+        this.loginCount = loginCount;
+    }
+
     public List<Job> getJobApplications() {
         return jobApplications;
     }
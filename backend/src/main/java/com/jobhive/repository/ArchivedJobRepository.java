@@ -0,0 +1,72 @@
+package com.jobhive.repository;
+
+import com.jobhive.model.ArchivedJob;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for jobs moved out of the jobs table by the retention policy
+ */
+@Repository
+public interface ArchivedJobRepository extends JpaRepository<ArchivedJob, Long> {
+
+    /**
+     * Find a user's archived jobs with pagination
+     * @param userId the owner's ID
+     * @param pageable pagination information
+     * @return paginated list of archived jobs
+     */
+    Page<ArchivedJob> findByUserId(Long userId, Pageable pageable);
+
+    /**
+     * Find an archived job by ID and owner (for security)
+     * @param id the job ID
+     * @param userId the owner's ID
+     * @return Optional containing the job if found and owned by the user
+     */
+    Optional<ArchivedJob> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Copy jobs into the archive in one statement, keeping their IDs
+     * @param ids the job IDs
+     * @param archivedAt the archive timestamp
+     * @return number of rows copied
+     */
+    @Modifying
+    @Query(value = "INSERT INTO archived_jobs (id, user_id, job_title, company_name, job_url, location, " +
+                   "salary_range, job_type, application_status, job_description, requirements, notes, " +
+                   "applied_date, deadline, created_at, updated_at, archived_at) " +
+                   "SELECT id, user_id, job_title, company_name, job_url, location, salary_range, job_type, " +
+                   "application_status, job_description, requirements, notes, applied_date, deadline, " +
+                   "created_at, updated_at, :archivedAt FROM jobs WHERE id IN (:ids)",
+           nativeQuery = true)
+    int copyFromJobs(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    /**
+     * A chunk of a user's archived job IDs
+     * @param userId the owner's ID
+     * @param pageable chunk size (always read from the first page while deleting)
+     * @return job IDs
+     */
+    @Query("SELECT a.id FROM ArchivedJob a WHERE a.userId = :userId ORDER BY a.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Delete archived jobs
+     * @param ids the job IDs
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedJob a WHERE a.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
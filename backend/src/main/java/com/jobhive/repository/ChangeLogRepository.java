@@ -0,0 +1,57 @@
+package com.jobhive.repository;
+
+import com.jobhive.model.ChangeLogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the delta-sync change log
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+    /**
+     * Find the change row of an entity
+     * @param userId the owner's ID
+     * @param entityType the entity type
+     * @param entityId the entity ID
+     * @return Optional containing the row if the entity has changed before
+     */
+    Optional<ChangeLogEntry> findByUserIdAndEntityTypeAndEntityId(Long userId, ChangeLogEntry.EntityType entityType,
+                                                                  Long entityId);
+
+    /**
+     * Changes after a cursor, oldest first
+     * @param userId the owner's ID
+     * @param seq the cursor
+     * @param pageable page size (always read from the first page)
+     * @return the changes
+     */
+    List<ChangeLogEntry> findByUserIdAndSeqGreaterThanOrderBySeq(Long userId, long seq, Pageable pageable);
+
+    /**
+     * A chunk of a user's change row IDs
+     * @param userId the owner's ID
+     * @param pageable chunk size (always read from the first page while deleting)
+     * @return row IDs
+     */
+    @Query("SELECT c.id FROM ChangeLogEntry c WHERE c.userId = :userId ORDER BY c.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Delete change rows
+     * @param ids the row IDs
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ChangeLogEntry c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
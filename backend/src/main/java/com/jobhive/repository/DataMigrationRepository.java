@@ -0,0 +1,12 @@
+package com.jobhive.repository;
+
+import com.jobhive.model.DataMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for completed one-shot data migrations
+ */
+@Repository
+public interface DataMigrationRepository extends JpaRepository<DataMigration, String> {
+}
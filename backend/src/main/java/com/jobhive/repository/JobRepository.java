@@ -2,14 +2,18 @@ package com.jobhive.repository;
 
 import com.jobhive.model.Job;
 import com.jobhive.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -112,4 +116,116 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     List<Job> findByUserAndDeadlineBetween(@Param("user") User user, 
                                           @Param("currentDate") LocalDateTime currentDate, 
                                           @Param("futureDate") LocalDateTime futureDate);
-}
\ No newline at end of file
+
+    /**
+     * Skill ids of all jobs saved by a user, one (jobId, skillId) row per pair
+     * @param userId the user ID
+     * @return list of [jobId, skillId] rows
+     */
+    @Query("SELECT j.id, s FROM Job j JOIN j.skillIds s WHERE j.user.id = :userId")
+    List<Object[]> findSkillIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Searchable text of all jobs saved by a user
+     * @param userId the user ID
+     * @return list of [jobId, jobTitle, jobDescription, requirements] rows
+     */
+    @Query("SELECT j.id, j.jobTitle, j.jobDescription, j.requirements FROM Job j WHERE j.user.id = :userId")
+    List<Object[]> findSearchableTextByUserId(@Param("userId") Long userId);
+
+    /**
+     * Current content versions of a user's jobs
+     * @param userId the user ID
+     * @return list of [jobId, contentVersion] rows
+     */
+    @Query("SELECT j.id, j.contentVersion FROM Job j WHERE j.user.id = :userId")
+    List<Object[]> findContentVersionsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Current content versions of the given jobs
+     * @param ids the job IDs
+     * @return list of [jobId, contentVersion] rows
+     */
+    @Query("SELECT j.id, j.contentVersion FROM Job j WHERE j.id IN :ids")
+    List<Object[]> findContentVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Page through a user's jobs together with the cached match score against a resume.
+     * The score is null unless it was computed from the current content of both.
+     * @param userId the user ID
+     * @param resumeId the resume to score against
+     * @param resumeVersion the resume's current content version
+     * @param pageable pagination information
+     * @return page of [job, score] rows
+     */
+    @Query(value = "SELECT j, m.score FROM Job j LEFT JOIN MatchScore m " +
+                   "ON m.id.jobId = j.id AND m.id.resumeId = :resumeId " +
+                   "AND m.resumeVersion = :resumeVersion AND m.jobVersion = j.contentVersion " +
+                   "WHERE j.user.id = :userId",
+           countQuery = "SELECT COUNT(j) FROM Job j WHERE j.user.id = :userId")
+    Page<Object[]> findWithMatchScoreByUserId(@Param("userId") Long userId,
+                                             @Param("resumeId") Long resumeId,
+                                             @Param("resumeVersion") int resumeVersion,
+                                             Pageable pageable);
+
+    /**
+     * IDs of all of a user's jobs
+     * @param userId the user ID
+     * @return job IDs
+     */
+    @Query("SELECT j.id FROM Job j WHERE j.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * A chunk of a user's job IDs, lowest first
+     * @param userId the user ID
+     * @param pageable chunk size (always read from the first page while deleting)
+     * @return job IDs
+     */
+    @Query("SELECT j.id FROM Job j WHERE j.user.id = :userId ORDER BY j.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Delete the skill rows of the given jobs
+     * @param ids the job IDs
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM job_skills WHERE job_id IN (:ids)", nativeQuery = true)
+    int deleteSkillsByJobIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete jobs without loading them (their skill and score rows must be deleted first)
+     * @param ids the job IDs
+     * @return number of jobs deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Job j WHERE j.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the jobs with the given IDs that belong to a user
+     * @param ids the job IDs
+     * @param userId the user ID
+     * @return matching jobs in no particular order
+     */
+    List<Job> findByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    /**
+     * Lock a chunk of jobs the retention policy marks for the archive: jobs with a
+     * closed status or still SAVED that have not been updated since a cutoff
+     * @param closedStatuses statuses that close an application
+     * @param closedBefore cutoff for closed jobs
+     * @param savedBefore cutoff for SAVED jobs
+     * @param pageable chunk size (always read from the first page while archiving)
+     * @return the jobs, lowest ID first, locked until the transaction ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM Job j WHERE (j.applicationStatus IN :closedStatuses AND j.updatedAt < :closedBefore) " +
+           "OR (j.applicationStatus = com.jobhive.model.Job$ApplicationStatus.SAVED AND j.updatedAt < :savedBefore) " +
+           "ORDER BY j.id")
+    List<Job> findArchivable(@Param("closedStatuses") Collection<Job.ApplicationStatus> closedStatuses,
+                             @Param("closedBefore") LocalDateTime closedBefore,
+                             @Param("savedBefore") LocalDateTime savedBefore,
+                             Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package com.jobhive.repository;
+
+import com.jobhive.model.MatchScore;
+import com.jobhive.model.MatchScoreId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Repository interface for cached match scores
+ */
+@Repository
+public interface MatchScoreRepository extends JpaRepository<MatchScore, MatchScoreId> {
+
+    /**
+     * Drop all cached scores for a job
+     * @param jobId the job ID
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MatchScore m WHERE m.id.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+
+    /**
+     * Drop all cached scores for a resume
+     * @param resumeId the resume ID
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM MatchScore m WHERE m.id.resumeId = :resumeId")
+    int deleteByResumeId(@Param("resumeId") Long resumeId);
+
+    /**
+     * Delete all scores of the given jobs
+     * @param jobIds the job IDs
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM MatchScore m WHERE m.id.jobId IN :jobIds")
+    int deleteByJobIdIn(@Param("jobIds") Collection<Long> jobIds);
+
+    /**
+     * Delete all scores of the given resumes
+     * @param resumeIds the resume IDs
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM MatchScore m WHERE m.id.resumeId IN :resumeIds")
+    int deleteByResumeIdIn(@Param("resumeIds") Collection<Long> resumeIds);
+}
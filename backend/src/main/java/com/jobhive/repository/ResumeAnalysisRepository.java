@@ -0,0 +1,12 @@
+package com.jobhive.repository;
+
+import com.jobhive.model.ResumeAnalysis;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for memoized resume analyses
+ */
+@Repository
+public interface ResumeAnalysisRepository extends JpaRepository<ResumeAnalysis, String> {
+}
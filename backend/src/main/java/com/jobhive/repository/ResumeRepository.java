@@ -0,0 +1,324 @@
+package com.jobhive.repository;
+
+import com.jobhive.model.Resume;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for Resume entity operations
+ */
+@Repository
+public interface ResumeRepository extends JpaRepository<Resume, Long> {
+
+    /**
+     * Find resume by ID and owner ID (for security)
+     * @param id the resume ID
+     * @param userId the owner's ID
+     * @return Optional containing the resume if found and owned by the user
+     */
+    Optional<Resume> findByIdAndUserId(Long id, Long userId);
+
+    /**
+     * Find the resumes with the given IDs that belong to a user
+     * @param ids the resume IDs
+     * @param userId the owner's ID
+     * @return matching resumes in no particular order
+     */
+    List<Resume> findByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    /**
+     * IDs of all of a user's resumes
+     * @param userId the owner's ID
+     * @return resume IDs
+     */
+    @Query("SELECT r.id FROM Resume r WHERE r.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * A chunk of a user's resumes, lowest ID first
+     * @param userId the owner's ID
+     * @param pageable chunk size (always read from the first page while deleting)
+     * @return list of [id, contentHash] rows
+     */
+    @Query("SELECT r.id, r.contentHash FROM Resume r WHERE r.user.id = :userId ORDER BY r.id")
+    List<Object[]> findIdsAndHashesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Which of the given content hashes are still used by some resume
+     * @param hashes the content hashes
+     * @return the hashes still referenced
+     */
+    @Query("SELECT DISTINCT r.contentHash FROM Resume r WHERE r.contentHash IN :hashes")
+    List<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+
+    /**
+     * Whether any resume uses the given content
+     * @param contentHash SHA-256 of the file content
+     * @return true if at least one resume references it
+     */
+    boolean existsByContentHash(String contentHash);
+
+    /**
+     * Delete the skill rows of the given resumes
+     * @param ids the resume IDs
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM resume_skills WHERE resume_id IN (:ids)", nativeQuery = true)
+    int deleteSkillsByResumeIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Delete resumes without loading them (their skill and score rows must be deleted first)
+     * @param ids the resume IDs
+     * @return number of resumes deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Resume r WHERE r.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Owners of the given resumes
+     * @param ids the resume IDs
+     * @return list of [resumeId, userId] rows
+     */
+    @Query("SELECT r.id, r.user.id FROM Resume r WHERE r.id IN :ids")
+    List<Object[]> findOwnerIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the most recent resume with the given content and parse status
+     * @param contentHash SHA-256 of the file content
+     * @param status the parse status
+     * @return Optional containing the resume if any exists
+     */
+    Optional<Resume> findFirstByContentHashAndStatusOrderByIdDesc(String contentHash, Resume.ParseStatus status);
+
+    /**
+     * Find a user's most recent resume in the given parse status
+     * @param userId the owner's ID
+     * @param status the parse status
+     * @return Optional containing the resume if any exists
+     */
+    Optional<Resume> findFirstByUserIdAndStatusOrderByIdDesc(Long userId, Resume.ParseStatus status);
+
+    /**
+     * Find IDs of resumes in a given status last touched before a cutoff
+     * @param status the parse status
+     * @param cutoff only resumes updated before this time
+     * @param pageable limits the batch size
+     * @return resume IDs, oldest first
+     */
+    @Query("SELECT r.id FROM Resume r WHERE r.status = :status AND r.updatedAt < :cutoff ORDER BY r.updatedAt")
+    List<Long> findIdsByStatusUpdatedBefore(@Param("status") Resume.ParseStatus status,
+                                            @Param("cutoff") LocalDateTime cutoff,
+                                            Pageable pageable);
+
+    /**
+     * Find IDs of parsed resumes that have no analysis yet
+     * @param status the parse status (DONE)
+     * @param cutoff only resumes updated before this time
+     * @param pageable limits the batch size
+     * @return resume IDs, oldest first
+     */
+    @Query("SELECT r.id FROM Resume r WHERE r.status = :status AND r.aiSuggestions IS NULL AND r.updatedAt < :cutoff " +
+           "ORDER BY r.updatedAt")
+    List<Long> findIdsWithoutAnalysis(@Param("status") Resume.ParseStatus status,
+                                      @Param("cutoff") LocalDateTime cutoff,
+                                      Pageable pageable);
+
+    /**
+     * Store an analyzer result on one or more resumes
+     * @param ids the resume IDs
+     * @param aiSuggestions analyzer output (JSON)
+     * @return number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Resume r SET r.aiSuggestions = :aiSuggestions WHERE r.id IN :ids")
+    int storeAiSuggestions(@Param("ids") Collection<Long> ids, @Param("aiSuggestions") String aiSuggestions);
+
+    /**
+     * Record which history version holds a resume's parsed text
+     * @return number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Resume r SET r.historyVersion = :version WHERE r.id = :id")
+    int linkHistoryVersion(@Param("id") Long id, @Param("version") int version);
+
+    /**
+     * Drop the parsed text of a user's older resumes whose text is kept in the resume history
+     * @param userId the owner's ID
+     * @param newestId resumes with this ID or higher keep their text
+     * @return number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Resume r SET r.parsedContent = NULL WHERE r.user.id = :userId AND r.id < :newestId " +
+           "AND r.historyVersion IS NOT NULL AND r.parsedContent IS NOT NULL")
+    int pruneParsedContent(@Param("userId") Long userId, @Param("newestId") Long newestId);
+
+    /**
+     * Find IDs of resumes in PARSING whose worker claim has lapsed (or was never recorded)
+     * @param parsing the PARSING status
+     * @param now claims expiring before this time are lapsed
+     * @param pageable limits the batch size
+     * @return resume IDs, oldest first
+     */
+    @Query("SELECT r.id FROM Resume r WHERE r.status = :parsing " +
+           "AND (r.claimExpiresAt IS NULL OR r.claimExpiresAt < :now) ORDER BY r.updatedAt")
+    List<Long> findIdsWithLapsedClaim(@Param("parsing") Resume.ParseStatus parsing,
+                                      @Param("now") LocalDateTime now,
+                                      Pageable pageable);
+
+    /**
+     * Claim a PENDING resume for one parse attempt
+     * @param id the resume ID
+     * @param claim token identifying this attempt
+     * @param expiresAt when the claim lapses unless renewed
+     * @param now the update timestamp
+     * @return 1 if the claim was taken, 0 if the resume was not PENDING
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Resume r SET r.status = :parsing, r.parseClaim = :claim, r.claimExpiresAt = :expiresAt, " +
+           "r.updatedAt = :now WHERE r.id = :id AND r.status = :pending")
+    int claimForParsing(@Param("id") Long id,
+                        @Param("claim") String claim,
+                        @Param("expiresAt") LocalDateTime expiresAt,
+                        @Param("now") LocalDateTime now,
+                        @Param("pending") Resume.ParseStatus pending,
+                        @Param("parsing") Resume.ParseStatus parsing);
+
+    /**
+     * Claim a PENDING resume for one parse attempt
+     * @return 1 if the claim was taken, 0 if the resume was not PENDING
+     */
+    default int claimForParsing(Long id, String claim, LocalDateTime expiresAt, LocalDateTime now) {
+        return claimForParsing(id, claim, expiresAt, now, Resume.ParseStatus.PENDING, Resume.ParseStatus.PARSING);
+    }
+
+    /**
+     * Extend a parse claim that is still held
+     * @param id the resume ID
+     * @param claim token of the attempt
+     * @param expiresAt the new expiry
+     * @param parsing the PARSING status
+     * @return 1 if the claim was renewed, 0 if it was lost
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Resume r SET r.claimExpiresAt = :expiresAt " +
+           "WHERE r.id = :id AND r.status = :parsing AND r.parseClaim = :claim")
+    int renewClaim(@Param("id") Long id,
+                   @Param("claim") String claim,
+                   @Param("expiresAt") LocalDateTime expiresAt,
+                   @Param("parsing") Resume.ParseStatus parsing);
+
+    /**
+     * Put a resume whose parse claim lapsed back to PENDING
+     * @param id the resume ID
+     * @param now the update timestamp; the claim must have expired before it
+     * @param parsing the PARSING status
+     * @param pending the PENDING status
+     * @return 1 if the resume was released, 0 if its claim was renewed or it left PARSING meanwhile
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Resume r SET r.status = :pending, r.parseClaim = NULL, r.claimExpiresAt = NULL, r.updatedAt = :now " +
+           "WHERE r.id = :id AND r.status = :parsing AND (r.claimExpiresAt IS NULL OR r.claimExpiresAt < :now)")
+    int releaseLapsedClaim(@Param("id") Long id,
+                           @Param("now") LocalDateTime now,
+                           @Param("parsing") Resume.ParseStatus parsing,
+                           @Param("pending") Resume.ParseStatus pending);
+
+    /**
+     * Store parse results, moving the resume from PARSING to DONE if the claim is still held
+     * @return number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Resume r SET r.status = :done, r.parsedContent = :content, r.skills = :skills, " +
+           "r.experience = :experience, r.education = :education, r.failureReason = NULL, r.updatedAt = :now, " +
+           "r.contentVersion = r.contentVersion + 1, r.parseClaim = NULL, r.claimExpiresAt = NULL " +
+           "WHERE r.id = :id AND r.status = :parsing AND r.parseClaim = :claim")
+    int storeParseResult(@Param("id") Long id,
+                         @Param("claim") String claim,
+                         @Param("content") String content,
+                         @Param("skills") String skills,
+                         @Param("experience") String experience,
+                         @Param("education") String education,
+                         @Param("now") LocalDateTime now,
+                         @Param("parsing") Resume.ParseStatus parsing,
+                         @Param("done") Resume.ParseStatus done);
+
+    /**
+     * Store parse results and mark the resume as done
+     * @return number of rows updated
+     */
+    default int completeParsing(Long id, String claim, String content, String skills, String experience,
+                                String education, LocalDateTime now) {
+        return storeParseResult(id, claim, content, skills, experience, education, now,
+                Resume.ParseStatus.PARSING, Resume.ParseStatus.DONE);
+    }
+
+    /**
+     * Mark a resume as failed with a reason, moving it from PARSING if the claim is still held
+     * @return number of rows updated
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Resume r SET r.status = :status, r.failureReason = :reason, r.updatedAt = :now, " +
+           "r.parseClaim = NULL, r.claimExpiresAt = NULL " +
+           "WHERE r.id = :id AND r.status = :parsing AND r.parseClaim = :claim")
+    int updateFailure(@Param("id") Long id,
+                      @Param("claim") String claim,
+                      @Param("reason") String reason,
+                      @Param("now") LocalDateTime now,
+                      @Param("parsing") Resume.ParseStatus parsing,
+                      @Param("status") Resume.ParseStatus status);
+
+    /**
+     * Mark a resume as failed with a reason
+     * @return number of rows updated
+     */
+    default int failParsing(Long id, String claim, String reason, LocalDateTime now) {
+        return updateFailure(id, claim, reason, now, Resume.ParseStatus.PARSING, Resume.ParseStatus.FAILED);
+    }
+
+    /**
+     * Skill ids of all resumes owned by a user, one (resumeId, skillId) row per pair
+     * @param userId the user ID
+     * @return list of [resumeId, skillId] rows
+     */
+    @Query("SELECT r.id, s FROM Resume r JOIN r.skillIds s WHERE r.user.id = :userId")
+    List<Object[]> findSkillIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Remove all skill links of a resume
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM resume_skills WHERE resume_id = :id", nativeQuery = true)
+    int deleteSkills(@Param("id") Long id);
+
+    /**
+     * Link a resume to the given skills in one statement
+     * @return number of rows inserted
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO resume_skills (resume_id, skill_id) SELECT :id, s.id FROM skills s WHERE s.id IN (:skillIds)",
+           nativeQuery = true)
+    int insertSkills(@Param("id") Long id, @Param("skillIds") Collection<Integer> skillIds);
+}
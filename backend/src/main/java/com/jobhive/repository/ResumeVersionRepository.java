@@ -0,0 +1,94 @@
+package com.jobhive.repository;
+
+import com.jobhive.model.ResumeVersion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for resume history versions
+ */
+@Repository
+public interface ResumeVersionRepository extends JpaRepository<ResumeVersion, Long> {
+
+    /**
+     * Find a user's newest version
+     * @param userId the owner's ID
+     * @return Optional containing the version if the user has any history
+     */
+    Optional<ResumeVersion> findFirstByUserIdOrderByVersionNumberDesc(Long userId);
+
+    /**
+     * Find a version by number
+     * @param userId the owner's ID
+     * @param versionNumber the version number
+     * @return Optional containing the version if it exists
+     */
+    Optional<ResumeVersion> findByUserIdAndVersionNumber(Long userId, int versionNumber);
+
+    /**
+     * Versions needed to rebuild a version: its base snapshot and the deltas after it
+     * @param userId the owner's ID
+     * @param from the snapshot version number
+     * @param to the target version number
+     * @return versions in ascending order
+     */
+    List<ResumeVersion> findByUserIdAndVersionNumberBetweenOrderByVersionNumber(Long userId, int from, int to);
+
+    /**
+     * A chunk of a user's version row IDs
+     * @param userId the owner's ID
+     * @param pageable chunk size (always read from the first page while deleting)
+     * @return row IDs
+     */
+    @Query("SELECT v.id FROM ResumeVersion v WHERE v.user.id = :userId ORDER BY v.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * Delete version rows without loading them
+     * @param ids the row IDs
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ResumeVersion v WHERE v.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Number of the newest version with the given storage at or before a version
+     * @param userId the owner's ID
+     * @param version the upper bound
+     * @param storage the storage kind
+     * @return the version number, or null if there is none
+     */
+    @Query("SELECT MAX(v.versionNumber) FROM ResumeVersion v " +
+           "WHERE v.user.id = :userId AND v.versionNumber <= :version AND v.storage = :storage")
+    Integer findLatestVersionNumber(@Param("userId") Long userId,
+                                    @Param("version") int version,
+                                    @Param("storage") ResumeVersion.Storage storage);
+
+    /**
+     * Number of the snapshot a version is rebuilt from
+     * @param userId the owner's ID
+     * @param version the version number
+     * @return the snapshot version number, or null if the version does not exist
+     */
+    default Integer findBaseSnapshotNumber(Long userId, int version) {
+        return findLatestVersionNumber(userId, version, ResumeVersion.Storage.SNAPSHOT);
+    }
+
+    /**
+     * Summaries of a user's versions without their stored text
+     * @param userId the owner's ID
+     * @return list of [versionNumber, resumeId, storage, contentLength, storedLength, createdAt] rows, newest first
+     */
+    @Query("SELECT v.versionNumber, v.resumeId, v.storage, v.contentLength, LENGTH(v.data), v.createdAt " +
+           "FROM ResumeVersion v WHERE v.user.id = :userId ORDER BY v.versionNumber DESC")
+    List<Object[]> findSummariesByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,12 @@
+package com.jobhive.repository;
+
+import com.jobhive.model.Skill;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for Skill entity operations
+ */
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, Integer> {
+}
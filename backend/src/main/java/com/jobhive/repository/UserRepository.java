@@ -2,11 +2,15 @@ package com.jobhive.repository;
 
 import com.jobhive.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for User entity operations
@@ -21,6 +25,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByEmail(String email);
 
+    /**
+     * Find only the ID of a user by email address
+     * @param email the email address
+     * @return Optional containing the user ID if found
+     */
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
     /**
      * Check if user exists by email
      * @param email the email address
@@ -28,6 +40,78 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Stream every registered email address (must be consumed inside a transaction)
+     * @return stream of email addresses
+     */
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+
+    /**
+     * Users whose stored email is not trimmed and lower-cased (rows saved before
+     * emails were normalized on write)
+     * @return list of [id, email, lastLoginAt] rows
+     */
+    @Query("SELECT u.id, u.email, u.lastLoginAt FROM User u WHERE u.email <> LOWER(TRIM(u.email))")
+    List<Object[]> findUnnormalizedEmails();
+
+    /**
+     * Users whose email normalizes to one of the given addresses
+     * @param emails normalized email addresses
+     * @return list of [id, email, lastLoginAt] rows
+     */
+    @Query("SELECT u.id, u.email, u.lastLoginAt FROM User u WHERE LOWER(TRIM(u.email)) IN :emails")
+    List<Object[]> findByNormalizedEmailIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Replace a user's email without loading the entity
+     * @param id the user ID
+     * @param email the new email
+     * @return number of rows updated
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.email = :email WHERE u.id = :id")
+    int updateEmail(@Param("id") Long id, @Param("email") String email);
+
+    /**
+     * Advance a user's change sequence. The row lock taken here orders the user's
+     * changes: the next writer waits until this transaction commits.
+     * @param id the user ID
+     * @param count how many sequence numbers to take
+     * @return 1 if advanced, 0 if the user's change log has not been started
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET change_seq = change_seq + :count WHERE id = :id AND change_seq IS NOT NULL",
+           nativeQuery = true)
+    int advanceChangeSeq(@Param("id") Long id, @Param("count") long count);
+
+    /**
+     * Start a user's change log at sequence 0
+     * @param id the user ID
+     * @return 1 if this call started it, 0 if it was already started
+     */
+    @Modifying
+    @Query(value = "UPDATE users SET change_seq = 0 WHERE id = :id AND change_seq IS NULL", nativeQuery = true)
+    int startChangeSeq(@Param("id") Long id);
+
+    /**
+     * Current change sequence of a user
+     * @param id the user ID
+     * @return the sequence, or null if the user's change log has not been started
+     */
+    @Query(value = "SELECT change_seq FROM users WHERE id = :id", nativeQuery = true)
+    Long findChangeSeq(@Param("id") Long id);
+
+    /**
+     * Delete a user row without loading it, so nothing cascades to the user's jobs
+     * (which must already be gone)
+     * @param id the user ID
+     * @return 1 if deleted
+     */
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.id = :id")
+    int deleteRowById(@Param("id") Long id);
+
     /**
      * Find user by email with job applications (for optimization)
      * @param email the email address
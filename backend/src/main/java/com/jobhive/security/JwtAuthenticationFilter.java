@@ -81,13 +81,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
-        String path = request.getRequestURI();
+        // Match on the path inside the application so the context path (/api/v1) does not matter
+        String path = request.getRequestURI().substring(request.getContextPath().length());
         
         // Skip JWT filter for authentication endpoints
-        return path.startsWith("/api/v1/user/register") || 
-               path.startsWith("/api/v1/user/login") ||
-               path.startsWith("/api/v1/auth/") ||
+        return path.startsWith("/user/register") || 
+               path.startsWith("/user/login") ||
+               path.startsWith("/auth/") ||
                path.startsWith("/h2-console") ||
-               path.startsWith("/actuator");
+               path.startsWith("/actuator/health");
     }
 }
\ No newline at end of file
@@ -3,6 +3,10 @@ package com.jobhive.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -12,6 +16,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
@@ -20,6 +26,11 @@ import java.util.function.Function;
 @Component
 public class JwtUtils {
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> verificationTimers = new ConcurrentHashMap<>();
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
@@ -195,12 +206,32 @@ public class JwtUtils {
      * @return true if valid, false otherwise
      */
     public Boolean validateToken(String token) {
+        long start = System.nanoTime();
+        String outcome = "valid";
         try {
             extractAllClaims(token);
-            return !isTokenExpired(token);
+            if (isTokenExpired(token)) {
+                outcome = "expired";
+            }
+        } catch (ExpiredJwtException e) {
+            outcome = "expired";
+        } catch (SecurityException e) {
+            outcome = "bad_signature";
+        } catch (MalformedJwtException | UnsupportedJwtException e) {
+            outcome = "malformed";
         } catch (Exception e) {
-            return false;
+            outcome = "invalid";
         }
+        verificationTimer(outcome).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return outcome.equals("valid");
+    }
+
+    private Timer verificationTimer(String outcome) {
+        return verificationTimers.computeIfAbsent(outcome, key -> Timer.builder("jobhive.jwt.verifications")
+                .description("JWT signature and expiry checks by outcome")
+                .tag("outcome", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
     }
 
     /**
@@ -0,0 +1,175 @@
+package com.jobhive.security;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.jobhive.config.RateLimitProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Servlet filter that throttles unauthenticated, expensive endpoints (login, check-email)
+ * per client IP and per target email. It runs in the Spring Security chain right after
+ * CORS, so a rejected request never reaches BCrypt or the database but its 429 still
+ * carries the CORS headers.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final Map<String, EndpointLimiters> limitersByPath = new HashMap<>();
+    private final List<TokenBucketRateLimiter> allLimiters = new ArrayList<>();
+    private final long idleTimeoutMillis;
+    private final int maxInspectedBodyBytes;
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this.idleTimeoutMillis = properties.getIdleTimeout().toMillis();
+        this.maxInspectedBodyBytes = properties.getMaxInspectedBodyBytes();
+
+        properties.getEndpoints().forEach((name, endpoint) -> {
+            TokenBucketRateLimiter perIp = create(name + ".ip", endpoint.getPerIp());
+            TokenBucketRateLimiter perEmail = create(name + ".email", endpoint.getPerEmail());
+            limitersByPath.put(endpoint.getPath(), new EndpointLimiters(perIp, perEmail));
+        });
+    }
+
+    private TokenBucketRateLimiter create(String name, RateLimitProperties.Limit limit) {
+        if (limit == null || limit.getCapacity() <= 0) {
+            return null;
+        }
+        TokenBucketRateLimiter limiter =
+                new TokenBucketRateLimiter(name, limit.getCapacity(), limit.getRefillPeriod().toMillis());
+        allLimiters.add(limiter);
+        return limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equals(request.getMethod())
+                || !limitersByPath.containsKey(pathWithinApplication(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        EndpointLimiters limiters = limitersByPath.get(pathWithinApplication(request));
+
+        if (limiters.perIp != null && !limiters.perIp.tryAcquire(request.getRemoteAddr())) {
+            reject(response, limiters.perIp);
+            return;
+        }
+
+        HttpServletRequest downstream = request;
+        if (limiters.perEmail != null) {
+            String email = request.getParameter("email");
+            if (email == null && "POST".equals(request.getMethod())) {
+                byte[] body = readBody(request);
+                if (body == null) {
+                    response.sendError(HttpStatus.PAYLOAD_TOO_LARGE.value());
+                    return;
+                }
+                downstream = new CachedBodyRequestWrapper(request, body);
+                email = extractEmail(body);
+            }
+            if (email != null && !limiters.perEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT))) {
+                reject(response, limiters.perEmail);
+                return;
+            }
+        }
+
+        filterChain.doFilter(downstream, response);
+    }
+
+    /**
+     * Evict idle buckets so memory stays proportional to active clients
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        for (TokenBucketRateLimiter limiter : allLimiters) {
+            int removed = limiter.evictIdle(idleTimeoutMillis);
+            if (removed > 0 && logger.isDebugEnabled()) {
+                logger.debug("Evicted " + removed + " idle rate limit buckets from " + limiter.getName());
+            }
+        }
+    }
+
+    /**
+     * All configured limiters, used to publish permitted/throttled counts
+     * @return unmodifiable list of limiters
+     */
+    public List<TokenBucketRateLimiter> getLimiters() {
+        return Collections.unmodifiableList(allLimiters);
+    }
+
+    private void reject(HttpServletResponse response, TokenBucketRateLimiter limiter) throws IOException {
+        long retryAfterSeconds = Math.max(1, (limiter.getRetryAfterMillis() + 999) / 1000);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"error\":\"Too many requests\",\"message\":\"Please try again in "
+                + retryAfterSeconds + " seconds\",\"timestamp\":" + System.currentTimeMillis() + "}");
+    }
+
+    /**
+     * Read the request body, refusing anything larger than the inspection limit
+     * @return the body bytes, or null if the body is too large
+     */
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        long declared = request.getContentLengthLong();
+        if (declared > maxInspectedBodyBytes) {
+            return null;
+        }
+        InputStream in = request.getInputStream();
+        byte[] body = in.readNBytes(maxInspectedBodyBytes + 1);
+        return body.length > maxInspectedBodyBytes ? null : body;
+    }
+
+    /**
+     * Pull the top-level "email" field out of a JSON body without binding the whole document
+     */
+    private static String extractEmail(byte[] body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("email".equals(field) && value == JsonToken.VALUE_STRING) {
+                    return parser.getText();
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            // Malformed JSON is rejected later by the controller
+            return null;
+        }
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private record EndpointLimiters(TokenBucketRateLimiter perIp, TokenBucketRateLimiter perEmail) {
+    }
+}
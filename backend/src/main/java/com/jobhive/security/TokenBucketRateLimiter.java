@@ -0,0 +1,128 @@
+package com.jobhive.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token bucket limiter keyed by an arbitrary string (client IP, email, ...).
+ * Each bucket is a single AtomicLong packing the last refill time and the
+ * remaining tokens, so acquiring a permit is one CAS on the happy path.
+ * Buckets live in a ConcurrentHashMap whose bins are independently locked
+ * only on insert; lookups and permits never block.
+ */
+public class TokenBucketRateLimiter {
+
+    /** Tokens are tracked in thousandths so slow refill rates still accrue */
+    private static final long SCALE = 1000;
+    private static final int TOKEN_BITS = 22;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+
+    /** Largest capacity representable in the packed state */
+    public static final int MAX_CAPACITY = (int) (TOKEN_MASK / SCALE);
+
+    private final String name;
+    private final long capacityScaled;
+    private final double refillPerMilli;
+    private final long retryAfterMillis;
+    private final long epochMillis = System.currentTimeMillis();
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongAdder permitted = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    /**
+     * @param name limiter name used in metrics and logs
+     * @param capacity maximum burst size in tokens
+     * @param refillPeriodMillis time to refill an empty bucket completely
+     */
+    public TokenBucketRateLimiter(String name, int capacity, long refillPeriodMillis) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Rate limit capacity for " + name + " must be between 1 and " + MAX_CAPACITY);
+        }
+        if (refillPeriodMillis < 1) {
+            throw new IllegalArgumentException("Rate limit refill period for " + name + " must be positive");
+        }
+        this.name = name;
+        this.capacityScaled = capacity * SCALE;
+        this.refillPerMilli = (double) capacityScaled / refillPeriodMillis;
+        this.retryAfterMillis = Math.max(1, refillPeriodMillis / capacity);
+    }
+
+    /**
+     * Try to take one token from the bucket for the given key
+     * @param key the bucket key
+     * @return true if the request is permitted, false if it should be throttled
+     */
+    public boolean tryAcquire(String key) {
+        long now = System.currentTimeMillis() - epochMillis;
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(pack(now, capacityScaled)));
+        }
+
+        while (true) {
+            long state = bucket.get();
+            long last = state >>> TOKEN_BITS;
+            long tokens = state & TOKEN_MASK;
+
+            long elapsed = Math.max(0, now - last);
+            long refill = (long) (elapsed * refillPerMilli);
+            long available = Math.min(capacityScaled, tokens + refill);
+            // Only move the clock forward when tokens were credited so sub-token
+            // fractions are not lost on frequently polled buckets
+            long stamp = (refill > 0 || available == capacityScaled) ? now : last;
+
+            if (available < SCALE) {
+                throttled.increment();
+                return false;
+            }
+            if (bucket.compareAndSet(state, pack(stamp, available - SCALE))) {
+                permitted.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Drop buckets that have not been touched within the idle timeout.
+     * An idle bucket has refilled completely, so removing it is invisible to clients.
+     * @param idleMillis idle timeout in milliseconds
+     * @return number of buckets removed
+     */
+    public int evictIdle(long idleMillis) {
+        long cutoff = System.currentTimeMillis() - epochMillis - idleMillis;
+        int removed = 0;
+        for (var entry : buckets.entrySet()) {
+            AtomicLong bucket = entry.getValue();
+            if ((bucket.get() >>> TOKEN_BITS) < cutoff && buckets.remove(entry.getKey(), bucket)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private static long pack(long millis, long tokensScaled) {
+        return (millis << TOKEN_BITS) | tokensScaled;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    public long getPermittedCount() {
+        return permitted.sum();
+    }
+
+    public long getThrottledCount() {
+        return throttled.sum();
+    }
+}
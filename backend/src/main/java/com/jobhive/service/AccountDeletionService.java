@@ -0,0 +1,414 @@
+package com.jobhive.service;
+
+import com.jobhive.exception.AccountDeletionBusyException;
+import com.jobhive.repository.ArchivedJobRepository;
+import com.jobhive.repository.ChangeLogRepository;
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.MatchScoreRepository;
+import com.jobhive.repository.ResumeRepository;
+import com.jobhive.repository.ResumeVersionRepository;
+import com.jobhive.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Deletes an account and everything that belongs to it, archived jobs included. Deleting the User entity
+ * would make Hibernate load every job through the jobApplications cascade and
+ * delete them one by one in a single transaction; instead rows are removed with
+ * set-based DELETEs over chunks of IDs, each chunk in its own short transaction,
+ * so memory use and lock time stay bounded however many jobs the user has.
+ * <p>
+ * The user row goes last: until then the account still exists and a failed or
+ * interrupted deletion can simply be requested again. Deletions run one at a time
+ * on a background worker and report their progress while they run. Once the user
+ * row is gone the progress is kept by email for app.account-deletion.status-retention,
+ * so the client can still see the deletion finish.
+ */
+@Service
+public class AccountDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountDeletionService.class);
+
+    private static final int FINAL_STEP_ATTEMPTS = 3;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ArchivedJobRepository archivedJobRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeVersionRepository resumeVersionRepository;
+
+    @Autowired
+    private MatchScoreRepository matchScoreRepository;
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private ResumeBlobStore resumeBlobStore;
+
+    @Autowired
+    private ResumeUploadService resumeUploadService;
+
+    @Autowired
+    private ResumeVersionService resumeVersionService;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private JobRankingService jobRankingService;
+
+    @Autowired
+    private MatchScoreService matchScoreService;
+
+    @Autowired
+    private LoginActivityTracker loginActivityTracker;
+
+    @Autowired
+    private UserEventHub userEventHub;
+
+    @Autowired
+    @Qualifier("accountDeletionExecutor")
+    private ThreadPoolTaskExecutor accountDeletionExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.account-deletion.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${app.account-deletion.chunk-pause:10ms}")
+    private Duration chunkPause;
+
+    @Value("${app.account-deletion.status-retention:10m}")
+    private Duration statusRetention;
+
+    private TransactionTemplate transactionTemplate;
+
+    /** Deletions queued, running or failed, by user ID; finished ones are removed */
+    private final ConcurrentHashMap<Long, Progress> deletions = new ConcurrentHashMap<>();
+
+    /** Deletions whose user row is gone, by email, until the retention after they finish */
+    private final ConcurrentHashMap<String, Progress> deletedAccounts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Queue deletion of an account. Requesting it again while it is queued or running
+     * returns the same deletion; after a failure it starts over where it stopped.
+     * @param userId the user's ID
+     * @param email the user's email, under which the progress stays visible after the account is gone
+     * @return the deletion's progress
+     * @throws AccountDeletionBusyException if the deletion queue is full
+     */
+    public Progress requestDeletion(Long userId, String email) {
+        Progress[] created = new Progress[1];
+        Progress progress = deletions.compute(userId, (id, existing) -> {
+            if (existing != null && existing.status != Status.FAILED) {
+                return existing;
+            }
+            created[0] = new Progress();
+            return created[0];
+        });
+        if (created[0] != null) {
+            try {
+                accountDeletionExecutor.execute(() -> run(userId, email, created[0]));
+            } catch (TaskRejectedException e) {
+                deletions.remove(userId, created[0]);
+                throw AccountDeletionBusyException.INSTANCE;
+            }
+        }
+        return progress;
+    }
+
+    /**
+     * Progress of a user's deletion
+     * @param userId the user's ID
+     * @return the progress, or null if no deletion is queued, running or failed
+     */
+    public Progress getProgress(Long userId) {
+        return deletions.get(userId);
+    }
+
+    /**
+     * Progress of a deletion that has already removed the account
+     * @param email the deleted account's email
+     * @return the progress, or null if there is none or it finished longer than the retention ago
+     */
+    public Progress getDeletedAccountProgress(String email) {
+        return deletedAccounts.get(email);
+    }
+
+    /**
+     * Forget deletions of removed accounts that finished longer than the retention ago
+     */
+    @Scheduled(fixedDelayString = "${app.account-deletion.status-sweep-interval-ms:60000}")
+    public void expireDeletedAccounts() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(statusRetention);
+        deletedAccounts.values().removeIf(progress -> progress.finishedAt != null && progress.finishedAt.isBefore(cutoff));
+    }
+
+    private void run(Long userId, String email, Progress progress) {
+        progress.status = Status.RUNNING;
+        long start = System.nanoTime();
+        log.info("Deleting account {}", userId);
+        try {
+            // Stop work that could add rows or files behind the deletion
+            resumeUploadService.abortUploads(userId);
+            userEventHub.disconnect(userId);
+
+            deleteOwnedRows(userId, progress);
+            progress.phase = Phase.ACCOUNT;
+            for (int attempt = 1; !deleteAccountRow(userId); attempt++) {
+                if (attempt == FINAL_STEP_ATTEMPTS) {
+                    throw new IllegalStateException("Account " + userId + " kept gaining rows during deletion");
+                }
+                // A job or resume was created while the chunks ran; sweep it up and try again
+                deleteOwnedRows(userId, progress);
+                progress.phase = Phase.ACCOUNT;
+            }
+            // The token no longer authenticates, so the status is looked up by email from here on
+            deletedAccounts.put(email, progress);
+            // No change can be recorded once the user row is gone
+            progress.phase = Phase.CHANGE_LOG;
+            drain(() -> deleteChangeLogChunk(userId));
+
+            skillMatchIndex.evictUser(userId);
+            jobRankingService.evictUser(userId);
+            resumeVersionService.evictUser(userId);
+            matchScoreService.discardUser(userId);
+            loginActivityTracker.discard(userId);
+
+            progress.status = Status.DONE;
+            progress.finishedAt = LocalDateTime.now();
+            deletions.remove(userId, progress);
+            log.info("Deleted account {} in {} ms: {} jobs, {} archived jobs, {} resumes, {} history versions, {} files",
+                    userId, (System.nanoTime() - start) / 1_000_000, progress.jobsDeleted,
+                    progress.archivedJobsDeleted, progress.resumesDeleted, progress.versionsDeleted, progress.filesDeleted);
+        } catch (RuntimeException e) {
+            progress.status = Status.FAILED;
+            progress.finishedAt = LocalDateTime.now();
+            log.error("Deleting account {} failed in phase {}", userId, progress.phase, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            progress.status = Status.FAILED;
+            progress.finishedAt = LocalDateTime.now();
+            log.warn("Deleting account {} was interrupted in phase {}", userId, progress.phase);
+        }
+    }
+
+    /**
+     * Run chunk deletions until one deletes nothing, pausing between chunks so other
+     * transactions get the locks and connections in between
+     */
+    private void drain(Supplier<Integer> chunk) throws InterruptedException {
+        while (chunk.get() > 0) {
+            if (!chunkPause.isZero()) {
+                Thread.sleep(chunkPause.toMillis());
+            }
+        }
+    }
+
+    private int deleteJobChunk(Long userId, Progress progress) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = jobRepository.findIdsByUserId(userId, firstChunk());
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            matchScoreRepository.deleteByJobIdIn(ids);
+            jobRepository.deleteSkillsByJobIdIn(ids);
+            return jobRepository.deleteByIdIn(ids);
+        });
+        progress.jobsDeleted += deleted;
+        log.debug("Account {}: deleted {} jobs ({} so far)", userId, deleted, progress.jobsDeleted);
+        return deleted;
+    }
+
+    private int deleteArchivedJobChunk(Long userId, Progress progress) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = archivedJobRepository.findIdsByUserId(userId, firstChunk());
+            return ids.isEmpty() ? 0 : archivedJobRepository.deleteByIdIn(ids);
+        });
+        progress.archivedJobsDeleted += deleted;
+        return deleted;
+    }
+
+    private int deleteResumeChunk(Long userId, Progress progress) {
+        Set<String> hashes = new HashSet<>();
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Object[]> rows = resumeRepository.findIdsAndHashesByUserId(userId, firstChunk());
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                ids.add((Long) row[0]);
+                if (row[1] != null) {
+                    hashes.add((String) row[1]);
+                }
+            }
+            matchScoreRepository.deleteByResumeIdIn(ids);
+            resumeRepository.deleteSkillsByResumeIdIn(ids);
+            return resumeRepository.deleteByIdIn(ids);
+        });
+        progress.resumesDeleted += deleted;
+        if (!hashes.isEmpty()) {
+            progress.filesDeleted += deleteUnreferencedBlobs(hashes);
+        }
+        return deleted;
+    }
+
+    /**
+     * Files are shared by every resume with the same content, so only those no
+     * remaining resume points at are deleted; the blob store re-checks each one
+     * under its lock against uploads of the same content
+     */
+    private int deleteUnreferencedBlobs(Set<String> hashes) {
+        hashes.removeAll(resumeRepository.findReferencedHashes(hashes));
+        int deleted = 0;
+        for (String hash : hashes) {
+            try {
+                if (resumeBlobStore.deleteIfUnreferenced(hash, resumeRepository::existsByContentHash)) {
+                    deleted++;
+                }
+            } catch (IOException e) {
+                log.warn("Could not delete resume file {}: {}", hash, e.getMessage());
+            }
+        }
+        return deleted;
+    }
+
+    private int deleteVersionChunk(Long userId, Progress progress) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            List<Long> ids = resumeVersionRepository.findIdsByUserId(userId, firstChunk());
+            return ids.isEmpty() ? 0 : resumeVersionRepository.deleteByIdIn(ids);
+        });
+        progress.versionsDeleted += deleted;
+        return deleted;
+    }
+
+    private int deleteChangeLogChunk(Long userId) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ids = changeLogRepository.findIdsByUserId(userId, firstChunk());
+            return ids.isEmpty() ? 0 : changeLogRepository.deleteByIdIn(ids);
+        });
+    }
+
+    private void deleteOwnedRows(Long userId, Progress progress) throws InterruptedException {
+        progress.phase = Phase.JOBS;
+        drain(() -> deleteJobChunk(userId, progress));
+        progress.phase = Phase.ARCHIVED_JOBS;
+        drain(() -> deleteArchivedJobChunk(userId, progress));
+        progress.phase = Phase.RESUMES;
+        drain(() -> deleteResumeChunk(userId, progress));
+        progress.phase = Phase.RESUME_HISTORY;
+        drain(() -> deleteVersionChunk(userId, progress));
+    }
+
+    /**
+     * Delete the user row, which foreign keys block while any of its rows remain
+     * @return false if rows were added after they were deleted
+     */
+    private boolean deleteAccountRow(Long userId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.deleteRowById(userId));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    private Pageable firstChunk() {
+        return PageRequest.of(0, chunkSize);
+    }
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    public enum Phase { JOBS, ARCHIVED_JOBS, RESUMES, RESUME_HISTORY, ACCOUNT, CHANGE_LOG }
+
+    /**
+     * Live progress of one deletion; fields are written by the deletion worker only
+     */
+    public static final class Progress {
+        private volatile Status status = Status.QUEUED;
+        private volatile Phase phase;
+        private volatile long jobsDeleted;
+        private volatile long archivedJobsDeleted;
+        private volatile long resumesDeleted;
+        private volatile long versionsDeleted;
+        private volatile long filesDeleted;
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private volatile LocalDateTime finishedAt;
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public Phase getPhase() {
+            return phase;
+        }
+
+        public long getJobsDeleted() {
+            return jobsDeleted;
+        }
+
+        public long getArchivedJobsDeleted() {
+            return archivedJobsDeleted;
+        }
+
+        public long getResumesDeleted() {
+            return resumesDeleted;
+        }
+
+        public long getVersionsDeleted() {
+            return versionsDeleted;
+        }
+
+        public long getFilesDeleted() {
+            return filesDeleted;
+        }
+
+        public LocalDateTime getRequestedAt() {
+            return requestedAt;
+        }
+
+        public LocalDateTime getFinishedAt() {
+            return finishedAt;
+        }
+    }
+}
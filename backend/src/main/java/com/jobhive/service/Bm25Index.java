@@ -0,0 +1,439 @@
+package com.jobhive.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * Incrementally updated inverted index over job text, scored with Okapi BM25.
+ * Documents occupy dense slots; postings are slot-ordered int arrays so a query
+ * can be split into disjoint slot ranges and scored in parallel without merging
+ * accumulators. Removed documents are tombstoned and the postings are compacted
+ * once tombstones outnumber live documents. A term no live document uses any more
+ * is dropped from the vocabulary and its id reused, so the index does not grow with
+ * the words of jobs long since removed.
+ * Not thread-safe: callers serialize writes against reads.
+ */
+final class Bm25Index {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    /** Query term frequency saturation (BM25 k3) */
+    private static final double K3 = 8.0;
+
+    /** Below this many postings per query a single thread is faster */
+    private static final int PARALLEL_THRESHOLD = 20_000;
+    private static final int LEAF_SLOTS = 2048;
+    private static final int EXPLAINED_TERMS = 5;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+            "its", "of", "on", "or", "our", "that", "the", "their", "this", "to", "we", "will", "with", "you",
+            "your", "who", "all", "any", "can", "not", "but", "into", "more", "other", "such", "they", "was",
+            "were", "also", "etc", "must", "should", "able", "work", "working", "experience", "years", "year");
+
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+    private Postings[] postings = new Postings[64];
+    private final ArrayDeque<Integer> freeTermIds = new ArrayDeque<>();
+
+    private final Map<Long, Integer> slotsByJob = new HashMap<>();
+    private long[] slotJob = new long[64];
+    private int[] slotLength = new int[64];
+    private int[][] slotTerms = new int[64][];
+    private int[][] slotFreqs = new int[64][];
+    private boolean[] slotDeleted = new boolean[64];
+    private int slotCount;
+    private int liveCount;
+    private long totalLength;
+
+    /**
+     * Add or replace a job's text
+     * @param jobId the job ID
+     * @param text the job's searchable text
+     */
+    void put(long jobId, String text) {
+        remove(jobId);
+
+        Map<Integer, int[]> freqs = new HashMap<>();
+        int[] length = new int[1];
+        tokenize(text, token -> {
+            freqs.computeIfAbsent(termId(token), k -> new int[1])[0]++;
+            length[0]++;
+        });
+
+        int slot = slotCount++;
+        ensureSlotCapacity(slotCount);
+        int[] docTerms = new int[freqs.size()];
+        int[] docFreqs = new int[freqs.size()];
+        int i = 0;
+        for (Map.Entry<Integer, int[]> entry : freqs.entrySet()) {
+            docTerms[i] = entry.getKey();
+            docFreqs[i] = entry.getValue()[0];
+            postings[docTerms[i]].add(slot, docFreqs[i]);
+            i++;
+        }
+        slotJob[slot] = jobId;
+        slotLength[slot] = length[0];
+        slotTerms[slot] = docTerms;
+        slotFreqs[slot] = docFreqs;
+        slotsByJob.put(jobId, slot);
+        liveCount++;
+        totalLength += length[0];
+    }
+
+    /**
+     * Remove a job from the index
+     * @param jobId the job ID
+     */
+    void remove(long jobId) {
+        Integer slot = slotsByJob.remove(jobId);
+        if (slot == null) {
+            return;
+        }
+        slotDeleted[slot] = true;
+        for (int term : slotTerms[slot]) {
+            if (--postings[term].documentFrequency == 0) {
+                pruneTerm(term);
+            }
+        }
+        liveCount--;
+        totalLength -= slotLength[slot];
+        if (slotCount - liveCount > Math.max(64, liveCount)) {
+            compact();
+        }
+    }
+
+    int size() {
+        return liveCount;
+    }
+
+    int vocabularySize() {
+        return termIds.size();
+    }
+
+    /**
+     * Score all documents against a query and return the best k with explanations
+     * @param queryText the query text (e.g. resume content)
+     * @param k number of results
+     * @param pool pool used when the query touches enough postings to benefit
+     * @return hits ordered by descending score
+     */
+    List<Hit> search(String queryText, int k, ForkJoinPool pool) {
+        if (liveCount == 0 || k <= 0) {
+            return List.of();
+        }
+
+        // Query term frequencies, restricted to terms present in the index
+        Map<Integer, int[]> queryFreqs = new HashMap<>();
+        tokenize(queryText, token -> {
+            Integer id = termIds.get(token);
+            if (id != null && postings[id].documentFrequency > 0) {
+                queryFreqs.computeIfAbsent(id, x -> new int[1])[0]++;
+            }
+        });
+        if (queryFreqs.isEmpty()) {
+            return List.of();
+        }
+
+        int n = queryFreqs.size();
+        int[] queryTerms = new int[n];
+        double[] termWeights = new double[n];
+        long touched = 0;
+        int i = 0;
+        for (Map.Entry<Integer, int[]> entry : queryFreqs.entrySet()) {
+            int term = entry.getKey();
+            int qtf = entry.getValue()[0];
+            queryTerms[i] = term;
+            termWeights[i] = idf(term) * ((K3 + 1) * qtf / (K3 + qtf)) * (K1 + 1);
+            touched += postings[term].size;
+            i++;
+        }
+
+        double averageLength = (double) totalLength / liveCount;
+        ScoreTask task = new ScoreTask(queryTerms, termWeights, averageLength, k, 0, slotCount);
+        PriorityQueue<ScoredSlot> top = touched >= PARALLEL_THRESHOLD && pool != null
+                ? pool.invoke(task)
+                : task.compute();
+
+        List<ScoredSlot> best = new ArrayList<>(top);
+        best.sort(Comparator.comparingDouble(ScoredSlot::score).reversed());
+
+        Map<Integer, Double> weightsByTerm = new HashMap<>();
+        for (int q = 0; q < n; q++) {
+            weightsByTerm.put(queryTerms[q], termWeights[q]);
+        }
+        List<Hit> hits = new ArrayList<>(best.size());
+        for (ScoredSlot scored : best) {
+            hits.add(new Hit(slotJob[scored.slot()], scored.score(), explain(scored.slot(), weightsByTerm, averageLength)));
+        }
+        return hits;
+    }
+
+    private List<TermScore> explain(int slot, Map<Integer, Double> weightsByTerm, double averageLength) {
+        double norm = lengthNorm(slot, averageLength);
+        List<TermScore> contributions = new ArrayList<>();
+        int[] docTerms = slotTerms[slot];
+        int[] docFreqs = slotFreqs[slot];
+        for (int i = 0; i < docTerms.length; i++) {
+            Double weight = weightsByTerm.get(docTerms[i]);
+            if (weight != null) {
+                contributions.add(new TermScore(terms.get(docTerms[i]), weight * docFreqs[i] / (docFreqs[i] + norm)));
+            }
+        }
+        contributions.sort(Comparator.comparingDouble(TermScore::score).reversed());
+        return contributions.size() > EXPLAINED_TERMS ? contributions.subList(0, EXPLAINED_TERMS) : contributions;
+    }
+
+    private double idf(int term) {
+        int df = postings[term].documentFrequency;
+        return Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+    }
+
+    private double lengthNorm(int slot, double averageLength) {
+        return K1 * (1 - B + B * slotLength[slot] / averageLength);
+    }
+
+    /**
+     * Scores a contiguous range of slots; ranges are disjoint so leaves share nothing
+     */
+    private final class ScoreTask extends RecursiveTask<PriorityQueue<ScoredSlot>> {
+
+        private final int[] queryTerms;
+        private final double[] termWeights;
+        private final double averageLength;
+        private final int k;
+        private final int from;
+        private final int to;
+
+        ScoreTask(int[] queryTerms, double[] termWeights, double averageLength, int k, int from, int to) {
+            this.queryTerms = queryTerms;
+            this.termWeights = termWeights;
+            this.averageLength = averageLength;
+            this.k = k;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected PriorityQueue<ScoredSlot> compute() {
+            if (to - from <= LEAF_SLOTS || getPool() == null) {
+                return scoreRange();
+            }
+            int mid = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(queryTerms, termWeights, averageLength, k, from, mid);
+            ScoreTask right = new ScoreTask(queryTerms, termWeights, averageLength, k, mid, to);
+            left.fork();
+            PriorityQueue<ScoredSlot> merged = right.compute();
+            for (ScoredSlot scored : left.join()) {
+                offer(merged, scored);
+            }
+            return merged;
+        }
+
+        private PriorityQueue<ScoredSlot> scoreRange() {
+            double[] scores = new double[to - from];
+            double[] norms = new double[to - from];
+            for (int slot = from; slot < to; slot++) {
+                norms[slot - from] = lengthNorm(slot, averageLength);
+            }
+            for (int q = 0; q < queryTerms.length; q++) {
+                Postings list = postings[queryTerms[q]];
+                double weight = termWeights[q];
+                for (int p = list.firstAtOrAfter(from); p < list.size && list.slots[p] < to; p++) {
+                    int slot = list.slots[p];
+                    if (slotDeleted[slot]) {
+                        continue;
+                    }
+                    int tf = list.freqs[p];
+                    scores[slot - from] += weight * tf / (tf + norms[slot - from]);
+                }
+            }
+            PriorityQueue<ScoredSlot> top = new PriorityQueue<>(k + 1, Comparator.comparingDouble(ScoredSlot::score));
+            for (int s = 0; s < scores.length; s++) {
+                if (scores[s] > 0) {
+                    offer(top, new ScoredSlot(from + s, scores[s]));
+                }
+            }
+            return top;
+        }
+
+        private void offer(PriorityQueue<ScoredSlot> top, ScoredSlot scored) {
+            if (top.size() < k) {
+                top.add(scored);
+            } else if (scored.score() > top.peek().score()) {
+                top.poll();
+                top.add(scored);
+            }
+        }
+    }
+
+    private int termId(String token) {
+        Integer id = termIds.get(token);
+        if (id == null) {
+            id = freeTermIds.poll();
+            if (id != null) {
+                terms.set(id, token);
+            } else {
+                id = terms.size();
+                terms.add(token);
+                if (id == postings.length) {
+                    postings = Arrays.copyOf(postings, id * 2);
+                }
+            }
+            termIds.put(token, id);
+            postings[id] = new Postings();
+        }
+        return id;
+    }
+
+    /**
+     * Drop a term no live document contains. Its postings only point at tombstoned
+     * slots, which compaction skips, so they can go now and the id can be reused.
+     */
+    private void pruneTerm(int term) {
+        termIds.remove(terms.get(term));
+        terms.set(term, null);
+        postings[term] = null;
+        freeTermIds.push(term);
+    }
+
+    private void ensureSlotCapacity(int capacity) {
+        if (capacity <= slotJob.length) {
+            return;
+        }
+        int size = Math.max(capacity, slotJob.length * 2);
+        slotJob = Arrays.copyOf(slotJob, size);
+        slotLength = Arrays.copyOf(slotLength, size);
+        slotTerms = Arrays.copyOf(slotTerms, size);
+        slotFreqs = Arrays.copyOf(slotFreqs, size);
+        slotDeleted = Arrays.copyOf(slotDeleted, size);
+    }
+
+    /**
+     * Renumber live documents into dense slots and rebuild the postings in slot order
+     */
+    private void compact() {
+        int live = 0;
+        for (Postings list : postings) {
+            if (list != null) {
+                list.clear();
+            }
+        }
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (slotDeleted[slot]) {
+                continue;
+            }
+            slotJob[live] = slotJob[slot];
+            slotLength[live] = slotLength[slot];
+            slotTerms[live] = slotTerms[slot];
+            slotFreqs[live] = slotFreqs[slot];
+            slotDeleted[live] = false;
+            slotsByJob.put(slotJob[live], live);
+            for (int i = 0; i < slotTerms[live].length; i++) {
+                postings[slotTerms[live][i]].add(live, slotFreqs[live][i]);
+            }
+            live++;
+        }
+        for (int slot = live; slot < slotCount; slot++) {
+            slotTerms[slot] = null;
+            slotFreqs[slot] = null;
+            slotDeleted[slot] = false;
+        }
+        slotCount = live;
+    }
+
+    /**
+     * Split text into lower-cased terms: runs of letters and digits, keeping
+     * '+', '#' and inner '.' so that "c++", "c#" and "node.js" survive
+     * @param text the text
+     * @param sink receives each term
+     */
+    static void tokenize(CharSequence text, Consumer<String> sink) {
+        if (text == null) {
+            return;
+        }
+        StringBuilder token = new StringBuilder(24);
+        for (int i = 0, len = text.length(); i <= len; i++) {
+            char c = i < len ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (!token.isEmpty() && (c == '+' || c == '#')) {
+                token.append(c);
+            } else if (!token.isEmpty() && c == '.' && i + 1 < len && Character.isLetterOrDigit(text.charAt(i + 1))) {
+                token.append(c);
+            } else if (!token.isEmpty()) {
+                if (token.length() > 1 && token.length() <= 40) {
+                    String term = token.toString();
+                    if (!STOP_WORDS.contains(term)) {
+                        sink.accept(term);
+                    }
+                }
+                token.setLength(0);
+            }
+        }
+    }
+
+    /**
+     * Slot-ordered postings for one term
+     */
+    private static final class Postings {
+        int[] slots = new int[4];
+        int[] freqs = new int[4];
+        int size;
+        int documentFrequency;
+
+        void add(int slot, int freq) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            slots[size] = slot;
+            freqs[size] = freq;
+            size++;
+            documentFrequency++;
+        }
+
+        int firstAtOrAfter(int slot) {
+            if (slot == 0) {
+                return 0;
+            }
+            int index = Arrays.binarySearch(slots, 0, size, slot);
+            return index >= 0 ? index : -index - 1;
+        }
+
+        void clear() {
+            size = 0;
+            documentFrequency = 0;
+        }
+    }
+
+    private record ScoredSlot(int slot, double score) {
+    }
+
+    /**
+     * A ranked job
+     * @param jobId the job ID
+     * @param score BM25 score
+     * @param explanation the query terms that contributed most to the score
+     */
+    record Hit(long jobId, double score, List<TermScore> explanation) {
+    }
+
+    /**
+     * Contribution of one term to a hit's score
+     * @param term the term
+     * @param score its share of the BM25 score
+     */
+    record TermScore(String term, double score) {
+    }
+}
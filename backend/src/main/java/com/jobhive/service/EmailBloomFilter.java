@@ -0,0 +1,157 @@
+package com.jobhive.service;
+
+import com.jobhive.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter over all registered email addresses.
+ * Answers "definitely not registered" without a database round trip,
+ * so only probable hits need to be confirmed against the users table.
+ * Emails are case-folded before hashing so the filter never produces
+ * a false negative for a differently-cased lookup.
+ */
+@Component
+public class EmailBloomFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailBloomFilter.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    /**
+     * Set once the initial load has finished; until then every lookup
+     * falls through to the database.
+     */
+    private volatile boolean ready = false;
+
+    public EmailBloomFilter(@Value("${app.users.email-filter.expected-insertions:100000}") long expectedInsertions,
+                            @Value("${app.users.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+
+        // Optimal sizing: m = -n ln p / (ln 2)^2, k = m/n ln 2
+        long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (m + 63) >>> 6);
+        this.bitCount = (long) words << 6;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new AtomicLongArray(words);
+    }
+
+    /**
+     * Populate the filter by streaming every registered email once the
+     * application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadRegisteredEmails() {
+        long start = System.nanoTime();
+        long loaded = 0;
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            for (String email : (Iterable<String>) emails::iterator) {
+                put(email);
+                loaded++;
+            }
+        }
+        ready = true;
+        log.info("Email filter loaded {} addresses in {} ms ({} bits, {} hashes)",
+                loaded, (System.nanoTime() - start) / 1_000_000, bitCount, hashFunctions);
+    }
+
+    /**
+     * Record an email as registered
+     * @param email the email address
+     */
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        long h1 = hash(UserService.normalizeEmail(email));
+        long h2 = secondHash(h1);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = indexFor(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * Check whether an email might be registered
+     * @param email the email address
+     * @return false if the email is definitely not registered, true otherwise
+     */
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        long h1 = hash(UserService.normalizeEmail(email));
+        long h2 = secondHash(h1);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long index = indexFor(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Reduce the full 64-bit combined hash to a bit position. A 31-bit hash would
+     * leave positions past 2^31 unused and skew the rest once the array is large.
+     */
+    private long indexFor(long combinedHash) {
+        return Math.floorMod(combinedHash, bitCount);
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 code units followed by a murmur3 finalizer
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * Independent second hash for double hashing; forced odd so it never degenerates to zero
+     */
+    private static long secondHash(long hash) {
+        return mix(hash + 0x9e3779b97f4a7c15L) | 1;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
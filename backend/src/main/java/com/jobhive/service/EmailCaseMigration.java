@@ -0,0 +1,102 @@
+package com.jobhive.service;
+
+import com.jobhive.model.DataMigration;
+import com.jobhive.repository.DataMigrationRepository;
+import com.jobhive.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lower-cases emails stored before they were normalized on write. Lookups use the
+ * normalized address, so without this such users could no longer log in.
+ * <p>
+ * When several accounts normalize to the same address, only one can keep it: an
+ * account already stored normalized wins (it is the one lookups find today),
+ * otherwise the most recently active one. The others keep their stored email and are
+ * logged so they can be merged by hand. Runs before warm-up and readiness, once:
+ * completion is recorded in data_migrations, so later startups neither rescan the
+ * users table nor repeat the conflict warnings.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class EmailCaseMigration implements ApplicationRunner {
+
+    static final String NAME = "email-case-normalization";
+
+    private static final Logger log = LoggerFactory.getLogger(EmailCaseMigration.class);
+
+    private static final Comparator<Object[]> PREFERRED_OWNER = Comparator
+            .comparing((Object[] row) -> !row[1].equals(UserService.normalizeEmail((String) row[1])))
+            .thenComparing(row -> (LocalDateTime) row[2], Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(row -> (Long) row[0]);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataMigrationRepository dataMigrationRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (dataMigrationRepository.existsById(NAME)) {
+            return;
+        }
+        normalizeStoredEmails();
+        dataMigrationRepository.save(new DataMigration(NAME));
+    }
+
+    /**
+     * Normalize every stored email that is not yet normalized, keeping one owner per
+     * address
+     */
+    @Transactional
+    void normalizeStoredEmails() {
+        List<Object[]> unnormalized = userRepository.findUnnormalizedEmails();
+        if (unnormalized.isEmpty()) {
+            return;
+        }
+
+        List<String> emails = unnormalized.stream()
+                .map(row -> UserService.normalizeEmail((String) row[1]))
+                .distinct()
+                .toList();
+        Map<String, List<Object[]>> owners = new HashMap<>();
+        for (Object[] row : userRepository.findByNormalizedEmailIn(emails)) {
+            owners.computeIfAbsent(UserService.normalizeEmail((String) row[1]), k -> new ArrayList<>()).add(row);
+        }
+
+        int updated = 0;
+        int conflicts = 0;
+        for (Map.Entry<String, List<Object[]>> entry : owners.entrySet()) {
+            List<Object[]> rows = entry.getValue();
+            rows.sort(PREFERRED_OWNER);
+            Object[] winner = rows.get(0);
+            if (!entry.getKey().equals(winner[1])) {
+                userRepository.updateEmail((Long) winner[0], entry.getKey());
+                updated++;
+            }
+            if (rows.size() > 1) {
+                conflicts += rows.size() - 1;
+                log.warn("Email {} is used by several accounts; user {} keeps it, users {} need merging by hand",
+                        entry.getKey(), winner[0], rows.subList(1, rows.size()).stream().map(row -> row[0]).toList());
+            }
+        }
+        log.info("Normalized {} stored emails ({} accounts left unchanged because of case collisions)",
+                updated, conflicts);
+    }
+}
@@ -0,0 +1,96 @@
+package com.jobhive.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Analyzer that sends each batch to a model server in a single HTTP call.
+ * <p>
+ * Request: {@code POST {url}} with {@code {"model": "...", "resumes": [{"id", "content", "skills", "experience", "education"}]}}.
+ * Response: {@code {"results": [{"id": "...", "analysis": {...}}]}}; the analysis object is stored as-is.
+ */
+@Component
+@ConditionalOnProperty(name = "app.analyzer.type", havingValue = "http")
+public class HttpResumeAnalyzer implements ResumeAnalyzer {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.analyzer.http.url}")
+    private URI url;
+
+    @Value("${app.analyzer.http.model:default}")
+    private String model;
+
+    @Value("${app.analyzer.http.connect-timeout:2s}")
+    private Duration connectTimeout;
+
+    @Value("${app.analyzer.timeout:30s}")
+    private Duration requestTimeout;
+
+    private HttpClient httpClient;
+
+    @PostConstruct
+    void createClient() {
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    @Override
+    public String getId() {
+        return "http-" + model;
+    }
+
+    @Override
+    public Map<String, String> analyze(List<Request> batch) throws IOException, InterruptedException {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("model", model);
+        ArrayNode resumes = body.putArray("resumes");
+        for (Request request : batch) {
+            ObjectNode resume = resumes.addObject();
+            resume.put("id", request.key());
+            resume.put("content", request.content());
+            resume.set("skills", objectMapper.valueToTree(request.skills()));
+            resume.put("experience", request.experience());
+            resume.put("education", request.education());
+        }
+
+        HttpRequest httpRequest = HttpRequest.newBuilder(url)
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(httpRequest, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("Analyzer server returned HTTP " + response.statusCode());
+        }
+
+        Map<String, String> results = new HashMap<>(batch.size() * 2);
+        for (JsonNode result : objectMapper.readTree(response.body()).path("results")) {
+            JsonNode analysis = result.get("analysis");
+            if (result.hasNonNull("id") && analysis != null && analysis.isObject()) {
+                results.put(result.get("id").asText(), objectMapper.writeValueAsString(analysis));
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,232 @@
+package com.jobhive.service;
+
+import com.jobhive.event.JobsArchivedEvent;
+import com.jobhive.exception.JobNotFoundException;
+import com.jobhive.model.ArchivedJob;
+import com.jobhive.model.ChangeLogEntry;
+import com.jobhive.model.Job;
+import com.jobhive.repository.ArchivedJobRepository;
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.MatchScoreRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Retention policy for saved jobs. Closed applications (REJECTED, WITHDRAWN,
+ * ACCEPTED by default) and SAVED jobs nobody has touched for a long time are moved
+ * from the jobs table to archived_jobs, so job lists, ranking and match scoring only
+ * work on the live set.
+ * <p>
+ * Archiving runs in a daily maintenance window, in chunks: each chunk locks a batch
+ * of jobs, copies them with one INSERT ... SELECT and deletes them with their skill
+ * and score rows, all in one short transaction, then pauses before the next. A run
+ * stops when nothing is left to archive or the window closes. Clients see an
+ * archived job as deleted in sync and get a job.archived event.
+ */
+@Service
+public class JobArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobArchiveService.class);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ArchivedJobRepository archivedJobRepository;
+
+    @Autowired
+    private MatchScoreRepository matchScoreRepository;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("jobArchiveExecutor")
+    private ThreadPoolTaskExecutor jobArchiveExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.retention.closed-statuses:REJECTED,WITHDRAWN,ACCEPTED}")
+    private Set<Job.ApplicationStatus> closedStatuses;
+
+    @Value("${app.retention.closed-after:180d}")
+    private Duration closedAfter;
+
+    @Value("${app.retention.saved-after:365d}")
+    private Duration savedAfter;
+
+    @Value("${app.retention.window-start:02:00}")
+    private String windowStartValue;
+
+    @Value("${app.retention.window-end:05:00}")
+    private String windowEndValue;
+
+    @Value("${app.retention.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.retention.chunk-pause:50ms}")
+    private Duration chunkPause;
+
+    private LocalTime windowStart;
+    private LocalTime windowEnd;
+    private TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong archivedCount = new AtomicLong();
+
+    @PostConstruct
+    void init() {
+        windowStart = LocalTime.parse(windowStartValue);
+        windowEnd = LocalTime.parse(windowEndValue);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Start an archiving run when the maintenance window is open and none is running
+     */
+    @Scheduled(fixedDelayString = "${app.retention.check-interval-ms:60000}")
+    public void archiveInWindow() {
+        if (!enabled || !inWindow(LocalTime.now()) || !running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            jobArchiveExecutor.execute(() -> {
+                try {
+                    archiveStaleJobs();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Page through a user's archived jobs
+     * @param userId the owner's ID
+     * @param pageable pagination information
+     * @return a page of archived jobs
+     */
+    public Page<ArchivedJob> getArchivedJobs(Long userId, Pageable pageable) {
+        return archivedJobRepository.findByUserId(userId, pageable);
+    }
+
+    /**
+     * Get an archived job owned by the user
+     * @param userId the owner's ID
+     * @param jobId the job ID
+     * @return the archived job
+     * @throws JobNotFoundException if not found or not owned by the user
+     */
+    public ArchivedJob getArchivedJob(Long userId, Long jobId) {
+        return archivedJobRepository.findByIdAndUserId(jobId, userId)
+                .orElseThrow(() -> JobNotFoundException.INSTANCE);
+    }
+
+    public long getArchivedCount() {
+        return archivedCount.get();
+    }
+
+    private void archiveStaleJobs() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime closedBefore = now.minus(closedAfter);
+        LocalDateTime savedBefore = now.minus(savedAfter);
+        long archived = 0;
+        try {
+            int moved;
+            while ((moved = archiveChunk(closedBefore, savedBefore)) > 0) {
+                archived += moved;
+                if (!inWindow(LocalTime.now())) {
+                    log.info("Maintenance window closed; archiving resumes in the next one");
+                    break;
+                }
+                if (!chunkPause.isZero()) {
+                    Thread.sleep(chunkPause.toMillis());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("Archiving stale jobs failed after {} jobs", archived, e);
+        }
+        if (archived > 0) {
+            log.info("Archived {} stale jobs in {} ms", archived, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private int archiveChunk(LocalDateTime closedBefore, LocalDateTime savedBefore) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<Job> jobs = jobRepository.findArchivable(closedStatuses, closedBefore, savedBefore,
+                    PageRequest.of(0, chunkSize));
+            if (jobs.isEmpty()) {
+                return 0;
+            }
+            Map<Long, List<Long>> jobsByUser = new HashMap<>();
+            List<Long> ids = new ArrayList<>(jobs.size());
+            for (Job job : jobs) {
+                ids.add(job.getId());
+                jobsByUser.computeIfAbsent(job.getUser().getId(), id -> new ArrayList<>()).add(job.getId());
+            }
+            archivedJobRepository.copyFromJobs(ids, LocalDateTime.now());
+            matchScoreRepository.deleteByJobIdIn(ids);
+            jobRepository.deleteSkillsByJobIdIn(ids);
+            jobRepository.deleteByIdIn(ids);
+            // Job rows are locked first and user rows (for sequence numbers) last, as in JobService
+            jobsByUser.forEach((userId, jobIds) -> {
+                syncService.recordDeletions(userId, ChangeLogEntry.EntityType.JOB, jobIds);
+                eventPublisher.publishEvent(new JobsArchivedEvent(userId, jobIds));
+            });
+            return ids.size();
+        });
+        archivedCount.addAndGet(moved);
+        return moved;
+    }
+
+    /**
+     * Whether a time falls in the maintenance window, which may wrap past midnight;
+     * equal start and end mean no window restriction
+     */
+    private boolean inWindow(LocalTime time) {
+        if (windowStart.equals(windowEnd)) {
+            return true;
+        }
+        if (windowStart.isBefore(windowEnd)) {
+            return !time.isBefore(windowStart) && time.isBefore(windowEnd);
+        }
+        return !time.isBefore(windowStart) || time.isBefore(windowEnd);
+    }
+}
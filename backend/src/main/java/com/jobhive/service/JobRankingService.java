@@ -0,0 +1,248 @@
+package com.jobhive.service;
+
+import com.jobhive.dto.JobRankingResponse;
+import com.jobhive.event.JobContentChangedEvent;
+import com.jobhive.event.JobDeletedEvent;
+import com.jobhive.event.JobsArchivedEvent;
+import com.jobhive.model.Job;
+import com.jobhive.model.Resume;
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.ResumeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Ranks a user's saved jobs against their latest parsed resume with BM25 over
+ * the job title, description and requirements. Each user gets an in-memory
+ * inverted index, built on first use and kept current from committed job events; queries
+ * score disjoint document ranges in parallel on a dedicated ForkJoinPool.
+ * <p>
+ * An index is created empty and built under its own write lock, outside the map, so
+ * the database read never holds a map bin. Updates take the same lock and apply only
+ * to built indexes: one that arrives during a build is applied on top of it, one that
+ * arrives earlier is already in the rows the build reads.
+ */
+@Service
+public class JobRankingService {
+
+    private static final Logger log = LoggerFactory.getLogger(JobRankingService.class);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeVersionService resumeVersionService;
+
+    @Autowired
+    @Qualifier("jobRankingPool")
+    private ForkJoinPool jobRankingPool;
+
+    @Value("${app.ranking.idle-timeout:30m}")
+    private Duration idleTimeout;
+
+    private final ConcurrentHashMap<Long, UserIndex> indexesByUser = new ConcurrentHashMap<>();
+
+    /**
+     * Rank the user's saved jobs against their most recent parsed resume
+     * @param userId the user ID
+     * @param limit maximum number of results
+     * @return ranked jobs, best first; empty if the user has no parsed resume
+     */
+    public List<JobRankingResponse> rankJobs(Long userId, int limit) {
+        Resume resume = resumeRepository.findFirstByUserIdAndStatusOrderByIdDesc(userId, Resume.ParseStatus.DONE)
+                .orElse(null);
+        String resumeText = resume != null ? resumeVersionService.getParsedContent(resume) : null;
+        if (resumeText == null) {
+            return List.of();
+        }
+
+        UserIndex index = load(userId);
+        long start = System.nanoTime();
+        List<Bm25Index.Hit> hits;
+        index.lock.readLock().lock();
+        try {
+            hits = index.bm25.search(resumeText, limit, jobRankingPool);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+        log.debug("Ranked {} jobs for user {} in {} us", index.bm25.size(), userId, (System.nanoTime() - start) / 1000);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Job> jobsById = new HashMap<>();
+        List<Long> ids = hits.stream().map(Bm25Index.Hit::jobId).toList();
+        for (Job job : jobRepository.findByIdInAndUserId(ids, userId)) {
+            jobsById.put(job.getId(), job);
+        }
+
+        List<JobRankingResponse> results = new ArrayList<>(hits.size());
+        for (Bm25Index.Hit hit : hits) {
+            Job job = jobsById.get(hit.jobId());
+            if (job == null) {
+                continue;
+            }
+            List<JobRankingResponse.TermScore> explanation = hit.explanation().stream()
+                    .map(t -> new JobRankingResponse.TermScore(t.term(), t.score()))
+                    .toList();
+            results.add(new JobRankingResponse(job, resume.getId(), hit.score(), explanation));
+        }
+        return results;
+    }
+
+    /**
+     * Index or re-index a job, if the owner's index is loaded
+     * @param userId the owner's ID
+     * @param jobId the job ID
+     * @param title the job title
+     * @param description the job description
+     * @param requirements the job requirements
+     */
+    public void indexJob(Long userId, Long jobId, String title, String description, String requirements) {
+        String text = searchableText(title, description, requirements);
+        update(userId, bm25 -> bm25.put(jobId, text));
+    }
+
+    /**
+     * Remove a job from the owner's index
+     * @param userId the owner's ID
+     * @param jobId the job ID
+     */
+    public void removeJob(Long userId, Long jobId) {
+        update(userId, bm25 -> bm25.remove(jobId));
+    }
+
+    // Job changes are applied only once committed, so a rolled-back write never reaches the index
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobContentChanged(JobContentChangedEvent event) {
+        indexJob(event.userId(), event.jobId(), event.jobTitle(), event.jobDescription(), event.requirements());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobDeleted(JobDeletedEvent event) {
+        removeJob(event.userId(), event.jobId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobsArchived(JobsArchivedEvent event) {
+        event.jobIds().forEach(jobId -> removeJob(event.userId(), jobId));
+    }
+
+    /**
+     * Drop a user's index
+     * @param userId the user ID
+     */
+    public void evictUser(Long userId) {
+        indexesByUser.remove(userId);
+    }
+
+    /**
+     * Drop indexes of users who have not ranked jobs recently
+     */
+    @Scheduled(fixedDelayString = "${app.ranking.eviction-interval-ms:300000}")
+    public void evictIdleUsers() {
+        long cutoff = System.currentTimeMillis() - idleTimeout.toMillis();
+        indexesByUser.values().removeIf(index -> index.lastAccess < cutoff);
+    }
+
+    public int getLoadedUserCount() {
+        return indexesByUser.size();
+    }
+
+    /**
+     * Number of jobs in a user's index
+     * @param userId the user ID
+     * @return job count, or 0 if the user's index is not loaded
+     */
+    int getIndexedJobCount(Long userId) {
+        UserIndex index = indexesByUser.get(userId);
+        if (index == null) {
+            return 0;
+        }
+        index.lock.readLock().lock();
+        try {
+            return index.bm25.size();
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    private UserIndex load(Long userId) {
+        // Only the empty index is created inside the map; the build runs under its write lock
+        UserIndex index = indexesByUser.computeIfAbsent(userId, id -> new UserIndex());
+        index.lastAccess = System.currentTimeMillis();
+        if (!index.loaded) {
+            index.lock.writeLock().lock();
+            try {
+                if (!index.loaded) {
+                    long start = System.nanoTime();
+                    for (Object[] row : jobRepository.findSearchableTextByUserId(userId)) {
+                        index.bm25.put((Long) row[0], searchableText((String) row[1], (String) row[2], (String) row[3]));
+                    }
+                    index.loaded = true;
+                    log.debug("Built ranking index for user {}: {} jobs in {} ms", userId, index.bm25.size(),
+                            (System.nanoTime() - start) / 1_000_000);
+                }
+            } finally {
+                index.lock.writeLock().unlock();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Apply a change to a user's index if it is built, after any build in progress
+     */
+    private void update(Long userId, Consumer<Bm25Index> change) {
+        UserIndex index = indexesByUser.get(userId);
+        if (index == null) {
+            return;
+        }
+        index.lock.writeLock().lock();
+        try {
+            if (index.loaded) {
+                change.accept(index.bm25);
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    private static String searchableText(String title, String description, String requirements) {
+        StringBuilder sb = new StringBuilder();
+        for (String part : new String[] {title, description, requirements}) {
+            if (part != null) {
+                sb.append(part).append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static final class UserIndex {
+        final Bm25Index bm25 = new Bm25Index();
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        volatile boolean loaded;
+        volatile long lastAccess = System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,231 @@
+package com.jobhive.service;
+
+import com.jobhive.dto.JobMatchResponse;
+import com.jobhive.dto.JobRequest;
+import com.jobhive.event.JobContentChangedEvent;
+import com.jobhive.event.JobDeletedEvent;
+import com.jobhive.event.JobStatusChangedEvent;
+import com.jobhive.exception.JobNotFoundException;
+import com.jobhive.model.ChangeLogEntry;
+import com.jobhive.model.Job;
+import com.jobhive.model.Resume;
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Service for saved jobs. Every write re-extracts the job's skills and keeps
+ * the in-memory skill match and ranking indexes in step with the database;
+ * the indexes apply a change only once its transaction has committed.
+ */
+@Service
+public class JobService {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SkillExtractor skillExtractor;
+
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private MatchScoreService matchScoreService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SyncService syncService;
+
+    /**
+     * Save a new job for the user
+     * @param userId the owner's ID
+     * @param request job details
+     * @return the saved job
+     */
+    @Transactional
+    public Job createJob(Long userId, JobRequest request) {
+        Job job = new Job(request.getJobTitle(), request.getCompanyName(), userRepository.getReferenceById(userId));
+        apply(job, request);
+        refreshContent(job);
+        Job saved = jobRepository.save(job);
+        contentChanged(userId, saved);
+        syncService.recordChange(userId, ChangeLogEntry.EntityType.JOB, saved.getId());
+        return saved;
+    }
+
+    /**
+     * List the user's saved jobs with their cached match score against the latest parsed resume
+     * @param userId the owner's ID
+     * @param pageable pagination information
+     * @return a page of jobs; a job's score is null while it is being recomputed
+     */
+    public Page<ScoredJob> getJobs(Long userId, Pageable pageable) {
+        Resume resume = matchScoreService.getScoringResume(userId);
+        Long resumeId = resume != null ? resume.getId() : null;
+        int resumeVersion = resume != null ? resume.getContentVersion() : 0;
+        return jobRepository.findWithMatchScoreByUserId(userId, resumeId, resumeVersion, pageable)
+                .map(row -> new ScoredJob((Job) row[0], (Double) row[1]));
+    }
+
+    /**
+     * Get a job owned by the user
+     * @param userId the owner's ID
+     * @param jobId the job ID
+     * @return the job
+     * @throws JobNotFoundException if not found or not owned by the user
+     */
+    public Job getJob(Long userId, Long jobId) {
+        return jobRepository.findByIdAndUser(jobId, userRepository.getReferenceById(userId))
+                .orElseThrow(() -> JobNotFoundException.INSTANCE);
+    }
+
+    /**
+     * Replace the details of a job owned by the user
+     * @param userId the owner's ID
+     * @param jobId the job ID
+     * @param request new job details
+     * @return the updated job
+     */
+    @Transactional
+    public Job updateJob(Long userId, Long jobId, JobRequest request) {
+        Job job = getJob(userId, jobId);
+        boolean contentChanged = !Objects.equals(job.getJobTitle(), request.getJobTitle())
+                || !Objects.equals(job.getJobDescription(), request.getJobDescription())
+                || !Objects.equals(job.getRequirements(), request.getRequirements());
+        Job.ApplicationStatus previousStatus = job.getApplicationStatus();
+        apply(job, request);
+        if (contentChanged) {
+            refreshContent(job);
+        }
+        Job saved = jobRepository.save(job);
+        if (contentChanged) {
+            contentChanged(userId, saved);
+        }
+        if (saved.getApplicationStatus() != previousStatus) {
+            eventPublisher.publishEvent(new JobStatusChangedEvent(userId, saved.getId(), saved.getApplicationStatus()));
+        }
+        syncService.recordChange(userId, ChangeLogEntry.EntityType.JOB, saved.getId());
+        return saved;
+    }
+
+    /**
+     * Delete a job owned by the user
+     * @param userId the owner's ID
+     * @param jobId the job ID
+     */
+    @Transactional
+    public void deleteJob(Long userId, Long jobId) {
+        Job job = getJob(userId, jobId);
+        jobRepository.delete(job);
+        syncService.recordDeletion(userId, ChangeLogEntry.EntityType.JOB, jobId);
+        eventPublisher.publishEvent(new JobDeletedEvent(userId, jobId));
+    }
+
+    /**
+     * Rank the user's saved jobs by how much of each job's skill list a resume covers
+     * @param userId the owner's ID
+     * @param resumeId the resume ID
+     * @param limit maximum number of matches
+     * @return matches ordered best first, with matched and missing skills
+     */
+    public List<JobMatchResponse> findMatchingJobs(Long userId, Long resumeId, int limit) {
+        resumeService.getResume(userId, resumeId);
+
+        List<SkillMatchIndex.SkillMatch> matches = skillMatchIndex.match(userId, resumeId, limit);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Job> jobsById = new HashMap<>();
+        List<Long> ids = matches.stream().map(SkillMatchIndex.SkillMatch::jobId).toList();
+        for (Job job : jobRepository.findByIdInAndUserId(ids, userId)) {
+            jobsById.put(job.getId(), job);
+        }
+
+        List<JobMatchResponse> results = new ArrayList<>(matches.size());
+        for (SkillMatchIndex.SkillMatch match : matches) {
+            Job job = jobsById.get(match.jobId());
+            if (job != null) {
+                results.add(new JobMatchResponse(job, match.score(),
+                        skillCatalog.toDisplayNames(match.matched()),
+                        skillCatalog.toDisplayNames(match.missing())));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Display names of a job's skills
+     * @param job the job
+     * @return skill names
+     */
+    public List<String> getSkillNames(Job job) {
+        return skillCatalog.toDisplayNames(job.getSkillIds());
+    }
+
+    private void apply(Job job, JobRequest request) {
+        job.setJobTitle(request.getJobTitle());
+        job.setCompanyName(request.getCompanyName());
+        job.setJobUrl(request.getJobUrl());
+        job.setLocation(request.getLocation());
+        job.setSalaryRange(request.getSalaryRange());
+        job.setJobType(request.getJobType());
+        if (request.getApplicationStatus() != null) {
+            job.setApplicationStatus(request.getApplicationStatus());
+        }
+        job.setJobDescription(request.getJobDescription());
+        job.setRequirements(request.getRequirements());
+        job.setNotes(request.getNotes());
+        job.setAppliedDate(request.getAppliedDate());
+        job.setDeadline(request.getDeadline());
+    }
+
+    /**
+     * Re-extract skills and bump the content version after the title, description or requirements changed
+     */
+    private void refreshContent(Job job) {
+        job.getSkillIds().clear();
+        job.getSkillIds().addAll(skillCatalog.toIds(skillExtractor.extractJobSkills(job)));
+        job.setContentVersion(job.getContentVersion() + 1);
+    }
+
+    /**
+     * Announce the change; the skill and ranking indexes and cached scores listen for it
+     */
+    private void contentChanged(Long userId, Job job) {
+        eventPublisher.publishEvent(new JobContentChangedEvent(userId, job.getId(), job.getContentVersion(),
+                Set.copyOf(job.getSkillIds()), job.getJobTitle(), job.getJobDescription(), job.getRequirements()));
+    }
+
+    /**
+     * A job with its cached match score
+     * @param job the job
+     * @param matchScore fraction of the job's skills covered by the latest resume, or null if not yet computed
+     */
+    public record ScoredJob(Job job, Double matchScore) {
+    }
+}
@@ -0,0 +1,313 @@
+package com.jobhive.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Line-based diff (Myers' O(ND) algorithm) and a compact text delta format built on it.
+ * <p>
+ * A delta is a sequence of newline-separated records applied to the base text's lines:
+ * {@code =n} copies the next n lines, {@code -n} skips them and {@code +n} is followed
+ * by n literal lines to insert. Its size is proportional to the edit, not the text.
+ */
+final class LineDiff {
+
+    private LineDiff() {
+    }
+
+    enum Type { EQUAL, DELETE, INSERT }
+
+    /**
+     * A run of lines: EQUAL lines a[aIndex..] == b[bIndex..], DELETE lines a[aIndex..]
+     * or INSERT lines b[bIndex..], each {@code length} lines long
+     */
+    record Op(Type type, int aIndex, int bIndex, int length) {
+    }
+
+    /**
+     * A unified-diff hunk; lines are prefixed with ' ', '-' or '+'
+     * @param fromLine first line in the old text (1-based)
+     * @param fromCount number of old lines covered
+     * @param toLine first line in the new text (1-based)
+     * @param toCount number of new lines covered
+     * @param lines the hunk body
+     */
+    record Hunk(int fromLine, int fromCount, int toLine, int toCount, List<String> lines) {
+    }
+
+    /**
+     * Split text into lines so that joining them with '\n' restores it exactly
+     */
+    static String[] lines(String text) {
+        return text.split("\n", -1);
+    }
+
+    /**
+     * Edit script turning a into b. The common prefix and suffix are always kept;
+     * between them a pure insertion or deletion is one run, and anything else gets
+     * the shortest edit script unless that needs more than maxEdits line edits, in
+     * which case the middle section is replaced as a whole.
+     * @param a old lines
+     * @param b new lines
+     * @param maxEdits line edits the O(ND) search may spend on the middle section
+     * @return runs of equal, deleted and inserted lines
+     */
+    static List<Op> diff(String[] a, String[] b, int maxEdits) {
+        // Common prefix and suffix never need the O(ND) search
+        int prefix = 0;
+        while (prefix < a.length && prefix < b.length && a[prefix].equals(b[prefix])) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.length - prefix && suffix < b.length - prefix
+                && a[a.length - 1 - suffix].equals(b[b.length - 1 - suffix])) {
+            suffix++;
+        }
+        int n = a.length - prefix - suffix;
+        int m = b.length - prefix - suffix;
+
+        List<Op> ops = new ArrayList<>();
+        append(ops, Type.EQUAL, 0, 0, prefix);
+        List<Type> edits = n > 0 && m > 0 ? shortestEdit(a, b, prefix, n, m, maxEdits) : null;
+        if (edits == null) {
+            // Nothing to search (one side is empty) or too different: delete and insert the middle
+            append(ops, Type.DELETE, prefix, prefix, n);
+            append(ops, Type.INSERT, prefix + n, prefix, m);
+        } else {
+            int x = prefix;
+            int y = prefix;
+            for (Type type : edits) {
+                append(ops, type, x, y, 1);
+                if (type != Type.INSERT) {
+                    x++;
+                }
+                if (type != Type.DELETE) {
+                    y++;
+                }
+            }
+        }
+        append(ops, Type.EQUAL, prefix + n, prefix + m, suffix);
+        return ops;
+    }
+
+    /**
+     * Myers' greedy forward search over a[off..off+n) and b[off..off+m), then backtracking
+     * through the saved frontier of each step
+     * @return one entry per line in order, or null if more than maxEdits are needed
+     */
+    private static List<Type> shortestEdit(String[] a, String[] b, int off, int n, int m, int maxEdits) {
+        int max = Math.min(n + m, maxEdits);
+        int[] v = new int[2 * max + 3];
+        int center = max + 1;
+        List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= max; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int x = (k == -d || (k != d && v[center + k - 1] < v[center + k + 1]))
+                        ? v[center + k + 1]
+                        : v[center + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && a[off + x].equals(b[off + y])) {
+                    x++;
+                    y++;
+                }
+                v[center + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(trace, n, m, d);
+                }
+            }
+            int[] frontier = new int[2 * d + 1];
+            System.arraycopy(v, center - d, frontier, 0, frontier.length);
+            trace.add(frontier);
+        }
+        return null;
+    }
+
+    private static List<Type> backtrack(List<int[]> trace, int n, int m, int edits) {
+        List<Type> result = new ArrayList<>(n + m);
+        int x = n;
+        int y = m;
+        for (int d = edits; d > 0; d--) {
+            int[] previous = trace.get(d - 1);
+            int k = x - y;
+            int prevK = (k == -d || (k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1])) ? k + 1 : k - 1;
+            int prevX = previous[prevK + d - 1];
+            int prevY = prevX - prevK;
+            while (x > prevX && y > prevY) {
+                result.add(Type.EQUAL);
+                x--;
+                y--;
+            }
+            result.add(x == prevX ? Type.INSERT : Type.DELETE);
+            x = prevX;
+            y = prevY;
+        }
+        for (; x > 0; x--) {
+            result.add(Type.EQUAL);
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    private static void append(List<Op> ops, Type type, int x, int y, int length) {
+        if (length == 0) {
+            return;
+        }
+        if (!ops.isEmpty()) {
+            Op last = ops.get(ops.size() - 1);
+            if (last.type() == type) {
+                ops.set(ops.size() - 1, new Op(type, last.aIndex(), last.bIndex(), last.length() + length));
+                return;
+            }
+        }
+        ops.add(new Op(type, x, y, length));
+    }
+
+    /**
+     * Encode an edit script as a delta
+     * @param b the new lines (source of inserted text)
+     * @param ops the edit script from diff
+     * @return the delta
+     */
+    static String encode(String[] b, List<Op> ops) {
+        StringBuilder delta = new StringBuilder();
+        for (Op op : ops) {
+            if (!delta.isEmpty()) {
+                delta.append('\n');
+            }
+            switch (op.type()) {
+                case EQUAL -> delta.append('=').append(op.length());
+                case DELETE -> delta.append('-').append(op.length());
+                case INSERT -> {
+                    delta.append('+').append(op.length());
+                    for (int i = 0; i < op.length(); i++) {
+                        delta.append('\n').append(b[op.bIndex() + i]);
+                    }
+                }
+            }
+        }
+        return delta.toString();
+    }
+
+    /**
+     * Apply a delta to a base text
+     * @param base the text the delta was computed against
+     * @param delta the delta
+     * @return the new text
+     * @throws IllegalStateException if the delta does not fit the base
+     */
+    static String apply(String base, String delta) {
+        String[] baseLines = lines(base);
+        List<String> out = new ArrayList<>(baseLines.length + 16);
+        int position = 0;
+        if (!delta.isEmpty()) {
+            String[] records = lines(delta);
+            for (int i = 0; i < records.length; i++) {
+                String record = records[i];
+                int count = Integer.parseInt(record, 1, record.length(), 10);
+                switch (record.charAt(0)) {
+                    case '=' -> {
+                        for (int j = 0; j < count; j++) {
+                            out.add(baseLines[position++]);
+                        }
+                    }
+                    case '-' -> position += count;
+                    case '+' -> {
+                        for (int j = 0; j < count; j++) {
+                            out.add(records[++i]);
+                        }
+                    }
+                    default -> throw new IllegalStateException("Corrupt delta record: " + record);
+                }
+            }
+        }
+        if (position != baseLines.length) {
+            throw new IllegalStateException("Delta does not match its base text");
+        }
+        return String.join("\n", out);
+    }
+
+    /**
+     * Group an edit script into unified-diff hunks
+     * @param a old lines
+     * @param b new lines
+     * @param ops the edit script from diff
+     * @param context unchanged lines to show around each change
+     * @return the hunks, empty if the texts are equal
+     */
+    static List<Hunk> hunks(String[] a, String[] b, List<Op> ops, int context) {
+        List<Hunk> hunks = new ArrayList<>();
+        HunkBuilder current = null;
+        Op lastEqual = null;
+        for (int i = 0; i < ops.size(); i++) {
+            Op op = ops.get(i);
+            if (op.type() == Type.EQUAL) {
+                if (current != null) {
+                    if (i < ops.size() - 1 && op.length() <= 2 * context) {
+                        current.equal(a, op.aIndex(), op.length());
+                        continue;
+                    }
+                    current.equal(a, op.aIndex(), Math.min(context, op.length()));
+                    hunks.add(current.build());
+                    current = null;
+                }
+                lastEqual = op;
+                continue;
+            }
+            if (current == null) {
+                int lead = lastEqual != null ? Math.min(context, lastEqual.length()) : 0;
+                current = new HunkBuilder(op.aIndex() - lead, op.bIndex() - lead);
+                current.equal(a, op.aIndex() - lead, lead);
+            }
+            if (op.type() == Type.DELETE) {
+                current.delete(a, op.aIndex(), op.length());
+            } else {
+                current.insert(b, op.bIndex(), op.length());
+            }
+        }
+        if (current != null) {
+            hunks.add(current.build());
+        }
+        return hunks;
+    }
+
+    private static final class HunkBuilder {
+        private final int fromStart;
+        private final int toStart;
+        private int fromCount;
+        private int toCount;
+        private final List<String> lines = new ArrayList<>();
+
+        HunkBuilder(int fromStart, int toStart) {
+            this.fromStart = fromStart;
+            this.toStart = toStart;
+        }
+
+        void equal(String[] a, int from, int length) {
+            for (int i = 0; i < length; i++) {
+                lines.add(' ' + a[from + i]);
+            }
+            fromCount += length;
+            toCount += length;
+        }
+
+        void delete(String[] a, int from, int length) {
+            for (int i = 0; i < length; i++) {
+                lines.add('-' + a[from + i]);
+            }
+            fromCount += length;
+        }
+
+        void insert(String[] b, int from, int length) {
+            for (int i = 0; i < length; i++) {
+                lines.add('+' + b[from + i]);
+            }
+            toCount += length;
+        }
+
+        Hunk build() {
+            return new Hunk(fromStart + 1, fromCount, toStart + 1, toCount, lines);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.jobhive.service;
+
+import com.jobhive.model.User;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind aggregator for login statistics (last login time and login count).
+ * Successful logins are coalesced per user in memory and written with a single
+ * batched UPDATE on a fixed interval and on shutdown, instead of one write per login.
+ * <p>
+ * The map holds at most {@code max-pending} users. Reaching the limit asks the
+ * scheduler for an early flush; login requests never write themselves. While the map
+ * is full, logins of users already pending are still coalesced, but logins of other
+ * users are dropped and counted.
+ */
+@Component
+public class LoginActivityTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginActivityTracker.class);
+
+    private static final String FLUSH_SQL =
+            "UPDATE users SET login_count = COALESCE(login_count, 0) + ?, " +
+            "last_login_at = CASE WHEN last_login_at IS NULL OR last_login_at < ? THEN ? ELSE last_login_at END " +
+            "WHERE id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${app.login-tracking.max-pending:10000}")
+    private int maxPending;
+
+    private final ConcurrentHashMap<Long, LoginDelta> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong droppedLogins = new AtomicLong();
+    private final AtomicLong droppedSinceLastFlush = new AtomicLong();
+
+    /**
+     * Record a successful login
+     * @param userId the user ID
+     */
+    public void recordLogin(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (!merge(userId, new LoginDelta(1, LocalDateTime.now()))) {
+            droppedLogins.incrementAndGet();
+            droppedSinceLastFlush.incrementAndGet();
+        }
+        if (pending.size() >= maxPending) {
+            requestFlush();
+        }
+    }
+
+    /**
+     * Fold logins that have not been written yet into a user loaded from the database
+     * @param user the user entity (its login columns are read-only for JPA)
+     * @return the same user
+     */
+    public User applyPending(User user) {
+        LoginDelta delta = user.getId() != null ? pending.get(user.getId()) : null;
+        if (delta != null) {
+            long persisted = user.getLoginCount() != null ? user.getLoginCount() : 0;
+            user.setLoginCount(persisted + delta.count());
+            if (user.getLastLoginAt() == null || user.getLastLoginAt().isBefore(delta.lastLoginAt())) {
+                user.setLastLoginAt(delta.lastLoginAt());
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Drop a user's unwritten logins (the user is being deleted)
+     * @param userId the user ID
+     */
+    public void discard(Long userId) {
+        pending.remove(userId);
+    }
+
+    /**
+     * Periodic flush of coalesced login events
+     */
+    @Scheduled(fixedDelayString = "${app.login-tracking.flush-interval-ms:30000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * Write any remaining events before the datasource goes away
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getDroppedCount() {
+        return droppedLogins.get();
+    }
+
+    /**
+     * Coalesce a delta into the pending map without growing it past the limit
+     * @param userId the user ID
+     * @param delta the logins to add
+     * @return false if the map is full and the user had nothing pending
+     */
+    private boolean merge(Long userId, LoginDelta delta) {
+        if (pending.size() < maxPending) {
+            pending.merge(userId, delta, LoginDelta::combine);
+            return true;
+        }
+        return pending.computeIfPresent(userId, (id, existing) -> existing.combine(delta)) != null;
+    }
+
+    /**
+     * Ask the scheduler for an early flush. At most one request is outstanding; it is
+     * cleared by the next successful flush, so a failing database is retried on the
+     * regular interval rather than on every login.
+     */
+    private void requestFlush() {
+        if (!flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            taskScheduler.schedule(this::flush, Instant.now());
+        } catch (TaskRejectedException e) {
+            flushRequested.set(false);
+        }
+    }
+
+    /**
+     * Drain the pending map and write it as one JDBC batch in a single transaction
+     * @return number of users updated
+     */
+    int flush() {
+        flushLock.lock();
+        try {
+            long dropped = droppedSinceLastFlush.getAndSet(0);
+            if (dropped > 0) {
+                log.warn("Dropped {} logins because {} users were already waiting to be flushed",
+                        dropped, maxPending);
+            }
+            if (pending.isEmpty()) {
+                flushRequested.set(false);
+                return 0;
+            }
+            List<Map.Entry<Long, LoginDelta>> drained = new ArrayList<>(pending.size());
+            for (Long userId : pending.keySet()) {
+                LoginDelta delta = pending.remove(userId);
+                if (delta != null) {
+                    drained.add(Map.entry(userId, delta));
+                }
+            }
+
+            try {
+                // One transaction: a batch that fails partway leaves no rows written,
+                // so requeueing all of them below cannot count a login twice
+                new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                        jdbcTemplate.batchUpdate(FLUSH_SQL, drained, drained.size(), (ps, entry) -> {
+                            Timestamp lastLogin = Timestamp.valueOf(entry.getValue().lastLoginAt());
+                            ps.setLong(1, entry.getValue().count());
+                            ps.setTimestamp(2, lastLogin);
+                            ps.setTimestamp(3, lastLogin);
+                            ps.setLong(4, entry.getKey());
+                        }));
+                flushRequested.set(false);
+                log.debug("Flushed login activity for {} users", drained.size());
+                return drained.size();
+            } catch (RuntimeException e) {
+                // Put the events back so they are retried on the next flush
+                int requeued = 0;
+                for (Map.Entry<Long, LoginDelta> entry : drained) {
+                    if (merge(entry.getKey(), entry.getValue())) {
+                        requeued++;
+                    }
+                }
+                if (requeued < drained.size()) {
+                    log.warn("Dropping login activity for {} of {} users after failed flush",
+                            drained.size() - requeued, drained.size());
+                }
+                log.error("Failed to flush login activity", e);
+                return 0;
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Coalesced login events for one user
+     */
+    private record LoginDelta(long count, LocalDateTime lastLoginAt) {
+
+        LoginDelta combine(LoginDelta other) {
+            return new LoginDelta(count + other.count,
+                    lastLoginAt.isAfter(other.lastLoginAt) ? lastLoginAt : other.lastLoginAt);
+        }
+    }
+}
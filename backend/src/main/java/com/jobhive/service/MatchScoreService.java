@@ -0,0 +1,192 @@
+package com.jobhive.service;
+
+import com.jobhive.event.JobContentChangedEvent;
+import com.jobhive.event.JobDeletedEvent;
+import com.jobhive.event.JobsArchivedEvent;
+import com.jobhive.event.ResumeParsedEvent;
+import com.jobhive.model.MatchScore;
+import com.jobhive.model.MatchScoreId;
+import com.jobhive.model.Resume;
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.MatchScoreRepository;
+import com.jobhive.repository.ResumeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains the match_scores cache. Entity change events delete exactly the rows
+ * they make stale and queue the affected pairs; a background sweep drains the
+ * queue, so a burst of edits to the same job or resume is recomputed once.
+ * Readers never wait for a recompute: a row whose versions no longer match the
+ * resume and job is simply not joined.
+ */
+@Service
+public class MatchScoreService {
+
+    private static final Logger log = LoggerFactory.getLogger(MatchScoreService.class);
+
+    @Autowired
+    private MatchScoreRepository matchScoreRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    /** Jobs whose scores must be recomputed, keyed by job ID, valued by owner ID */
+    private final ConcurrentHashMap<Long, Long> pendingJobs = new ConcurrentHashMap<>();
+
+    /** Resumes whose scores must be recomputed, keyed by resume ID, valued by owner ID */
+    private final ConcurrentHashMap<Long, Long> pendingResumes = new ConcurrentHashMap<>();
+
+    // Listeners run after the publishing transaction commits, so they need a transaction of their own
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onJobContentChanged(JobContentChangedEvent event) {
+        matchScoreRepository.deleteByJobId(event.jobId());
+        pendingJobs.put(event.jobId(), event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onJobDeleted(JobDeletedEvent event) {
+        pendingJobs.remove(event.jobId());
+        matchScoreRepository.deleteByJobId(event.jobId());
+    }
+
+    // The archiver deletes the score rows itself; only the queue needs clearing
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsArchived(JobsArchivedEvent event) {
+        event.jobIds().forEach(pendingJobs::remove);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onResumeParsed(ResumeParsedEvent event) {
+        matchScoreRepository.deleteByResumeId(event.resumeId());
+        pendingResumes.put(event.resumeId(), event.userId());
+    }
+
+    /**
+     * Recompute everything queued since the last sweep. A re-parsed resume is scored
+     * against all of its owner's jobs; a changed job is scored against its owner's
+     * latest parsed resume.
+     */
+    @Scheduled(fixedDelayString = "${app.match-scores.recompute-interval-ms:2000}")
+    public void recomputePending() {
+        if (pendingJobs.isEmpty() && pendingResumes.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        int written = 0;
+
+        Map<Long, Long> resumes = drain(pendingResumes);
+        for (Map.Entry<Long, Long> entry : resumes.entrySet()) {
+            try {
+                written += recomputeResume(entry.getValue(), entry.getKey());
+            } catch (RuntimeException e) {
+                log.warn("Failed to recompute match scores for resume {}, will retry: {}", entry.getKey(), e.getMessage());
+                pendingResumes.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+
+        // Group changed jobs by owner so each owner's latest resume is looked up once
+        Map<Long, Set<Long>> jobsByUser = new HashMap<>();
+        drain(pendingJobs).forEach((jobId, userId) -> jobsByUser.computeIfAbsent(userId, k -> new HashSet<>()).add(jobId));
+        for (Map.Entry<Long, Set<Long>> entry : jobsByUser.entrySet()) {
+            try {
+                written += recomputeJobs(entry.getKey(), entry.getValue(), resumes.keySet());
+            } catch (RuntimeException e) {
+                log.warn("Failed to recompute match scores for user {}, will retry: {}", entry.getKey(), e.getMessage());
+                entry.getValue().forEach(jobId -> pendingJobs.putIfAbsent(jobId, entry.getKey()));
+            }
+        }
+
+        log.debug("Recomputed {} match scores in {} ms", written, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Resume whose cached scores back the user's job list (their most recent parsed resume)
+     * @param userId the user ID
+     * @return the resume, or null if the user has none
+     */
+    public Resume getScoringResume(Long userId) {
+        return resumeRepository.findFirstByUserIdAndStatusOrderByIdDesc(userId, Resume.ParseStatus.DONE).orElse(null);
+    }
+
+    /**
+     * Forget queued recomputes for a user's jobs and resumes (the user is being deleted)
+     * @param userId the user ID
+     */
+    public void discardUser(Long userId) {
+        pendingJobs.values().removeIf(userId::equals);
+        pendingResumes.values().removeIf(userId::equals);
+    }
+
+    public int getPendingCount() {
+        return pendingJobs.size() + pendingResumes.size();
+    }
+
+    private int recomputeResume(Long userId, Long resumeId) {
+        Resume resume = resumeRepository.findById(resumeId).orElse(null);
+        if (resume == null || resume.getStatus() != Resume.ParseStatus.DONE) {
+            return 0;
+        }
+        return store(userId, resume, jobRepository.findContentVersionsByUserId(userId));
+    }
+
+    private int recomputeJobs(Long userId, Set<Long> jobIds, Set<Long> alreadyScoredResumes) {
+        Resume resume = getScoringResume(userId);
+        if (resume == null || alreadyScoredResumes.contains(resume.getId())) {
+            // A resume recomputed in this sweep already covered every job of its owner
+            return 0;
+        }
+        return store(userId, resume, jobRepository.findContentVersionsByIdIn(jobIds));
+    }
+
+    private int store(Long userId, Resume resume, List<Object[]> jobVersions) {
+        if (jobVersions.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Integer> versions = new HashMap<>();
+        for (Object[] row : jobVersions) {
+            versions.put((Long) row[0], (Integer) row[1]);
+        }
+
+        Map<Long, SkillMatchIndex.Coverage> coverage = skillMatchIndex.coverage(userId, resume.getId(), versions.keySet());
+        List<MatchScore> scores = new ArrayList<>(coverage.size());
+        coverage.forEach((jobId, c) -> scores.add(new MatchScore(new MatchScoreId(resume.getId(), jobId),
+                resume.getContentVersion(), versions.get(jobId), c.score(), c.matched(), c.required())));
+        matchScoreRepository.saveAll(scores);
+        return scores.size();
+    }
+
+    private static Map<Long, Long> drain(ConcurrentHashMap<Long, Long> pending) {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Iterator<Map.Entry<Long, Long>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<Long, Long> entry = it.next();
+            drained.put(entry.getKey(), entry.getValue());
+            it.remove();
+        }
+        return drained;
+    }
+}
@@ -0,0 +1,347 @@
+package com.jobhive.service;
+
+import com.jobhive.event.ResumeParsedEvent;
+import com.jobhive.model.Resume;
+import com.jobhive.model.ResumeAnalysis;
+import com.jobhive.repository.ResumeAnalysisRepository;
+import com.jobhive.repository.ResumeRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills Resume.aiSuggestions using the configured ResumeAnalyzer. Analyzer calls are
+ * the most expensive thing the backend does, so they are amortized three ways:
+ * <ul>
+ *   <li>results are memoized by a hash of the analyzer id and resume content, and
+ *       resumes waiting on the same hash share one in-flight request;</li>
+ *   <li>requests from all users are micro-batched: a batch is sent once it is full
+ *       or the oldest request has waited the configured time;</li>
+ *   <li>at most a fixed number of calls are outstanding, each bounded by a timeout.</li>
+ * </ul>
+ * Resumes whose analysis failed or was dropped stay without suggestions and are
+ * picked up again by the requeue sweep.
+ */
+@Service
+public class ResumeAnalysisService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeAnalysisService.class);
+
+    private static final int REQUEUE_BATCH_SIZE = 50;
+
+    @Autowired
+    private ResumeAnalyzer resumeAnalyzer;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeAnalysisRepository resumeAnalysisRepository;
+
+    @Autowired
+    private SkillExtractor skillExtractor;
+
+    @Autowired
+    private ResumeVersionService resumeVersionService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("resumeAnalysisExecutor")
+    private ThreadPoolTaskExecutor resumeAnalysisExecutor;
+
+    @Value("${app.analyzer.batch-size:16}")
+    private int batchSize;
+
+    @Value("${app.analyzer.batch-max-wait:50ms}")
+    private Duration batchMaxWait;
+
+    @Value("${app.analyzer.max-concurrent-calls:2}")
+    private int maxConcurrentCalls;
+
+    @Value("${app.analyzer.timeout:30s}")
+    private Duration timeout;
+
+    @Value("${app.analyzer.queue-capacity:1000}")
+    private int queueCapacity;
+
+    /** Analyses queued or running, keyed by memoization key */
+    private final ConcurrentHashMap<String, PendingAnalysis> inFlight = new ConcurrentHashMap<>();
+
+    private BlockingQueue<PendingAnalysis> queue;
+    private Semaphore callPermits;
+    private Thread batcher;
+    private volatile boolean running;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        callPermits = new Semaphore(maxConcurrentCalls);
+        running = true;
+        batcher = new Thread(this::runBatcher, "resume-analysis-batcher");
+        batcher.setDaemon(true);
+        batcher.start();
+        log.info("Resume analyzer '{}' ready: batches of up to {}, {} concurrent calls, {} timeout",
+                resumeAnalyzer.getId(), batchSize, maxConcurrentCalls, timeout);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        batcher.interrupt();
+        batcher.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onResumeParsed(ResumeParsedEvent event) {
+        requestAnalysis(event.resumeId());
+    }
+
+    /**
+     * Analyze a parsed resume unless it already has suggestions. A memoized result is
+     * stored straight away; otherwise the resume joins the in-flight request for the
+     * same content or a new one is queued.
+     * @param resumeId the resume ID
+     */
+    public void requestAnalysis(Long resumeId) {
+        Resume resume = resumeRepository.findById(resumeId).orElse(null);
+        if (resume == null || resume.getStatus() != Resume.ParseStatus.DONE || resume.getAiSuggestions() != null) {
+            return;
+        }
+
+        ResumeAnalyzer.Request request = toRequest(resume);
+        ResumeAnalysis memoized = resumeAnalysisRepository.findById(request.key()).orElse(null);
+        if (memoized != null) {
+            storeSuggestions(List.of(resumeId), memoized.getResult());
+            return;
+        }
+
+        PendingAnalysis[] created = new PendingAnalysis[1];
+        inFlight.compute(request.key(), (key, existing) -> {
+            PendingAnalysis pending = existing;
+            if (pending == null) {
+                pending = new PendingAnalysis(request);
+                created[0] = pending;
+            }
+            pending.resumeIds.add(resumeId);
+            return pending;
+        });
+        if (created[0] != null && !queue.offer(created[0])) {
+            inFlight.remove(request.key(), created[0]);
+            log.warn("Resume analysis queue full, resume {} will be retried by the requeue sweep", resumeId);
+        }
+    }
+
+    /**
+     * Re-request analysis for parsed resumes that still have none (failed, timed out or dropped)
+     */
+    @Scheduled(fixedDelayString = "${app.analyzer.requeue-interval-ms:300000}")
+    public void requeueUnanalyzed() {
+        List<Long> ids = resumeRepository.findIdsWithoutAnalysis(Resume.ParseStatus.DONE,
+                LocalDateTime.now().minus(timeout.multipliedBy(2)), PageRequest.of(0, REQUEUE_BATCH_SIZE));
+        for (Long id : ids) {
+            requestAnalysis(id);
+        }
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private void runBatcher() {
+        while (running) {
+            try {
+                PendingAnalysis first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingAnalysis> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                long deadline = System.nanoTime() + batchMaxWait.toNanos();
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingAnalysis next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                // Wait for a free call slot; whatever queued up meanwhile rides along
+                callPermits.acquire();
+                queue.drainTo(batch, batchSize - batch.size());
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Resume analysis batcher error", e);
+            }
+        }
+    }
+
+    private void dispatch(List<PendingAnalysis> batch) {
+        List<ResumeAnalyzer.Request> requests = new ArrayList<>(batch.size());
+        for (PendingAnalysis pending : batch) {
+            requests.add(pending.request);
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<Map<String, String>> call;
+        try {
+            call = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return resumeAnalyzer.analyze(requests);
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                } finally {
+                    // Released when the call really ends, not on timeout, so the limit holds
+                    callPermits.release();
+                }
+            }, resumeAnalysisExecutor);
+        } catch (RejectedExecutionException e) {
+            callPermits.release();
+            complete(batch, null, e, start);
+            return;
+        }
+        call.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((results, error) -> complete(batch, results, error, start));
+    }
+
+    private void complete(List<PendingAnalysis> batch, Map<String, String> results, Throwable error, long start) {
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            log.warn("Resume analysis batch of {} failed after {} ms: {}", batch.size(), elapsedMs, cause.toString());
+            batch.forEach(pending -> inFlight.remove(pending.request.key(), pending));
+            return;
+        }
+        log.debug("Analyzed batch of {} resumes in {} ms", batch.size(), elapsedMs);
+
+        List<ResumeAnalysis> memo = new ArrayList<>(batch.size());
+        for (PendingAnalysis pending : batch) {
+            String result = results.get(pending.request.key());
+            if (result != null) {
+                memo.add(new ResumeAnalysis(pending.request.key(), resumeAnalyzer.getId(), result));
+            }
+        }
+        try {
+            // Memoize before leaving in-flight so a concurrent request sees one or the other
+            resumeAnalysisRepository.saveAll(memo);
+        } catch (RuntimeException e) {
+            log.warn("Failed to memoize resume analyses: {}", e.getMessage());
+        }
+
+        for (PendingAnalysis pending : batch) {
+            inFlight.remove(pending.request.key(), pending);
+            String result = results.get(pending.request.key());
+            if (result == null) {
+                log.warn("Analyzer returned no result for resumes {}", pending.resumeIds);
+                continue;
+            }
+            try {
+                storeSuggestions(pending.resumeIds, result);
+            } catch (RuntimeException e) {
+                log.warn("Failed to store analysis for resumes {}: {}", pending.resumeIds, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Store suggestions and their change_log rows in one transaction, so a resume never
+     * gains suggestions that delta-sync clients are not told about
+     */
+    private void storeSuggestions(Collection<Long> resumeIds, String result) {
+        transactionTemplate.executeWithoutResult(status -> {
+            resumeRepository.storeAiSuggestions(resumeIds, result);
+            syncService.recordResumeChanges(resumeIds);
+        });
+    }
+
+    private ResumeAnalyzer.Request toRequest(Resume resume) {
+        List<String> skills = new ArrayList<>();
+        for (String code : SkillExtractor.fromStoredForm(resume.getSkills())) {
+            SkillExtractor.Skill skill = skillExtractor.getSkill(code);
+            if (skill != null) {
+                skills.add(skill.displayName());
+            }
+        }
+        String content = resumeVersionService.getParsedContent(resume);
+        String key = memoKey(resumeAnalyzer.getId(), skillExtractor.getVersion(), content,
+                resume.getExperience(), resume.getEducation());
+        return new ResumeAnalyzer.Request(key, content, skills, resume.getExperience(),
+                resume.getEducation());
+    }
+
+    /**
+     * SHA-256 over everything the analyzer sees, so equal keys mean equal results
+     */
+    private static String memoKey(String analyzerId, int dictionaryVersion, String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((analyzerId + '\0' + dictionaryVersion).getBytes(StandardCharsets.UTF_8));
+            for (String part : parts) {
+                digest.update((byte) 0);
+                if (part != null) {
+                    digest.update(part.getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static final class PendingAnalysis {
+        final ResumeAnalyzer.Request request;
+        final Set<Long> resumeIds = ConcurrentHashMap.newKeySet();
+
+        PendingAnalysis(ResumeAnalyzer.Request request) {
+            this.request = request;
+        }
+    }
+}
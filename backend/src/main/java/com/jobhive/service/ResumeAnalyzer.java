@@ -0,0 +1,39 @@
+package com.jobhive.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Analyzer backend that produces the JSON stored in Resume.aiSuggestions.
+ * Implementations receive requests in batches and must be safe to call from
+ * several threads; ResumeAnalysisService handles batching, memoization,
+ * concurrency limits and timeouts.
+ */
+public interface ResumeAnalyzer {
+
+    /**
+     * Identifies the analyzer and the version of its rules or model. Part of the
+     * memoization key, so it must change whenever results for the same input would.
+     * @return the analyzer id
+     */
+    String getId();
+
+    /**
+     * Analyze a batch of resumes
+     * @param batch the resumes to analyze
+     * @return JSON result per request key; requests missing from the map are treated as failed
+     * @throws Exception if the whole batch failed
+     */
+    Map<String, String> analyze(List<Request> batch) throws Exception;
+
+    /**
+     * One resume to analyze
+     * @param key memoization key, unique within a batch
+     * @param content parsed resume text
+     * @param skills display names of the extracted skills
+     * @param experience extracted experience section, may be null
+     * @param education extracted education section, may be null
+     */
+    record Request(String key, String content, List<String> skills, String experience, String education) {
+    }
+}
@@ -0,0 +1,274 @@
+package com.jobhive.service;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Local content-addressed store for resume files. Blobs are keyed by the SHA-256
+ * of their bytes and sharded two levels deep (ab/cd/abcd...), so identical uploads
+ * are stored once. Writes go to a temp file through a FileChannel, are forced to
+ * disk and then moved into place atomically; a blob path is therefore either
+ * absent or complete.
+ * <p>
+ * A stored blob is pinned until the caller has saved the resume that references it
+ * (see release). Committing and deleting the same hash are serialized by a striped
+ * lock, and a delete skips pinned or still referenced blobs, so a concurrent upload
+ * that was deduplicated against a blob can never lose it to an account deletion.
+ */
+@Component
+public class ResumeBlobStore {
+
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LOCK_STRIPES = 64;
+
+    @Value("${app.resume.blob-dir}")
+    private String blobDir;
+
+    private Path root;
+    private Path tempDir;
+
+    /**
+     * Per-hash locks for commit and delete. ReentrantLock rather than synchronized:
+     * the reference check before a delete does JDBC I/O while holding the lock.
+     */
+    private final ReentrantLock[] hashLocks = new ReentrantLock[LOCK_STRIPES];
+
+    /** Blobs handed out by store/storeFile whose resume may not be saved yet, with a count per hash */
+    private final ConcurrentHashMap<String, Integer> pins = new ConcurrentHashMap<>();
+
+    public ResumeBlobStore() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            hashLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Paths.get(blobDir).toAbsolutePath();
+        tempDir = root.resolve("tmp");
+        Files.createDirectories(tempDir);
+    }
+
+    /**
+     * Store a stream, hashing it while it is written. The blob stays pinned until release.
+     * @param in the content
+     * @return the stored blob (hash, size, and whether an identical blob already existed)
+     * @throws IOException if the content cannot be written
+     */
+    public StoredBlob store(InputStream in) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "blob-", ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size = 0;
+            try (ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+                while (source.read(buffer) >= 0) {
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        size += out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(true);
+            }
+            return commit(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Create an empty file in the store's temp directory, on the same file system
+     * as the blobs so it can later be moved into place atomically with storeFile
+     * @param prefix file name prefix
+     * @return the new file
+     * @throws IOException if the file cannot be created
+     */
+    public Path createTempFile(String prefix) throws IOException {
+        return Files.createTempFile(tempDir, prefix, ".part");
+    }
+
+    /**
+     * Compute the SHA-256 of a file by streaming it through a direct buffer
+     * @param file the file
+     * @return the hex digest
+     * @throws IOException if the file cannot be read
+     */
+    public String digest(Path file) throws IOException {
+        MessageDigest digest = sha256();
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (in.read(buffer) >= 0) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Move a fully written temp file into the store. The caller must have computed
+     * the hash from the file's content (see digest); the file is forced to disk first.
+     * The blob stays pinned until release.
+     * @param file a file created by createTempFile
+     * @param hash SHA-256 hex digest of the file
+     * @return the stored blob
+     * @throws IOException if the file cannot be moved
+     */
+    public StoredBlob storeFile(Path file, String hash) throws IOException {
+        try {
+            long size;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.force(true);
+                size = channel.size();
+            }
+            return commit(file, hash, size);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private StoredBlob commit(Path temp, String hash, long size) throws IOException {
+        ReentrantLock lock = lockFor(hash);
+        lock.lock();
+        try {
+            StoredBlob blob = moveIntoPlace(temp, hash, size);
+            pins.merge(hash, 1, Integer::sum);
+            return blob;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private StoredBlob moveIntoPlace(Path temp, String hash, long size) throws IOException {
+        Path target = resolve(hash);
+        if (Files.exists(target)) {
+            return new StoredBlob(hash, size, true);
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredBlob(hash, size, false);
+        } catch (FileAlreadyExistsException e) {
+            // A concurrent upload of the same content won the race
+            return new StoredBlob(hash, size, true);
+        }
+    }
+
+    /**
+     * Unpin a blob returned by store or storeFile, once the resume referencing it has
+     * been saved (or will not be)
+     * @param hash the SHA-256 hex digest
+     */
+    public void release(String hash) {
+        pins.computeIfPresent(hash, (h, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Path of a blob on disk
+     * @param hash the SHA-256 hex digest
+     * @return the blob path (which may not exist)
+     */
+    public Path resolve(String hash) {
+        if (hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            throw new IllegalArgumentException("Invalid content hash");
+        }
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(hash);
+    }
+
+    /**
+     * Check whether a blob is stored
+     * @param hash the SHA-256 hex digest
+     * @return true if the blob exists
+     */
+    public boolean exists(String hash) {
+        return Files.exists(resolve(hash));
+    }
+
+    /**
+     * Copy a blob to a channel using FileChannel.transferTo, which lets the
+     * kernel move the bytes without copying them through the Java heap
+     * @param hash the SHA-256 hex digest
+     * @param target the destination channel
+     * @throws IOException if the blob cannot be read
+     */
+    public void transferTo(String hash, WritableByteChannel target) throws IOException {
+        try (FileChannel in = FileChannel.open(resolve(hash), StandardOpenOption.READ)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    /**
+     * Delete a blob unless an upload still holds it or something references it. The
+     * reference check runs under the hash's lock, so no commit of the same content
+     * can slip in between the check and the delete.
+     * @param hash the SHA-256 hex digest
+     * @param referenced tells whether a saved resume still points at the hash
+     * @return true if a blob was deleted
+     * @throws IOException if the file exists but cannot be deleted
+     */
+    public boolean deleteIfUnreferenced(String hash, Predicate<String> referenced) throws IOException {
+        Path blob = resolve(hash);
+        ReentrantLock lock = lockFor(hash);
+        lock.lock();
+        try {
+            if (pins.containsKey(hash) || referenced.test(hash)) {
+                return false;
+            }
+            return Files.deleteIfExists(blob);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ReentrantLock lockFor(String hash) {
+        return hashLocks[Math.floorMod(hash.hashCode(), LOCK_STRIPES)];
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * A blob in the store
+     * @param hash SHA-256 hex digest of the content
+     * @param size content length in bytes
+     * @param deduplicated true if identical content was already stored
+     */
+    public record StoredBlob(String hash, long size, boolean deduplicated) {
+    }
+}
@@ -0,0 +1,120 @@
+package com.jobhive.service;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Receives resume text one paragraph at a time and routes it into the full
+ * text and the experience/education sections in the same pass. Every buffer
+ * is capped, so memory per parse is bounded regardless of document size.
+ */
+class ResumeSectionCollector {
+
+    private static final int MAX_HEADING_LENGTH = 40;
+
+    private static final Set<String> EXPERIENCE_HEADINGS = Set.of(
+            "experience", "work experience", "professional experience", "relevant experience",
+            "employment", "employment history", "work history", "career history");
+
+    private static final Set<String> EDUCATION_HEADINGS = Set.of(
+            "education", "academic background", "education and training", "qualifications",
+            "academic qualifications");
+
+    private static final Set<String> OTHER_HEADINGS = Set.of(
+            "summary", "professional summary", "profile", "objective", "skills", "technical skills",
+            "core competencies", "projects", "certifications", "awards", "publications", "languages",
+            "interests", "hobbies", "references", "volunteer experience", "volunteering", "contact");
+
+    private enum Section { NONE, EXPERIENCE, EDUCATION }
+
+    private final int maxChars;
+    private final StringBuilder content = new StringBuilder();
+    private final StringBuilder experience = new StringBuilder();
+    private final StringBuilder education = new StringBuilder();
+    private Section current = Section.NONE;
+    private boolean truncated = false;
+
+    ResumeSectionCollector(int maxChars) {
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * Accept one paragraph (or spreadsheet row) of text
+     * @param paragraph the paragraph text, without a trailing newline
+     */
+    void paragraph(CharSequence paragraph) {
+        String line = paragraph.toString().strip();
+        if (line.isEmpty()) {
+            return;
+        }
+        append(content, line);
+
+        Section heading = classifyHeading(line);
+        if (heading != null) {
+            current = heading;
+            return;
+        }
+        switch (current) {
+            case EXPERIENCE -> append(experience, line);
+            case EDUCATION -> append(education, line);
+            default -> { }
+        }
+    }
+
+    /**
+     * Whether all buffers are full and further input would be discarded
+     */
+    boolean isFull() {
+        return truncated && content.length() >= maxChars;
+    }
+
+    ResumeTextExtractor.ParsedResume result() {
+        return new ResumeTextExtractor.ParsedResume(
+                content.toString(),
+                experience.length() > 0 ? experience.toString() : null,
+                education.length() > 0 ? education.toString() : null);
+    }
+
+    private void append(StringBuilder target, String line) {
+        int room = maxChars - target.length();
+        if (room <= 0) {
+            truncated = true;
+            return;
+        }
+        if (target.length() > 0) {
+            target.append('\n');
+            room--;
+        }
+        if (line.length() > room) {
+            target.append(line, 0, Math.max(0, room));
+            truncated = true;
+        } else {
+            target.append(line);
+        }
+    }
+
+    /**
+     * @return the section a heading line starts, NONE for unrelated headings,
+     *         or null if the line is not a heading
+     */
+    private static Section classifyHeading(String line) {
+        if (line.length() > MAX_HEADING_LENGTH) {
+            return null;
+        }
+        String key = line.toLowerCase(Locale.ROOT)
+                .replaceAll("[^a-z& ]", "")
+                .replace("&", "and")
+                .trim()
+                .replaceAll("\\s+", " ");
+        if (EXPERIENCE_HEADINGS.contains(key)) {
+            return Section.EXPERIENCE;
+        }
+        if (EDUCATION_HEADINGS.contains(key)) {
+            return Section.EDUCATION;
+        }
+        if (OTHER_HEADINGS.contains(key)) {
+            return Section.NONE;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,368 @@
+package com.jobhive.service;
+
+import com.jobhive.event.ResumeParseFailedEvent;
+import com.jobhive.event.ResumeParsedEvent;
+import com.jobhive.exception.InvalidUploadException;
+import com.jobhive.exception.ResumeNotFoundException;
+import com.jobhive.model.ChangeLogEntry;
+import com.jobhive.model.Resume;
+import com.jobhive.repository.ResumeRepository;
+import com.jobhive.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resume ingestion: uploads are written to the blob store and acknowledged immediately,
+ * parsing runs on a bounded background pool and moves each resume through
+ * PENDING -> PARSING -> DONE/FAILED. No request thread or DB connection is held
+ * while a document is parsed.
+ * <p>
+ * Each parse attempt holds a claim token with a short lease that a heartbeat renews
+ * while the worker is alive. Only resumes whose lease lapsed are put back to PENDING,
+ * and a worker that lost its claim cannot write its result.
+ * <p>
+ * Every resume write commits together with its change_log row, so delta-sync clients
+ * never miss a new or parsed resume. The writes run from the parser pool and from
+ * other beans, so they use a TransactionTemplate rather than @Transactional.
+ */
+@Service
+public class ResumeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeService.class);
+
+    private static final int MAX_FAILURE_REASON_LENGTH = 500;
+    private static final int REQUEUE_BATCH_SIZE = 50;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ResumeTextExtractor resumeTextExtractor;
+
+    @Autowired
+    private ResumeBlobStore resumeBlobStore;
+
+    @Autowired
+    private SkillExtractor skillExtractor;
+
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private ResumeVersionService resumeVersionService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("resumeParsingExecutor")
+    private ThreadPoolTaskExecutor resumeParsingExecutor;
+
+    @Value("${app.resume.parse-timeout:10m}")
+    private Duration parseTimeout;
+
+    @Value("${app.resume.claim-lease:1m}")
+    private Duration claimLease;
+
+    /** Claims held by parse attempts running in this instance, renewed by the heartbeat */
+    private final Map<Long, ParseClaim> activeClaims = new ConcurrentHashMap<>();
+
+    /** Resumes waiting in the parser queue, so the sweep does not queue them again */
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Accept a resume upload: store it in the blob store and create a resume.
+     * If identical content was parsed before, the earlier results are reused and
+     * the resume is DONE immediately; otherwise it is PENDING and queued for parsing.
+     * @param userId the owner's ID
+     * @param file the uploaded file
+     * @return the newly created resume
+     * @throws InvalidUploadException if the file is empty or of an unsupported type
+     */
+    public Resume uploadResume(Long userId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new InvalidUploadException(HttpStatus.BAD_REQUEST, "File is empty");
+        }
+        String fileName = cleanFileName(file.getOriginalFilename());
+        String fileType = checkFileType(fileName);
+
+        // Store before touching the database so no connection is held during the copy
+        ResumeBlobStore.StoredBlob blob;
+        try (InputStream in = file.getInputStream()) {
+            blob = resumeBlobStore.store(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store uploaded resume", e);
+        }
+        return createResume(userId, fileName, fileType, blob);
+    }
+
+    /**
+     * Create a resume for a file already in the blob store, reusing earlier parse
+     * results for identical content or queueing it for parsing. Releases the blob's
+     * pin once the resume is saved.
+     * @param userId the owner's ID
+     * @param fileName the cleaned original file name
+     * @param fileType the lower-case file extension
+     * @param blob the stored file
+     * @return the newly created resume
+     */
+    Resume createResume(Long userId, String fileName, String fileType, ResumeBlobStore.StoredBlob blob) {
+        Resume saved;
+        try {
+            Resume resume = new Resume(fileName, fileType, blob.size(),
+                    userRepository.getReferenceById(userId));
+            resume.setContentHash(blob.hash());
+            resume.setStatus(Resume.ParseStatus.PENDING);
+
+            // Same bytes parse to the same text: reuse an earlier result and skip parsing
+            Resume parsedTwin = blob.deduplicated()
+                    ? resumeRepository.findFirstByContentHashAndStatusOrderByIdDesc(blob.hash(), Resume.ParseStatus.DONE).orElse(null)
+                    : null;
+            if (parsedTwin != null) {
+                resume.setParsedContent(resumeVersionService.getParsedContent(parsedTwin));
+                resume.setSkills(parsedTwin.getSkills());
+                resume.setSkillIds(skillCatalog.toIds(SkillExtractor.fromStoredForm(parsedTwin.getSkills())));
+                resume.setExperience(parsedTwin.getExperience());
+                resume.setEducation(parsedTwin.getEducation());
+                resume.setAiSuggestions(parsedTwin.getAiSuggestions());
+                resume.setStatus(Resume.ParseStatus.DONE);
+                resume.setContentVersion(1);
+            }
+            saved = transactionTemplate.execute(status -> {
+                Resume inserted = resumeRepository.save(resume);
+                syncService.recordChange(userId, ChangeLogEntry.EntityType.RESUME, inserted.getId());
+                return inserted;
+            });
+        } finally {
+            resumeBlobStore.release(blob.hash());
+        }
+
+        if (saved.getStatus() == Resume.ParseStatus.PENDING) {
+            submitForParsing(saved.getId());
+        } else {
+            skillMatchIndex.putResume(userId, saved.getId(), saved.getSkillIds());
+            eventPublisher.publishEvent(new ResumeParsedEvent(userId, saved.getId()));
+        }
+        return saved;
+    }
+
+    /**
+     * Get a resume owned by the user
+     * @param userId the owner's ID
+     * @param resumeId the resume ID
+     * @return the resume
+     * @throws ResumeNotFoundException if not found or not owned by the user
+     */
+    public Resume getResume(Long userId, Long resumeId) {
+        return resumeRepository.findByIdAndUserId(resumeId, userId)
+                .orElseThrow(() -> ResumeNotFoundException.INSTANCE);
+    }
+
+    /**
+     * Queue a resume for parsing unless it is already waiting in the queue; if the pool
+     * is saturated it stays PENDING for the sweep
+     * @param resumeId the resume ID
+     */
+    void submitForParsing(Long resumeId) {
+        if (!queued.add(resumeId)) {
+            return;
+        }
+        try {
+            resumeParsingExecutor.execute(() -> {
+                queued.remove(resumeId);
+                parseResume(resumeId);
+            });
+        } catch (TaskRejectedException e) {
+            queued.remove(resumeId);
+            log.warn("Resume parser queue full, resume {} will be retried by the requeue sweep", resumeId);
+        }
+    }
+
+    /**
+     * Parse a resume on a worker thread. The PENDING -> PARSING transition takes a
+     * claim so a resume is never parsed twice concurrently.
+     * @param resumeId the resume ID
+     */
+    void parseResume(Long resumeId) {
+        Resume resume = resumeRepository.findById(resumeId).orElse(null);
+        LocalDateTime claimedAt = LocalDateTime.now();
+        String claim = UUID.randomUUID().toString();
+        if (resume == null
+                || resumeRepository.claimForParsing(resumeId, claim, claimedAt.plus(claimLease), claimedAt) == 0) {
+            return;
+        }
+
+        activeClaims.put(resumeId, new ParseClaim(claim, claimedAt));
+        long start = System.nanoTime();
+        try {
+            ResumeTextExtractor.ParsedResume parsed =
+                    resumeTextExtractor.extract(resumeBlobStore.resolve(resume.getContentHash()), resume.getFileType());
+            Set<String> skills = skillExtractor.extract(parsed.content());
+            Set<Integer> skillIds = skillCatalog.toIds(skills);
+            Boolean completed = transactionTemplate.execute(status -> {
+                if (resumeRepository.completeParsing(resumeId, claim, parsed.content(), SkillExtractor.toStoredForm(skills),
+                        parsed.experience(), parsed.education(), LocalDateTime.now()) == 0) {
+                    return false;
+                }
+                storeSkillIds(resumeId, skillIds);
+                syncService.recordChange(resume.getUser().getId(), ChangeLogEntry.EntityType.RESUME, resumeId);
+                return true;
+            });
+            if (Boolean.TRUE.equals(completed)) {
+                skillMatchIndex.putResume(resume.getUser().getId(), resumeId, skillIds);
+                eventPublisher.publishEvent(new ResumeParsedEvent(resume.getUser().getId(), resumeId));
+            }
+            log.debug("Parsed resume {} in {} ms", resumeId, (System.nanoTime() - start) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("Failed to parse resume {}: {}", resumeId, e.getMessage());
+            Boolean failed = transactionTemplate.execute(status -> {
+                if (resumeRepository.failParsing(resumeId, claim, truncate(e.getMessage()), LocalDateTime.now()) == 0) {
+                    return false;
+                }
+                syncService.recordChange(resume.getUser().getId(), ChangeLogEntry.EntityType.RESUME, resumeId);
+                return true;
+            });
+            if (Boolean.TRUE.equals(failed)) {
+                eventPublisher.publishEvent(new ResumeParseFailedEvent(resume.getUser().getId(), resumeId));
+            }
+        } finally {
+            activeClaims.remove(resumeId);
+        }
+    }
+
+    /**
+     * Renew the claims of parse attempts still running here. An attempt running longer
+     * than the parse timeout is considered hung and its claim is left to lapse.
+     */
+    @Scheduled(fixedDelayString = "${app.resume.claim-heartbeat-ms:20000}")
+    public void renewParseClaims() {
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, ParseClaim> entry : activeClaims.entrySet()) {
+            ParseClaim claim = entry.getValue();
+            if (claim.claimedAt().plus(parseTimeout).isBefore(now)) {
+                continue;
+            }
+            if (resumeRepository.renewClaim(entry.getKey(), claim.token(), now.plus(claimLease),
+                    Resume.ParseStatus.PARSING) == 0) {
+                log.warn("Lost parse claim on resume {}", entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Re-queue resumes left PENDING (pool was full) and recover ones in PARSING whose
+     * claim lapsed (worker died mid-parse, e.g. on restart, or hung). Resumes still
+     * waiting in this instance's parser queue are not submitted again.
+     */
+    @Scheduled(fixedDelayString = "${app.resume.requeue-interval-ms:30000}")
+    public void requeueStalledResumes() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> lapsed = resumeRepository.findIdsWithLapsedClaim(Resume.ParseStatus.PARSING, now,
+                PageRequest.of(0, REQUEUE_BATCH_SIZE));
+        for (Long id : lapsed) {
+            if (resumeRepository.releaseLapsedClaim(id, now, Resume.ParseStatus.PARSING, Resume.ParseStatus.PENDING) > 0) {
+                log.warn("Parse claim on resume {} lapsed, re-queueing", id);
+            }
+        }
+
+        List<Long> pending = resumeRepository.findIdsByStatusUpdatedBefore(Resume.ParseStatus.PENDING,
+                now.minusSeconds(30), PageRequest.of(0, REQUEUE_BATCH_SIZE));
+        for (Long id : pending) {
+            submitForParsing(id);
+        }
+    }
+
+    /**
+     * Replace the resume's rows in resume_skills
+     */
+    private void storeSkillIds(Long resumeId, Set<Integer> skillIds) {
+        resumeRepository.deleteSkills(resumeId);
+        if (!skillIds.isEmpty()) {
+            resumeRepository.insertSkills(resumeId, skillIds);
+        }
+    }
+
+    /**
+     * Normalize a client-supplied file name
+     * @param originalName the name sent by the client, may be null
+     * @return the cleaned file name
+     */
+    static String cleanFileName(String originalName) {
+        return StringUtils.cleanPath(originalName != null ? originalName : "resume");
+    }
+
+    /**
+     * Check that a file name has a supported extension
+     * @param fileName the file name
+     * @return the lower-case extension
+     * @throws InvalidUploadException if the type is not supported
+     */
+    static String checkFileType(String fileName) {
+        String fileType = StringUtils.getFilenameExtension(fileName);
+        if (fileType == null || !ResumeTextExtractor.SUPPORTED_TYPES.contains(fileType.toLowerCase(Locale.ROOT))) {
+            throw new InvalidUploadException(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                    "Supported file types: " + String.join(", ", ResumeTextExtractor.SUPPORTED_TYPES));
+        }
+        return fileType.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A parse attempt running in this instance
+     */
+    private record ParseClaim(String token, LocalDateTime claimedAt) {
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return "Unknown error";
+        }
+        return message.length() <= MAX_FAILURE_REASON_LENGTH ? message : message.substring(0, MAX_FAILURE_REASON_LENGTH);
+    }
+}
@@ -0,0 +1,242 @@
+package com.jobhive.service;
+
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.PackagePart;
+import org.apache.poi.openxml4j.opc.PackageRelationshipCollection;
+import org.apache.poi.openxml4j.opc.PackageRelationshipTypes;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Extracts plain text from uploaded resume files using POI's streaming (SAX-level)
+ * OOXML readers. The document tree is never materialized: text is pushed paragraph
+ * by paragraph into a {@link ResumeSectionCollector}, which also splits out the
+ * experience and education sections in the same pass.
+ */
+@Component
+public class ResumeTextExtractor {
+
+    private static final String WORDML_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    /**
+     * File extensions the extractor understands
+     */
+    public static final Set<String> SUPPORTED_TYPES = Set.of("docx", "xlsx", "txt");
+
+    @Value("${app.resume.max-parsed-chars:200000}")
+    private int maxParsedChars;
+
+    /**
+     * Extract the text of a resume file
+     * @param file path to the stored file
+     * @param fileType the file extension (docx, xlsx, txt)
+     * @return extracted text and sections
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public ParsedResume extract(Path file, String fileType) throws IOException {
+        ResumeSectionCollector collector = new ResumeSectionCollector(maxParsedChars);
+        switch (fileType.toLowerCase(Locale.ROOT)) {
+            case "docx" -> extractDocx(file, collector);
+            case "xlsx" -> extractXlsx(file, collector);
+            case "txt" -> extractText(file, collector);
+            default -> throw new IOException("Unsupported resume type: " + fileType);
+        }
+        return collector.result();
+    }
+
+    /**
+     * Stream word/document.xml through a SAX handler that collects w:t runs per paragraph
+     */
+    private void extractDocx(Path file, ResumeSectionCollector collector) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            PackageRelationshipCollection relationships =
+                    pkg.getRelationshipsByType(PackageRelationshipTypes.CORE_DOCUMENT);
+            if (relationships.isEmpty()) {
+                throw new IOException("Not a Word document: no main document part");
+            }
+            PackagePart mainPart = pkg.getPart(relationships.getRelationship(0));
+            try (InputStream in = mainPart.getInputStream()) {
+                XMLReader reader = XMLHelper.newXMLReader();
+                reader.setContentHandler(new WordprocessingHandler(collector));
+                reader.parse(new InputSource(in));
+            } catch (CollectorFull ignored) {
+                // Text limit reached; the rest of the document is skipped
+            }
+        } catch (InvalidFormatException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Could not read Word document: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stream every sheet through POI's XSSFSheetXMLHandler, one line per row
+     */
+    private void extractXlsx(Path file, ResumeSectionCollector collector) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+            XSSFReader xssfReader = new XSSFReader(pkg);
+            DataFormatter formatter = new DataFormatter(Locale.ROOT);
+            RowCollector rows = new RowCollector(collector);
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            while (sheets.hasNext() && !collector.isFull()) {
+                try (InputStream sheet = sheets.next()) {
+                    XMLReader reader = XMLHelper.newXMLReader();
+                    reader.setContentHandler(new XSSFSheetXMLHandler(
+                            xssfReader.getStylesTable(), null, strings, rows, formatter, false));
+                    reader.parse(new InputSource(sheet));
+                } catch (CollectorFull ignored) {
+                    // Text limit reached; the rest of the workbook is skipped
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Could not read spreadsheet: " + e.getMessage(), e);
+        }
+    }
+
+    private void extractText(Path file, ResumeSectionCollector collector) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null && !collector.isFull()) {
+                collector.paragraph(line);
+            }
+        }
+    }
+
+    /**
+     * SAX handler for WordprocessingML: text runs (w:t) are buffered until the
+     * enclosing paragraph (w:p) ends; tabs and breaks become whitespace
+     */
+    private static final class WordprocessingHandler extends DefaultHandler {
+
+        private final ResumeSectionCollector collector;
+        private final StringBuilder paragraph = new StringBuilder();
+        private boolean inText = false;
+
+        WordprocessingHandler(ResumeSectionCollector collector) {
+            this.collector = collector;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            if (!WORDML_NS.equals(uri)) {
+                return;
+            }
+            switch (localName) {
+                case "t" -> inText = true;
+                case "tab" -> paragraph.append('\t');
+                case "br", "cr" -> paragraph.append(' ');
+                default -> { }
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            if (!WORDML_NS.equals(uri)) {
+                return;
+            }
+            if ("t".equals(localName)) {
+                inText = false;
+            } else if ("p".equals(localName)) {
+                collector.paragraph(paragraph);
+                paragraph.setLength(0);
+                if (collector.isFull()) {
+                    throw new CollectorFull();
+                }
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inText) {
+                paragraph.append(ch, start, length);
+            }
+        }
+    }
+
+    /**
+     * Thrown from the SAX handlers to stop parsing once the text limit is reached.
+     * Unchecked, because POI's sheet callbacks cannot throw SAXException.
+     */
+    private static final class CollectorFull extends RuntimeException {
+
+        CollectorFull() {
+            super("Resume text limit reached");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Joins the formatted cells of each spreadsheet row into one tab-separated line
+     */
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final ResumeSectionCollector collector;
+        private final StringBuilder row = new StringBuilder();
+
+        RowCollector(ResumeSectionCollector collector) {
+            this.collector = collector;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            row.setLength(0);
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            collector.paragraph(row);
+            if (collector.isFull()) {
+                throw new CollectorFull();
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (formattedValue == null || formattedValue.isEmpty()) {
+                return;
+            }
+            if (row.length() > 0) {
+                row.append('\t');
+            }
+            row.append(formattedValue);
+        }
+    }
+
+    /**
+     * Result of extracting a resume
+     * @param content the full text
+     * @param experience the experience section, if found
+     * @param education the education section, if found
+     */
+    public record ParsedResume(String content, String experience, String education) {
+    }
+}
@@ -0,0 +1,414 @@
+package com.jobhive.service;
+
+import com.jobhive.exception.InvalidUploadException;
+import com.jobhive.exception.UploadSessionNotFoundException;
+import com.jobhive.model.Resume;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Resumable chunked resume uploads. A session reserves a temp file in the blob
+ * store; each chunk is streamed straight to its offset with positional FileChannel
+ * writes, so chunks may arrive in any order, in parallel or more than once, and
+ * no file is ever held in the heap. Received chunks are tracked in a bitset the
+ * client can query to resume after a failure. Completing the upload verifies the
+ * client's SHA-256 and moves the file into the blob store.
+ */
+@Service
+public class ResumeUploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeUploadService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private ResumeBlobStore resumeBlobStore;
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Value("${app.resume.upload.max-file-size:10MB}")
+    private DataSize maxFileSize;
+
+    @Value("${app.resume.upload.default-chunk-size:1MB}")
+    private DataSize defaultChunkSize;
+
+    @Value("${app.resume.upload.min-chunk-size:64KB}")
+    private DataSize minChunkSize;
+
+    @Value("${app.resume.upload.max-chunk-size:8MB}")
+    private DataSize maxChunkSize;
+
+    @Value("${app.resume.upload.max-sessions-per-user:5}")
+    private int maxSessionsPerUser;
+
+    @Value("${app.resume.upload.session-timeout:1h}")
+    private Duration sessionTimeout;
+
+    private final ConcurrentHashMap<String, UploadSession> sessions = new ConcurrentHashMap<>();
+
+    /** Open sessions per user; a slot is reserved before a session is created */
+    private final ConcurrentHashMap<Long, Integer> sessionCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Start a chunked upload
+     * @param userId the owner's ID
+     * @param originalName the client's file name
+     * @param fileSize total file size in bytes
+     * @param chunkSize requested chunk size in bytes, or null for the default
+     * @return the new session
+     * @throws InvalidUploadException if the file type, file size or chunk size is not acceptable
+     */
+    public UploadSession startUpload(Long userId, String originalName, long fileSize, Integer chunkSize) {
+        String fileName = ResumeService.cleanFileName(originalName);
+        String fileType = ResumeService.checkFileType(fileName);
+        if (fileSize <= 0) {
+            throw new InvalidUploadException(HttpStatus.BAD_REQUEST, "File is empty");
+        }
+        if (fileSize > maxFileSize.toBytes()) {
+            throw new InvalidUploadException(HttpStatus.PAYLOAD_TOO_LARGE, "File cannot exceed " + maxFileSize);
+        }
+        int size = chunkSize != null ? chunkSize : (int) defaultChunkSize.toBytes();
+        if (size < minChunkSize.toBytes() || size > maxChunkSize.toBytes()) {
+            throw new InvalidUploadException(HttpStatus.BAD_REQUEST,
+                    "Chunk size must be between " + minChunkSize + " and " + maxChunkSize);
+        }
+        if (!reserveSession(userId)) {
+            throw new InvalidUploadException(HttpStatus.TOO_MANY_REQUESTS,
+                    "Too many uploads in progress; complete or cancel one first");
+        }
+
+        Path file;
+        try {
+            file = resumeBlobStore.createTempFile("upload-");
+        } catch (IOException e) {
+            releaseSession(userId);
+            throw new UncheckedIOException("Failed to create upload file", e);
+        }
+        UploadSession session = new UploadSession(UUID.randomUUID().toString(), userId, fileName, fileType,
+                fileSize, size, file);
+        sessions.put(session.id, session);
+        log.debug("Started upload {} for user {}: {} bytes in {} chunks", session.id, userId, fileSize, session.chunkCount);
+        return session;
+    }
+
+    /**
+     * Get an upload session owned by the user
+     * @param userId the owner's ID
+     * @param uploadId the session ID
+     * @return the session
+     * @throws UploadSessionNotFoundException if not found, expired or owned by another user
+     */
+    public UploadSession getUpload(Long userId, String uploadId) {
+        UploadSession session = sessions.get(uploadId);
+        if (session == null || !session.userId.equals(userId)) {
+            throw UploadSessionNotFoundException.INSTANCE;
+        }
+        session.lastAccess = System.currentTimeMillis();
+        return session;
+    }
+
+    /**
+     * Write one chunk at its offset. Re-sending a chunk overwrites it in place.
+     * @param userId the owner's ID
+     * @param uploadId the session ID
+     * @param index zero-based chunk index
+     * @param contentLength declared request body length, or -1 if unknown
+     * @param in the chunk bytes
+     * @return the session
+     * @throws InvalidUploadException if the index is out of range or the chunk has the wrong length
+     */
+    public UploadSession writeChunk(Long userId, String uploadId, int index, long contentLength, InputStream in) {
+        UploadSession session = getUpload(userId, uploadId);
+        if (index < 0 || index >= session.chunkCount) {
+            throw new InvalidUploadException(HttpStatus.BAD_REQUEST,
+                    "Chunk index must be between 0 and " + (session.chunkCount - 1));
+        }
+        long expected = session.chunkLength(index);
+        if (contentLength >= 0 && contentLength != expected) {
+            throw new InvalidUploadException(HttpStatus.BAD_REQUEST, "Chunk " + index + " must be " + expected + " bytes");
+        }
+
+        // Chunk writes share the lock so they can run in parallel; complete and abort take it exclusively
+        session.lock.readLock().lock();
+        try {
+            if (session.closed) {
+                throw UploadSessionNotFoundException.INSTANCE;
+            }
+            long written = writeAt(session.file, (long) index * session.chunkSize, expected, in);
+            if (written != expected) {
+                throw new InvalidUploadException(HttpStatus.BAD_REQUEST, "Chunk " + index + " must be " + expected + " bytes");
+            }
+            session.markReceived(index);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write chunk " + index + " of upload " + uploadId, e);
+        } finally {
+            session.lock.readLock().unlock();
+        }
+        return session;
+    }
+
+    /**
+     * Finish an upload: verify every chunk arrived and the content matches the
+     * client's checksum, then store the file and create the resume
+     * @param userId the owner's ID
+     * @param uploadId the session ID
+     * @param sha256 hex SHA-256 of the whole file as computed by the client
+     * @return the newly created resume
+     * @throws InvalidUploadException if chunks are missing (the session stays open) or
+     *         the checksum does not match (the session is discarded)
+     */
+    public Resume completeUpload(Long userId, String uploadId, String sha256) {
+        UploadSession session = getUpload(userId, uploadId);
+        ResumeBlobStore.StoredBlob blob;
+        session.lock.writeLock().lock();
+        try {
+            if (session.closed) {
+                throw UploadSessionNotFoundException.INSTANCE;
+            }
+            int missing = session.chunkCount - session.getReceivedCount();
+            if (missing > 0) {
+                throw new InvalidUploadException(HttpStatus.CONFLICT, missing + " chunks have not been received");
+            }
+            close(session);
+
+            String hash = resumeBlobStore.digest(session.file);
+            if (!hash.equals(sha256.toLowerCase(Locale.ROOT))) {
+                Files.deleteIfExists(session.file);
+                throw new InvalidUploadException(HttpStatus.BAD_REQUEST, "Checksum mismatch; start the upload again");
+            }
+            blob = resumeBlobStore.storeFile(session.file, hash);
+        } catch (IOException e) {
+            deleteQuietly(session.file);
+            throw new UncheckedIOException("Failed to store upload " + uploadId, e);
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+        return resumeService.createResume(userId, session.fileName, session.fileType, blob);
+    }
+
+    /**
+     * Cancel an upload and delete what was received
+     * @param userId the owner's ID
+     * @param uploadId the session ID
+     */
+    public void abortUpload(Long userId, String uploadId) {
+        UploadSession session = getUpload(userId, uploadId);
+        session.lock.writeLock().lock();
+        try {
+            if (!session.closed) {
+                close(session);
+                deleteQuietly(session.file);
+            }
+        } finally {
+            session.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Cancel all of a user's uploads and delete what was received
+     * @param userId the owner's ID
+     */
+    public void abortUploads(Long userId) {
+        for (UploadSession session : sessions.values()) {
+            if (!session.userId.equals(userId)) {
+                continue;
+            }
+            session.lock.writeLock().lock();
+            try {
+                if (!session.closed) {
+                    close(session);
+                    deleteQuietly(session.file);
+                }
+            } finally {
+                session.lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Discard sessions that have not been touched within the session timeout
+     */
+    @Scheduled(fixedDelayString = "${app.resume.upload.cleanup-interval-ms:300000}")
+    public void expireIdleUploads() {
+        long cutoff = System.currentTimeMillis() - sessionTimeout.toMillis();
+        for (UploadSession session : sessions.values()) {
+            // Skip sessions with a chunk write in progress; they are not idle
+            if (session.lastAccess < cutoff && session.lock.writeLock().tryLock()) {
+                try {
+                    if (!session.closed) {
+                        close(session);
+                        deleteQuietly(session.file);
+                        log.debug("Expired idle upload {}", session.id);
+                    }
+                } finally {
+                    session.lock.writeLock().unlock();
+                }
+            }
+        }
+    }
+
+    public int getActiveCount() {
+        return sessions.size();
+    }
+
+    private void close(UploadSession session) {
+        session.closed = true;
+        if (sessions.remove(session.id, session)) {
+            releaseSession(session.userId);
+        }
+    }
+
+    /**
+     * Take one of the user's session slots; the check and the increment are one atomic step
+     * @return false if the user already has the maximum number of open sessions
+     */
+    private boolean reserveSession(Long userId) {
+        boolean[] reserved = new boolean[1];
+        sessionCounts.compute(userId, (id, open) -> {
+            int count = open != null ? open : 0;
+            if (count >= maxSessionsPerUser) {
+                return open;
+            }
+            reserved[0] = true;
+            return count + 1;
+        });
+        return reserved[0];
+    }
+
+    private void releaseSession(Long userId) {
+        sessionCounts.computeIfPresent(userId, (id, open) -> open > 1 ? open - 1 : null);
+    }
+
+    /**
+     * Stream at most limit + 1 bytes to the file at the given position
+     * @return number of bytes read, which exceeds limit if the body was too long
+     */
+    private static long writeAt(Path file, long position, long limit, InputStream in) throws IOException {
+        long written = 0;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        ReadableByteChannel source = Channels.newChannel(in);
+        try (FileChannel out = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                if (written + buffer.remaining() > limit) {
+                    return written + buffer.remaining();
+                }
+                while (buffer.hasRemaining()) {
+                    written += out.write(buffer, position + written);
+                }
+                buffer.clear();
+            }
+        }
+        return written;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete upload file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * State of one chunked upload
+     */
+    public static final class UploadSession {
+        private final String id;
+        private final Long userId;
+        private final String fileName;
+        private final String fileType;
+        private final long fileSize;
+        private final int chunkSize;
+        private final int chunkCount;
+        private final Path file;
+        private final BitSet received;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile long lastAccess = System.currentTimeMillis();
+        private volatile boolean closed;
+
+        UploadSession(String id, Long userId, String fileName, String fileType, long fileSize, int chunkSize, Path file) {
+            this.id = id;
+            this.userId = userId;
+            this.fileName = fileName;
+            this.fileType = fileType;
+            this.fileSize = fileSize;
+            this.chunkSize = chunkSize;
+            this.chunkCount = (int) ((fileSize + chunkSize - 1) / chunkSize);
+            this.file = file;
+            this.received = new BitSet(chunkCount);
+        }
+
+        long chunkLength(int index) {
+            return index == chunkCount - 1 ? fileSize - (long) index * chunkSize : chunkSize;
+        }
+
+        synchronized void markReceived(int index) {
+            received.set(index);
+        }
+
+        public synchronized int getReceivedCount() {
+            return received.cardinality();
+        }
+
+        /**
+         * Received chunks as inclusive [first, last] index ranges
+         * @return ranges in ascending order
+         */
+        public synchronized List<int[]> getReceivedRanges() {
+            List<int[]> ranges = new ArrayList<>();
+            for (int start = received.nextSetBit(0); start >= 0; ) {
+                int end = received.nextClearBit(start);
+                ranges.add(new int[] {start, end - 1});
+                start = end < chunkCount ? received.nextSetBit(end) : -1;
+            }
+            return ranges;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public long getFileSize() {
+            return fileSize;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public int getChunkCount() {
+            return chunkCount;
+        }
+    }
+}
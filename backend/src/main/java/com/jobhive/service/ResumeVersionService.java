@@ -0,0 +1,323 @@
+package com.jobhive.service;
+
+import com.jobhive.event.ResumeParsedEvent;
+import com.jobhive.exception.ResumeVersionNotFoundException;
+import com.jobhive.model.Resume;
+import com.jobhive.model.ResumeVersion;
+import com.jobhive.repository.ResumeRepository;
+import com.jobhive.repository.ResumeVersionRepository;
+import com.jobhive.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-user resume history. Every parsed resume whose text differs from the user's
+ * previous version becomes a new version, stored as a line delta against that
+ * version; every {@code snapshot-interval} versions (or when a delta that deletes
+ * lines would not be much smaller than the text) a full snapshot is stored instead,
+ * so rebuilding any version applies fewer than {@code snapshot-interval} deltas.
+ * Appends and other pure insertions are always stored as deltas. Once a resume's text
+ * is in the history, older resumes drop their parsedContent copy and rebuild it on
+ * demand, so storage grows with the size of the edits rather than of the files.
+ */
+@Service
+public class ResumeVersionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeVersionService.class);
+
+    private static final int LOCK_STRIPES = 64;
+
+    @Autowired
+    private ResumeVersionRepository resumeVersionRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.resume.versions.snapshot-interval:10}")
+    private int snapshotInterval;
+
+    @Value("${app.resume.versions.max-diff-lines:2000}")
+    private int maxDiffLines;
+
+    @Value("${app.resume.versions.prune-parsed-content:true}")
+    private boolean pruneParsedContent;
+
+    @Value("${app.resume.versions.cache-size:1000}")
+    private int cacheSize;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Versions are numbered per user, so appends for the same user are serialized.
+     * ReentrantLock rather than synchronized: appends do JDBC I/O while holding the
+     * lock, which would pin a virtual thread to its carrier.
+     */
+    private final ReentrantLock[] appendLocks = new ReentrantLock[LOCK_STRIPES];
+
+    /** Newest version text per user, so appending a delta needs no reconstruction */
+    private final Map<Long, CachedVersion> latestByUser = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, CachedVersion> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    public ResumeVersionService() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            appendLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        // Each append commits before its lock is released, so the next append sees it
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeParsed(ResumeParsedEvent event) {
+        recordVersion(event.userId(), event.resumeId());
+    }
+
+    /**
+     * Add a resume's parsed text to its owner's history, unless it equals the newest version
+     * @param userId the owner's ID
+     * @param resumeId the resume ID
+     */
+    public void recordVersion(Long userId, Long resumeId) {
+        ReentrantLock lock = appendLocks[Math.floorMod(userId.hashCode(), LOCK_STRIPES)];
+        lock.lock();
+        try {
+            CachedVersion appended = transactionTemplate.execute(status -> append(userId, resumeId));
+            if (appended != null) {
+                cache(userId, appended);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CachedVersion append(Long userId, Long resumeId) {
+        Resume resume = resumeRepository.findById(resumeId).orElse(null);
+        if (resume == null || resume.getParsedContent() == null || resume.getHistoryVersion() != null) {
+            return null;
+        }
+        String content = resume.getParsedContent();
+        String hash = sha256(content);
+
+        int versionNumber;
+        ResumeVersion latest = resumeVersionRepository.findFirstByUserIdOrderByVersionNumberDesc(userId).orElse(null);
+        if (latest != null && latest.getContentHash().equals(hash)) {
+            versionNumber = latest.getVersionNumber();
+        } else {
+            versionNumber = latest != null ? latest.getVersionNumber() + 1 : 1;
+            ResumeVersion version = buildVersion(userId, resumeId, versionNumber, latest, content, hash);
+            resumeVersionRepository.save(version);
+            log.debug("Stored resume version {} for user {} as {} ({} of {} chars)", versionNumber, userId,
+                    version.getStorage(), version.getData().length(), content.length());
+        }
+
+        resumeRepository.linkHistoryVersion(resumeId, versionNumber);
+        if (pruneParsedContent) {
+            resumeRepository.pruneParsedContent(userId, resumeId);
+        }
+        return new CachedVersion(versionNumber, content);
+    }
+
+    /**
+     * Parsed text of a resume, rebuilt from the history if the resume no longer stores it
+     * @param resume the resume
+     * @return the parsed text, or null if the resume has not been parsed
+     */
+    public String getParsedContent(Resume resume) {
+        if (resume.getParsedContent() != null || resume.getHistoryVersion() == null) {
+            return resume.getParsedContent();
+        }
+        return getContent(resume.getUser().getId(), resume.getHistoryVersion());
+    }
+
+    /**
+     * Rebuild the full text of a version from its snapshot and the deltas after it
+     * @param userId the owner's ID
+     * @param versionNumber the version number
+     * @return the text
+     * @throws ResumeVersionNotFoundException if the user has no such version
+     */
+    public String getContent(Long userId, int versionNumber) {
+        CachedVersion cached = cached(userId);
+        if (cached != null && cached.versionNumber == versionNumber) {
+            return cached.content;
+        }
+        Integer snapshot = resumeVersionRepository.findBaseSnapshotNumber(userId, versionNumber);
+        if (snapshot == null) {
+            throw ResumeVersionNotFoundException.INSTANCE;
+        }
+        List<ResumeVersion> chain = resumeVersionRepository
+                .findByUserIdAndVersionNumberBetweenOrderByVersionNumber(userId, snapshot, versionNumber);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getVersionNumber() != versionNumber) {
+            throw ResumeVersionNotFoundException.INSTANCE;
+        }
+
+        String content = chain.get(0).getData();
+        for (int i = 1; i < chain.size(); i++) {
+            content = LineDiff.apply(content, chain.get(i).getData());
+        }
+        if (!sha256(content).equals(chain.get(chain.size() - 1).getContentHash())) {
+            throw new IllegalStateException("Resume version " + versionNumber + " of user " + userId + " is corrupt");
+        }
+        return content;
+    }
+
+    /**
+     * Get a version owned by the user
+     * @param userId the owner's ID
+     * @param versionNumber the version number
+     * @return the version as stored (snapshot text or delta)
+     * @throws ResumeVersionNotFoundException if the user has no such version
+     */
+    public ResumeVersion getVersion(Long userId, int versionNumber) {
+        return resumeVersionRepository.findByUserIdAndVersionNumber(userId, versionNumber)
+                .orElseThrow(() -> ResumeVersionNotFoundException.INSTANCE);
+    }
+
+    /**
+     * Summaries of a user's versions, newest first
+     * @param userId the owner's ID
+     * @return list of [versionNumber, resumeId, storage, contentLength, storedLength, createdAt] rows
+     */
+    public List<Object[]> listVersions(Long userId) {
+        return resumeVersionRepository.findSummariesByUserId(userId);
+    }
+
+    /**
+     * Unified diff between two versions
+     * @param userId the owner's ID
+     * @param fromVersion the old version number
+     * @param toVersion the new version number
+     * @param context unchanged lines to show around each change
+     * @return the diff
+     * @throws ResumeVersionNotFoundException if either version does not exist
+     */
+    public VersionDiff diff(Long userId, int fromVersion, int toVersion, int context) {
+        String[] from = LineDiff.lines(getContent(userId, fromVersion));
+        String[] to = LineDiff.lines(getContent(userId, toVersion));
+        List<LineDiff.Op> ops = LineDiff.diff(from, to, maxDiffLines);
+        int added = 0;
+        int removed = 0;
+        for (LineDiff.Op op : ops) {
+            if (op.type() == LineDiff.Type.INSERT) {
+                added += op.length();
+            } else if (op.type() == LineDiff.Type.DELETE) {
+                removed += op.length();
+            }
+        }
+        List<DiffHunk> hunks = new ArrayList<>();
+        for (LineDiff.Hunk hunk : LineDiff.hunks(from, to, ops, context)) {
+            hunks.add(new DiffHunk(hunk.fromLine(), hunk.fromCount(), hunk.toLine(), hunk.toCount(), hunk.lines()));
+        }
+        return new VersionDiff(added, removed, hunks);
+    }
+
+    private ResumeVersion buildVersion(Long userId, Long resumeId, int versionNumber, ResumeVersion latest,
+                                       String content, String hash) {
+        ResumeVersion.Storage storage = ResumeVersion.Storage.SNAPSHOT;
+        String data = content;
+        if (latest != null) {
+            Integer snapshot = resumeVersionRepository.findBaseSnapshotNumber(userId, latest.getVersionNumber());
+            if (snapshot != null && versionNumber - snapshot < snapshotInterval) {
+                String[] newLines = LineDiff.lines(content);
+                List<LineDiff.Op> ops = LineDiff.diff(
+                        LineDiff.lines(getContent(userId, latest.getVersionNumber())), newLines, maxDiffLines);
+                String delta = LineDiff.encode(newLines, ops);
+                // A delta that only inserts holds nothing but the new lines, so it always saves the
+                // previous text; otherwise it must be well under the text to be worth applying
+                boolean insertOnly = ops.stream().noneMatch(op -> op.type() == LineDiff.Type.DELETE);
+                if (delta.length() < (insertOnly ? content.length() : content.length() / 2)) {
+                    storage = ResumeVersion.Storage.DELTA;
+                    data = delta;
+                }
+            }
+        }
+        return new ResumeVersion(userRepository.getReferenceById(userId), versionNumber, resumeId, storage, data,
+                content.length(), hash);
+    }
+
+    /**
+     * Drop a user's cached newest version
+     * @param userId the user ID
+     */
+    public void evictUser(Long userId) {
+        synchronized (latestByUser) {
+            latestByUser.remove(userId);
+        }
+    }
+
+    private CachedVersion cached(Long userId) {
+        synchronized (latestByUser) {
+            return latestByUser.get(userId);
+        }
+    }
+
+    private void cache(Long userId, CachedVersion version) {
+        synchronized (latestByUser) {
+            latestByUser.put(userId, version);
+        }
+    }
+
+    private static String sha256(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedVersion(int versionNumber, String content) {
+    }
+
+    /**
+     * Line diff between two versions
+     * @param added lines only in the new version
+     * @param removed lines only in the old version
+     * @param hunks changed regions with context
+     */
+    public record VersionDiff(int added, int removed, List<DiffHunk> hunks) {
+    }
+
+    /**
+     * A changed region; lines are prefixed with ' ' (context), '-' (removed) or '+' (added)
+     * @param fromLine first line in the old version (1-based)
+     * @param fromCount number of old lines covered
+     * @param toLine first line in the new version (1-based)
+     * @param toCount number of new lines covered
+     * @param lines the hunk body
+     */
+    public record DiffHunk(int fromLine, int fromCount, int toLine, int toCount, List<String> lines) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.jobhive.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Built-in analyzer that checks a resume against a fixed set of writing rules
+ * (length, missing sections, contact details, quantified impact, weak phrasing).
+ * Runs in-process and needs no model server.
+ */
+@Component
+@ConditionalOnProperty(name = "app.analyzer.type", havingValue = "rules", matchIfMissing = true)
+public class RuleBasedResumeAnalyzer implements ResumeAnalyzer {
+
+    /**
+     * Bump whenever a rule changes so memoized results are recomputed
+     */
+    private static final int RULES_VERSION = 1;
+
+    private static final int MIN_WORDS = 200;
+    private static final int MAX_WORDS = 1200;
+    private static final int MIN_SKILLS = 5;
+    private static final int MIN_QUANTIFIED_LINES = 2;
+
+    private static final Pattern WORD = Pattern.compile("\\p{L}[\\p{L}\\p{N}+#.'-]*");
+    private static final Pattern EMAIL = Pattern.compile("[\\w.+-]+@[\\w-]+(\\.[\\w-]+)+");
+    private static final Pattern QUANTIFIED = Pattern.compile("\\d+(\\.\\d+)?\\s*(%|percent|x\\b|k\\b|m\\b|\\+)|[$€£]\\s*\\d",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern FIRST_PERSON = Pattern.compile("\\b(i|me|my)\\b", Pattern.CASE_INSENSITIVE);
+    private static final List<String> WEAK_PHRASES = List.of(
+            "responsible for", "duties included", "worked on", "helped with", "involved in", "tasked with");
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public String getId() {
+        return "rules-v" + RULES_VERSION;
+    }
+
+    @Override
+    public Map<String, String> analyze(List<Request> batch) throws JsonProcessingException {
+        Map<String, String> results = new HashMap<>(batch.size() * 2);
+        for (Request request : batch) {
+            results.put(request.key(), objectMapper.writeValueAsString(analyze(request)));
+        }
+        return results;
+    }
+
+    private ObjectNode analyze(Request request) {
+        String content = request.content() != null ? request.content() : "";
+        ArrayNode suggestions = objectMapper.createArrayNode();
+        int penalty = 0;
+
+        int words = count(WORD.matcher(content));
+        if (words < MIN_WORDS) {
+            penalty += add(suggestions, "length", Severity.HIGH,
+                    "Resume has only " + words + " words; describe your roles and results in more detail");
+        } else if (words > MAX_WORDS) {
+            penalty += add(suggestions, "length", Severity.LOW,
+                    "Resume has " + words + " words; trim it to the most relevant two pages");
+        }
+
+        if (!EMAIL.matcher(content).find()) {
+            penalty += add(suggestions, "contact", Severity.HIGH, "Add an email address so recruiters can reach you");
+        }
+        if (isBlank(request.experience())) {
+            penalty += add(suggestions, "experience", Severity.HIGH, "Add a clearly headed work experience section");
+        }
+        if (isBlank(request.education())) {
+            penalty += add(suggestions, "education", Severity.MEDIUM, "Add an education section");
+        }
+
+        int skills = request.skills() != null ? request.skills().size() : 0;
+        if (skills < MIN_SKILLS) {
+            penalty += add(suggestions, "skills", Severity.MEDIUM,
+                    "Only " + skills + " recognized skills; list the concrete tools and technologies you use");
+        }
+
+        int quantified = 0;
+        for (String line : content.split("\\R")) {
+            if (QUANTIFIED.matcher(line).find()) {
+                quantified++;
+            }
+        }
+        if (quantified < MIN_QUANTIFIED_LINES) {
+            penalty += add(suggestions, "impact", Severity.MEDIUM,
+                    "Quantify your impact with numbers, percentages or amounts");
+        }
+
+        String lower = content.toLowerCase(Locale.ROOT);
+        for (String phrase : WEAK_PHRASES) {
+            if (lower.contains(phrase)) {
+                penalty += add(suggestions, "wording", Severity.LOW,
+                        "Replace \"" + phrase + "\" with a strong action verb describing what you achieved");
+            }
+        }
+        if (count(FIRST_PERSON.matcher(content)) > 3) {
+            penalty += add(suggestions, "wording", Severity.LOW, "Avoid first-person pronouns");
+        }
+
+        ObjectNode result = objectMapper.createObjectNode();
+        result.put("analyzer", getId());
+        result.put("score", Math.max(0, 100 - penalty));
+        result.put("wordCount", words);
+        result.put("skillCount", skills);
+        result.set("suggestions", suggestions);
+        return result;
+    }
+
+    private static int add(ArrayNode suggestions, String category, Severity severity, String message) {
+        ObjectNode suggestion = suggestions.addObject();
+        suggestion.put("category", category);
+        suggestion.put("severity", severity.name().toLowerCase(Locale.ROOT));
+        suggestion.put("message", message);
+        return severity.penalty;
+    }
+
+    private static int count(Matcher matcher) {
+        int count = 0;
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private enum Severity {
+        HIGH(20), MEDIUM(10), LOW(5);
+
+        private final int penalty;
+
+        Severity(int penalty) {
+            this.penalty = penalty;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package com.jobhive.service;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled Aho-Corasick automaton over the skill dictionary terms.
+ * The trie is flattened into sorted edge arrays (plus a dense table for the
+ * root over ASCII) so a scan is one pass over the text with no allocation
+ * per character. Text is case-folded and whitespace-collapsed on the fly,
+ * and matches are only accepted on word boundaries.
+ */
+final class SkillAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    // Match candidates are packed into a long: start (23 bits) | length complement (16 bits) | term (24 bits)
+    private static final int MAX_SCANNED_CHARS = (1 << 23) - 1;
+    private static final int MAX_TERM_LENGTH = (1 << 16) - 1;
+    private static final int MAX_TERMS = 1 << 24;
+
+    private final int[] rootNext = new int[128];
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] fail;
+    /** Term ending exactly at this state, or NONE */
+    private final int[] termAt;
+    /** Nearest proper suffix state that ends a term, or NONE */
+    private final int[] outLink;
+
+    private final int[] termSkill;
+    private final int[] termLength;
+    private final boolean[] termNeedsLeftBoundary;
+    private final boolean[] termNeedsRightBoundary;
+
+    /**
+     * @param terms dictionary terms (folded by {@link #fold(CharSequence)} here)
+     * @param skills skill index for each term
+     */
+    SkillAutomaton(List<String> terms, int[] skills) {
+        if (terms.size() >= MAX_TERMS) {
+            throw new IllegalArgumentException("Too many dictionary terms: " + terms.size());
+        }
+        int termCount = terms.size();
+        termSkill = Arrays.copyOf(skills, termCount);
+        termLength = new int[termCount];
+        termNeedsLeftBoundary = new boolean[termCount];
+        termNeedsRightBoundary = new boolean[termCount];
+
+        // Build the trie with a hash map of (state, char) -> child
+        Map<Long, Integer> children = new HashMap<>();
+        int stateCount = 1;
+        int[] terminal = new int[16];
+        Arrays.fill(terminal, NONE);
+
+        for (int t = 0; t < termCount; t++) {
+            String term = fold(terms.get(t));
+            if (term.isEmpty() || term.length() > MAX_TERM_LENGTH) {
+                throw new IllegalArgumentException("Invalid dictionary term: '" + terms.get(t) + "'");
+            }
+            termLength[t] = term.length();
+            termNeedsLeftBoundary[t] = isWordChar(term.charAt(0));
+            termNeedsRightBoundary[t] = isWordChar(term.charAt(term.length() - 1));
+
+            int state = ROOT;
+            for (int i = 0; i < term.length(); i++) {
+                long key = ((long) state << 16) | term.charAt(i);
+                Integer next = children.get(key);
+                if (next == null) {
+                    next = stateCount++;
+                    children.put(key, next);
+                }
+                state = next;
+            }
+            if (state >= terminal.length) {
+                int old = terminal.length;
+                terminal = Arrays.copyOf(terminal, Math.max(state + 1, old * 2));
+                Arrays.fill(terminal, old, terminal.length, NONE);
+            }
+            // Synonyms that fold to the same text keep the first definition
+            if (terminal[state] == NONE) {
+                terminal[state] = t;
+            }
+        }
+
+        // Flatten into per-state edge ranges sorted by character
+        int edgeCount = children.size();
+        edgeStart = new int[stateCount + 1];
+        edgeChars = new char[edgeCount];
+        edgeTargets = new int[edgeCount];
+        long[] keys = new long[edgeCount];
+        int k = 0;
+        for (long key : children.keySet()) {
+            keys[k++] = key;
+        }
+        Arrays.sort(keys);
+        for (int e = 0; e < edgeCount; e++) {
+            int from = (int) (keys[e] >>> 16);
+            edgeChars[e] = (char) keys[e];
+            edgeTargets[e] = children.get(keys[e]);
+            edgeStart[from + 1]++;
+        }
+        for (int s = 0; s < stateCount; s++) {
+            edgeStart[s + 1] += edgeStart[s];
+        }
+
+        termAt = new int[stateCount];
+        Arrays.fill(termAt, NONE);
+        System.arraycopy(terminal, 0, termAt, 0, Math.min(terminal.length, stateCount));
+
+        Arrays.fill(rootNext, ROOT);
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            if (edgeChars[e] < rootNext.length) {
+                rootNext[edgeChars[e]] = edgeTargets[e];
+            }
+        }
+
+        // Breadth-first failure and output links
+        fail = new int[stateCount];
+        outLink = new int[stateCount];
+        outLink[ROOT] = NONE;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int e = edgeStart[ROOT]; e < edgeStart[ROOT + 1]; e++) {
+            int child = edgeTargets[e];
+            fail[child] = ROOT;
+            outLink[child] = NONE;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                int child = edgeTargets[e];
+                int f = next(fail[state], edgeChars[e]);
+                fail[child] = f;
+                outLink[child] = termAt[f] != NONE ? f : outLink[f];
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Scan the given texts (treated as separated by whitespace) and collect matched skills.
+     * Overlapping matches are resolved leftmost-longest, so "spring boot" wins over "spring".
+     * @param texts texts to scan; null entries are skipped
+     * @return skill indexes in order of first appearance
+     */
+    int[] scan(CharSequence... texts) {
+        int total = 0;
+        for (CharSequence text : texts) {
+            if (text != null) {
+                total += text.length() + 1;
+            }
+        }
+        char[] folded = new char[Math.min(total, MAX_SCANNED_CHARS)];
+        long[] candidates = new long[16];
+        int candidateCount = 0;
+        int n = 0;
+        int state = ROOT;
+
+        outer:
+        for (CharSequence text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (int i = 0, len = text.length(); i <= len; i++) {
+                // A virtual space between texts keeps terms from spanning two fields
+                char c = i < len ? foldChar(text.charAt(i)) : ' ';
+                if (c == ' ' && (n == 0 || folded[n - 1] == ' ')) {
+                    continue;
+                }
+                if (n == folded.length) {
+                    break outer;
+                }
+                folded[n++] = c;
+                state = next(state, c);
+
+                for (int s = termAt[state] != NONE ? state : outLink[state]; s != NONE; s = outLink[s]) {
+                    int term = termAt[s];
+                    int start = n - termLength[term];
+                    if (termNeedsLeftBoundary[term] && start > 0 && isWordChar(folded[start - 1])) {
+                        continue;
+                    }
+                    if (candidateCount == candidates.length) {
+                        candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                    }
+                    candidates[candidateCount++] = ((long) start << 40)
+                            | ((long) (MAX_TERM_LENGTH - termLength[term]) << 24)
+                            | term;
+                }
+            }
+        }
+
+        // Leftmost-longest, non-overlapping selection with the right boundary check
+        Arrays.sort(candidates, 0, candidateCount);
+        BitSet seen = new BitSet();
+        int[] result = new int[Math.min(candidateCount, 64)];
+        int resultCount = 0;
+        int coveredUntil = 0;
+        for (int c = 0; c < candidateCount; c++) {
+            long candidate = candidates[c];
+            int start = (int) (candidate >>> 40);
+            int term = (int) (candidate & (MAX_TERMS - 1));
+            int end = start + termLength[term];
+            if (start < coveredUntil
+                    || (termNeedsRightBoundary[term] && end < n && isWordChar(folded[end]))) {
+                continue;
+            }
+            coveredUntil = end;
+            int skill = termSkill[term];
+            if (!seen.get(skill)) {
+                seen.set(skill);
+                if (resultCount == result.length) {
+                    result = Arrays.copyOf(result, resultCount * 2);
+                }
+                result[resultCount++] = skill;
+            }
+        }
+        return Arrays.copyOf(result, resultCount);
+    }
+
+    int getStateCount() {
+        return fail.length;
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            if (state == ROOT) {
+                return c < rootNext.length ? rootNext[c] : child(ROOT, c, ROOT);
+            }
+            int target = child(state, c, NONE);
+            if (target != NONE) {
+                return target;
+            }
+            state = fail[state];
+        }
+    }
+
+    private int child(int state, char c, int missing) {
+        int lo = edgeStart[state];
+        int hi = edgeStart[state + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = edgeChars[mid];
+            if (m < c) {
+                lo = mid + 1;
+            } else if (m > c) {
+                hi = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * Case-fold and collapse whitespace the same way the scanner does
+     * @param text the text
+     * @return the folded, trimmed text
+     */
+    static String fold(CharSequence text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = foldChar(text.charAt(i));
+            if (c == ' ' && (sb.isEmpty() || sb.charAt(sb.length() - 1) == ' ')) {
+                continue;
+            }
+            sb.append(c);
+        }
+        int end = sb.length();
+        while (end > 0 && sb.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return sb.substring(0, end);
+    }
+
+    private static char foldChar(char c) {
+        if (c < 128) {
+            if (c >= 'A' && c <= 'Z') {
+                return (char) (c + ('a' - 'A'));
+            }
+            return c <= ' ' ? ' ' : c;
+        }
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) ? ' ' : Character.toLowerCase(c);
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,128 @@
+package com.jobhive.service;
+
+import com.jobhive.model.Skill;
+import com.jobhive.repository.SkillRepository;
+import jakarta.annotation.PostConstruct;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the skills table in step with the skill dictionary and translates
+ * between dictionary skill ids (codes) and the integer ids used in join
+ * tables and bitsets. New dictionary entries are inserted at startup;
+ * existing rows keep their ids so stored bitsets stay valid.
+ */
+@Component
+public class SkillCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillCatalog.class);
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private SkillExtractor skillExtractor;
+
+    private volatile Map<String, Integer> idsByCode = Map.of();
+    private volatile Map<Integer, Skill> skillsById = Map.of();
+
+    @PostConstruct
+    void synchronizeWithDictionary() {
+        Map<String, Skill> existing = new HashMap<>();
+        for (Skill skill : skillRepository.findAll()) {
+            existing.put(skill.getCode(), skill);
+        }
+
+        List<Skill> changed = new ArrayList<>();
+        for (SkillExtractor.Skill entry : skillExtractor.getSkills()) {
+            Skill skill = existing.get(entry.id());
+            if (skill == null) {
+                skill = new Skill(entry.id(), entry.displayName());
+                existing.put(entry.id(), skill);
+                changed.add(skill);
+            } else if (!skill.getDisplayName().equals(entry.displayName())) {
+                skill.setDisplayName(entry.displayName());
+                changed.add(skill);
+            }
+        }
+        if (!changed.isEmpty()) {
+            skillRepository.saveAll(changed);
+        }
+
+        Map<String, Integer> byCode = new HashMap<>();
+        Map<Integer, Skill> byId = new HashMap<>();
+        for (Skill skill : existing.values()) {
+            byCode.put(skill.getCode(), skill.getId());
+            byId.put(skill.getId(), skill);
+        }
+        idsByCode = byCode;
+        skillsById = byId;
+        log.info("Skill catalog ready: {} skills ({} inserted or renamed)", byId.size(), changed.size());
+    }
+
+    /**
+     * Map dictionary skill codes to integer skill ids; unknown codes are skipped
+     * @param codes skill codes
+     * @return skill ids
+     */
+    public Set<Integer> toIds(Collection<String> codes) {
+        Set<Integer> ids = new HashSet<>();
+        for (String code : codes) {
+            Integer id = idsByCode.get(code);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Build a compressed bitset of skill ids
+     * @param ids skill ids
+     * @return the bitset
+     */
+    public static RoaringBitmap toBitmap(Collection<Integer> ids) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (Integer id : ids) {
+            bitmap.add(id);
+        }
+        bitmap.runOptimize();
+        return bitmap;
+    }
+
+    /**
+     * Resolve skill ids to display names
+     * @param bitmap skill ids
+     * @return display names in skill id order
+     */
+    public List<String> toDisplayNames(RoaringBitmap bitmap) {
+        List<String> names = new ArrayList<>(bitmap.getCardinality());
+        bitmap.forEach((int id) -> {
+            Skill skill = skillsById.get(id);
+            if (skill != null) {
+                names.add(skill.getDisplayName());
+            }
+        });
+        return names;
+    }
+
+    /**
+     * Resolve skill ids to display names
+     * @param ids skill ids
+     * @return display names in skill id order
+     */
+    public List<String> toDisplayNames(Collection<Integer> ids) {
+        return toDisplayNames(toBitmap(ids));
+    }
+}
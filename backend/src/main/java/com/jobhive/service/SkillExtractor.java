@@ -0,0 +1,191 @@
+package com.jobhive.service;
+
+import com.jobhive.model.Job;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Extracts normalized skill ids from free text (resume content, job requirements
+ * and descriptions) using an Aho-Corasick automaton compiled from a versioned
+ * skill dictionary. Matching is case-insensitive, whitespace-insensitive and
+ * limited to whole words; synonyms map to the same skill id.
+ */
+@Component
+public class SkillExtractor {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillExtractor.class);
+
+    /**
+     * Separator used when skill ids are stored as a single string
+     */
+    public static final String STORED_SEPARATOR = ",";
+
+    @Value("${app.skills.dictionary:classpath:skills/skills-v1.txt}")
+    private Resource dictionaryResource;
+
+    private int version;
+    private List<Skill> skills;
+    private Map<String, Skill> skillsById;
+    private SkillAutomaton automaton;
+
+    @PostConstruct
+    void loadDictionary() throws IOException {
+        long start = System.nanoTime();
+        List<Skill> loadedSkills = new ArrayList<>();
+        Map<String, Skill> byId = new HashMap<>();
+        List<String> terms = new ArrayList<>();
+        List<Integer> termSkills = new ArrayList<>();
+        int loadedVersion = 0;
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(dictionaryResource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                if (line.startsWith("version=")) {
+                    loadedVersion = Integer.parseInt(line.substring("version=".length()).trim());
+                    continue;
+                }
+
+                String[] fields = line.split("\\|");
+                String id = fields[0].trim();
+                if (fields.length < 2 || id.isEmpty() || id.contains(STORED_SEPARATOR)) {
+                    throw new IllegalStateException("Invalid skill dictionary entry at line " + lineNumber + ": " + line);
+                }
+                Skill skill = new Skill(id, fields[1].trim());
+                if (byId.putIfAbsent(id, skill) != null) {
+                    throw new IllegalStateException("Duplicate skill id '" + id + "' at line " + lineNumber);
+                }
+                int index = loadedSkills.size();
+                loadedSkills.add(skill);
+
+                if (fields.length == 2) {
+                    terms.add(skill.displayName());
+                    termSkills.add(index);
+                }
+                for (int i = 2; i < fields.length; i++) {
+                    if (!fields[i].isBlank()) {
+                        terms.add(fields[i]);
+                        termSkills.add(index);
+                    }
+                }
+            }
+        }
+        if (loadedVersion <= 0) {
+            throw new IllegalStateException("Skill dictionary " + dictionaryResource + " has no version line");
+        }
+
+        this.version = loadedVersion;
+        this.skills = Collections.unmodifiableList(loadedSkills);
+        this.skillsById = Collections.unmodifiableMap(byId);
+        this.automaton = new SkillAutomaton(terms, termSkills.stream().mapToInt(Integer::intValue).toArray());
+
+        log.info("Skill dictionary v{} compiled: {} skills, {} terms, {} states in {} ms",
+                version, skills.size(), terms.size(), automaton.getStateCount(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Extract skill ids from one or more texts in a single pass
+     * @param texts texts to scan; null entries are ignored
+     * @return skill ids in order of first appearance
+     */
+    public Set<String> extract(CharSequence... texts) {
+        int[] matched = automaton.scan(texts);
+        Set<String> ids = new LinkedHashSet<>(matched.length * 2);
+        for (int index : matched) {
+            ids.add(skills.get(index).id());
+        }
+        return ids;
+    }
+
+    /**
+     * Extract skill ids from a job's title, requirements and description
+     * @param job the job
+     * @return skill ids in order of first appearance
+     */
+    public Set<String> extractJobSkills(Job job) {
+        return extract(job.getJobTitle(), job.getRequirements(), job.getJobDescription());
+    }
+
+    /**
+     * Join skill ids into the comma-separated form stored on entities
+     * @param ids skill ids
+     * @return the stored string, or null if there are no skills
+     */
+    public static String toStoredForm(Collection<String> ids) {
+        return ids == null || ids.isEmpty() ? null : String.join(STORED_SEPARATOR, ids);
+    }
+
+    /**
+     * Split a stored skill string back into ids
+     * @param stored comma-separated skill ids
+     * @return skill ids in stored order
+     */
+    public static Set<String> fromStoredForm(String stored) {
+        Set<String> ids = new LinkedHashSet<>();
+        if (stored != null) {
+            for (String id : stored.split(STORED_SEPARATOR)) {
+                if (!id.isBlank()) {
+                    ids.add(id.trim());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Look up a skill by id
+     * @param id the skill id
+     * @return the skill, or null if the id is not in the dictionary
+     */
+    public Skill getSkill(String id) {
+        return skillsById.get(id);
+    }
+
+    /**
+     * All skills in dictionary order
+     * @return unmodifiable list of skills
+     */
+    public List<Skill> getSkills() {
+        return skills;
+    }
+
+    /**
+     * Dictionary version; changes whenever the text-to-id mapping changes
+     * @return the dictionary version
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * A dictionary skill
+     * @param id normalized skill id
+     * @param displayName human-readable name
+     */
+    public record Skill(String id, String displayName) {
+    }
+}
@@ -0,0 +1,291 @@
+package com.jobhive.service;
+
+import com.jobhive.event.JobContentChangedEvent;
+import com.jobhive.event.JobDeletedEvent;
+import com.jobhive.event.JobsArchivedEvent;
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.ResumeRepository;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory index of skill bitsets for each user's saved jobs and resumes.
+ * A user's bitsets are loaded from the join tables on first use and kept in
+ * step by the services that write jobs and resumes; matching a resume against
+ * every saved job is then one bitset intersection per job with no database access.
+ * Users idle longer than the configured timeout are dropped and reloaded on demand.
+ * <p>
+ * A user's entry is created empty and loaded under its own lock, outside the map, so
+ * the database read never holds a map bin. Updates take the same lock: one that
+ * arrives during a load waits for it and is applied on top, and one that arrives
+ * before a load is skipped because the load reads the committed change anyway.
+ */
+@Component
+public class SkillMatchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(SkillMatchIndex.class);
+
+    private static final Comparator<SkillMatch> BY_SCORE = Comparator
+            .comparingDouble(SkillMatch::score)
+            .thenComparingInt(m -> m.matched().getCardinality())
+            .thenComparing(SkillMatch::jobId, Comparator.reverseOrder());
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Value("${app.skills.match-index.idle-timeout:30m}")
+    private Duration idleTimeout;
+
+    private final ConcurrentHashMap<Long, UserSkills> usersById = new ConcurrentHashMap<>();
+
+    /**
+     * Rank a user's saved jobs by how many of their skills a resume covers
+     * @param userId the user ID
+     * @param resumeId the resume ID
+     * @param limit maximum number of matches to return
+     * @return matches ordered best first; jobs without any shared skill are omitted
+     */
+    public List<SkillMatch> match(Long userId, Long resumeId, int limit) {
+        UserSkills user = load(userId);
+        RoaringBitmap resume = user.resumes.get(resumeId);
+        if (resume == null || resume.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        // Bounded min-heap keeps only the best `limit` candidates
+        PriorityQueue<Candidate> top = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(Candidate::score).thenComparing(Candidate::jobId, Comparator.reverseOrder()));
+        for (Map.Entry<Long, RoaringBitmap> entry : user.jobs.entrySet()) {
+            RoaringBitmap job = entry.getValue();
+            int required = job.getCardinality();
+            if (required == 0) {
+                continue;
+            }
+            int shared = RoaringBitmap.andCardinality(resume, job);
+            if (shared == 0) {
+                continue;
+            }
+            double score = (double) shared / required;
+            if (top.size() < limit) {
+                top.add(new Candidate(entry.getKey(), score));
+            } else if (score > top.peek().score()) {
+                top.poll();
+                top.add(new Candidate(entry.getKey(), score));
+            }
+        }
+
+        List<SkillMatch> matches = new ArrayList<>(top.size());
+        for (Candidate candidate : top) {
+            RoaringBitmap job = user.jobs.get(candidate.jobId());
+            if (job != null) {
+                matches.add(new SkillMatch(candidate.jobId(), candidate.score(),
+                        RoaringBitmap.and(resume, job), RoaringBitmap.andNot(job, resume)));
+            }
+        }
+        matches.sort(BY_SCORE.reversed());
+        return matches;
+    }
+
+    /**
+     * Skill coverage of a resume for each of the given jobs
+     * @param userId the user ID
+     * @param resumeId the resume ID
+     * @param jobIds the jobs to score
+     * @return coverage per job ID; jobs without skills have zero coverage
+     */
+    public Map<Long, Coverage> coverage(Long userId, Long resumeId, Collection<Long> jobIds) {
+        UserSkills user = load(userId);
+        RoaringBitmap resume = user.resumes.getOrDefault(resumeId, new RoaringBitmap());
+        Map<Long, Coverage> result = new HashMap<>(jobIds.size() * 2);
+        for (Long jobId : jobIds) {
+            RoaringBitmap job = user.jobs.get(jobId);
+            if (job != null) {
+                result.put(jobId, new Coverage(RoaringBitmap.andCardinality(resume, job), job.getCardinality()));
+            } else {
+                result.put(jobId, new Coverage(0, 0));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Record a job's skills, if the owner's index is loaded
+     * @param userId the owner's ID
+     * @param jobId the job ID
+     * @param skillIds skill ids of the job
+     */
+    public void putJob(Long userId, Long jobId, Collection<Integer> skillIds) {
+        RoaringBitmap bitmap = SkillCatalog.toBitmap(skillIds);
+        update(userId, user -> user.jobs.put(jobId, bitmap));
+    }
+
+    /**
+     * Forget a deleted job
+     * @param userId the owner's ID
+     * @param jobId the job ID
+     */
+    public void removeJob(Long userId, Long jobId) {
+        update(userId, user -> user.jobs.remove(jobId));
+    }
+
+    // Job changes are applied only once committed, so a rolled-back write never reaches the index
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobContentChanged(JobContentChangedEvent event) {
+        putJob(event.userId(), event.jobId(), event.skillIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobDeleted(JobDeletedEvent event) {
+        removeJob(event.userId(), event.jobId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobsArchived(JobsArchivedEvent event) {
+        event.jobIds().forEach(jobId -> removeJob(event.userId(), jobId));
+    }
+
+    /**
+     * Record a resume's skills, if the owner's index is loaded
+     * @param userId the owner's ID
+     * @param resumeId the resume ID
+     * @param skillIds skill ids of the resume
+     */
+    public void putResume(Long userId, Long resumeId, Collection<Integer> skillIds) {
+        RoaringBitmap bitmap = SkillCatalog.toBitmap(skillIds);
+        update(userId, user -> user.resumes.put(resumeId, bitmap));
+    }
+
+    /**
+     * Drop everything indexed for a user
+     * @param userId the user ID
+     */
+    public void evictUser(Long userId) {
+        usersById.remove(userId);
+    }
+
+    /**
+     * Drop users that have not queried the index recently
+     */
+    @Scheduled(fixedDelayString = "${app.skills.match-index.eviction-interval-ms:300000}")
+    public void evictIdleUsers() {
+        long cutoff = System.currentTimeMillis() - idleTimeout.toMillis();
+        int before = usersById.size();
+        usersById.values().removeIf(user -> user.lastAccess < cutoff);
+        int removed = before - usersById.size();
+        if (removed > 0) {
+            log.debug("Evicted {} idle users from the skill match index", removed);
+        }
+    }
+
+    public int getLoadedUserCount() {
+        return usersById.size();
+    }
+
+    private UserSkills load(Long userId) {
+        // Only the empty entry is created inside the map; the query runs under the entry's lock
+        UserSkills user = usersById.computeIfAbsent(userId, id -> new UserSkills());
+        user.lastAccess = System.currentTimeMillis();
+        if (!user.loaded) {
+            user.lock.lock();
+            try {
+                if (!user.loaded) {
+                    long start = System.nanoTime();
+                    user.jobs.putAll(toBitmaps(jobRepository.findSkillIdsByUserId(userId)));
+                    user.resumes.putAll(toBitmaps(resumeRepository.findSkillIdsByUserId(userId)));
+                    user.loaded = true;
+                    log.debug("Loaded skill index for user {}: {} jobs, {} resumes in {} ms", userId,
+                            user.jobs.size(), user.resumes.size(), (System.nanoTime() - start) / 1_000_000);
+                }
+            } finally {
+                user.lock.unlock();
+            }
+        }
+        return user;
+    }
+
+    /**
+     * Apply a change to a user's entry if it is loaded, after any load in progress
+     */
+    private void update(Long userId, Consumer<UserSkills> change) {
+        UserSkills user = usersById.get(userId);
+        if (user == null) {
+            return;
+        }
+        user.lock.lock();
+        try {
+            if (user.loaded) {
+                change.accept(user);
+            }
+        } finally {
+            user.lock.unlock();
+        }
+    }
+
+    private static Map<Long, RoaringBitmap> toBitmaps(List<Object[]> rows) {
+        Map<Long, RoaringBitmap> bitmaps = new HashMap<>();
+        for (Object[] row : rows) {
+            bitmaps.computeIfAbsent((Long) row[0], k -> new RoaringBitmap()).add((Integer) row[1]);
+        }
+        bitmaps.values().forEach(RoaringBitmap::runOptimize);
+        return bitmaps;
+    }
+
+    private static final class UserSkills {
+        final ConcurrentHashMap<Long, RoaringBitmap> jobs = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<Long, RoaringBitmap> resumes = new ConcurrentHashMap<>();
+        final ReentrantLock lock = new ReentrantLock();
+        volatile boolean loaded;
+        volatile long lastAccess = System.currentTimeMillis();
+    }
+
+    private record Candidate(Long jobId, double score) {
+    }
+
+    /**
+     * Number of a job's skills found in a resume
+     * @param matched skills shared by the resume and the job
+     * @param required skills the job lists
+     */
+    public record Coverage(int matched, int required) {
+
+        /**
+         * @return fraction of the job's skills covered, 0 when the job lists none
+         */
+        public double score() {
+            return required == 0 ? 0.0 : (double) matched / required;
+        }
+    }
+
+    /**
+     * How well a resume covers one job's skills
+     * @param jobId the job ID
+     * @param score fraction of the job's skills found in the resume (0..1]
+     * @param matched skill ids shared by the resume and the job
+     * @param missing skill ids the job lists but the resume lacks
+     */
+    public record SkillMatch(Long jobId, double score, RoaringBitmap matched, RoaringBitmap missing) {
+    }
+}
@@ -0,0 +1,237 @@
+package com.jobhive.service;
+
+import com.jobhive.dto.JobResponse;
+import com.jobhive.dto.ResumeResponse;
+import com.jobhive.dto.SyncChange;
+import com.jobhive.dto.SyncResponse;
+import com.jobhive.dto.UserProfileResponse;
+import com.jobhive.model.ChangeLogEntry;
+import com.jobhive.model.Job;
+import com.jobhive.model.Resume;
+import com.jobhive.repository.ChangeLogRepository;
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.ResumeRepository;
+import com.jobhive.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Delta sync for the frontend's persisted store. Every change to a user's jobs,
+ * resumes or profile moves that entity's change_log row to the user's next change
+ * sequence number; deletions leave the row as a tombstone. A client keeps the
+ * sequence it has seen as its cursor and asks only for rows past it.
+ * <p>
+ * Sequence numbers come from a counter on the user row, and taking one locks that
+ * row until commit, so a user's changes commit in sequence order and a cursor never
+ * skips a change that commits late. Users whose log was never started (data from
+ * before the log existed) get a row for every entity on first use.
+ */
+@Service
+public class SyncService {
+
+    @Autowired
+    private ChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @Autowired
+    private LoginActivityTracker loginActivityTracker;
+
+    /**
+     * Record that an entity was created or changed
+     * @param userId the owner's ID
+     * @param type the entity type
+     * @param entityId the entity ID
+     */
+    @Transactional
+    public void recordChange(Long userId, ChangeLogEntry.EntityType type, Long entityId) {
+        record(userId, type, entityId, false);
+    }
+
+    /**
+     * Record that an entity was deleted
+     * @param userId the owner's ID
+     * @param type the entity type
+     * @param entityId the entity ID
+     */
+    @Transactional
+    public void recordDeletion(Long userId, ChangeLogEntry.EntityType type, Long entityId) {
+        record(userId, type, entityId, true);
+    }
+
+    /**
+     * Record that entities of one user were deleted. Nothing is recorded for a user
+     * whose log was never started, since their first sync only lists what exists.
+     * @param userId the owner's ID
+     * @param type the entity type
+     * @param entityIds the entity IDs
+     */
+    @Transactional
+    public void recordDeletions(Long userId, ChangeLogEntry.EntityType type, Collection<Long> entityIds) {
+        if (userRepository.findChangeSeq(userId) == null) {
+            return;
+        }
+        for (Long entityId : entityIds) {
+            record(userId, type, entityId, true);
+        }
+    }
+
+    /**
+     * Record that resumes changed, looking up their owners
+     * @param resumeIds the resume IDs
+     */
+    @Transactional
+    public void recordResumeChanges(Collection<Long> resumeIds) {
+        for (Object[] row : resumeRepository.findOwnerIds(resumeIds)) {
+            record((Long) row[1], ChangeLogEntry.EntityType.RESUME, (Long) row[0], false);
+        }
+    }
+
+    /**
+     * Changes after a cursor, oldest first. A cursor ahead of the user's sequence
+     * (e.g. from a reset database) is answered from the start with reset set.
+     * @param userId the user's ID
+     * @param since the client's cursor, 0 for everything
+     * @param limit maximum number of changes
+     * @return the changes with the cursor to send next time
+     */
+    @Transactional
+    public SyncResponse sync(Long userId, long since, int limit) {
+        Long current = userRepository.findChangeSeq(userId);
+        if (current == null) {
+            current = start(userId);
+        }
+        boolean reset = since > current;
+        long cursor = reset ? 0 : since;
+
+        List<ChangeLogEntry> entries = changeLogRepository.findByUserIdAndSeqGreaterThanOrderBySeq(
+                userId, cursor, PageRequest.of(0, limit + 1));
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+
+        List<Long> jobIds = new ArrayList<>();
+        List<Long> resumeIds = new ArrayList<>();
+        boolean userChanged = false;
+        for (ChangeLogEntry entry : entries) {
+            if (entry.isDeleted()) {
+                continue;
+            }
+            switch (entry.getEntityType()) {
+                case JOB -> jobIds.add(entry.getEntityId());
+                case RESUME -> resumeIds.add(entry.getEntityId());
+                case USER -> userChanged = true;
+            }
+        }
+        Map<Long, Object> jobs = jobIds.isEmpty() ? Map.of()
+                : byId(jobRepository.findByIdInAndUserId(jobIds, userId), Job::getId, this::toJobResponse);
+        Map<Long, Object> resumes = resumeIds.isEmpty() ? Map.of()
+                : byId(resumeRepository.findByIdInAndUserId(resumeIds, userId), Resume::getId, this::toResumeResponse);
+        Object user = userChanged ? userRepository.findById(userId)
+                .map(loginActivityTracker::applyPending)
+                .map(UserProfileResponse::new)
+                .orElse(null) : null;
+
+        List<SyncChange> changes = new ArrayList<>(entries.size());
+        for (ChangeLogEntry entry : entries) {
+            Object data = null;
+            if (!entry.isDeleted()) {
+                data = switch (entry.getEntityType()) {
+                    case JOB -> jobs.get(entry.getEntityId());
+                    case RESUME -> resumes.get(entry.getEntityId());
+                    case USER -> user;
+                };
+            }
+            // A row gone without a tombstone is reported deleted all the same
+            changes.add(new SyncChange(entry, data));
+        }
+        long next = entries.isEmpty() ? cursor : entries.get(entries.size() - 1).getSeq();
+        return new SyncResponse(next, hasMore, reset, changes);
+    }
+
+    private void record(Long userId, ChangeLogEntry.EntityType type, Long entityId, boolean deleted) {
+        long seq = nextSeq(userId);
+        ChangeLogEntry entry = changeLogRepository.findByUserIdAndEntityTypeAndEntityId(userId, type, entityId)
+                .orElseGet(() -> new ChangeLogEntry(userId, type, entityId));
+        entry.setSeq(seq);
+        entry.setDeleted(deleted);
+        entry.setChangedAt(LocalDateTime.now());
+        changeLogRepository.save(entry);
+    }
+
+    private long nextSeq(Long userId) {
+        if (userRepository.advanceChangeSeq(userId, 1) == 0) {
+            start(userId);
+            userRepository.advanceChangeSeq(userId, 1);
+        }
+        return userRepository.findChangeSeq(userId);
+    }
+
+    /**
+     * Start a user's log with a row for the profile and every existing job and resume
+     * @return the user's sequence afterwards
+     */
+    private long start(Long userId) {
+        if (userRepository.startChangeSeq(userId) == 0) {
+            // Started concurrently; the row lock kept us out until it committed
+            Long current = userRepository.findChangeSeq(userId);
+            return current != null ? current : 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<ChangeLogEntry> entries = new ArrayList<>();
+        entries.add(new ChangeLogEntry(userId, ChangeLogEntry.EntityType.USER, userId));
+        for (Long id : jobRepository.findIdsByUserId(userId)) {
+            entries.add(new ChangeLogEntry(userId, ChangeLogEntry.EntityType.JOB, id));
+        }
+        for (Long id : resumeRepository.findIdsByUserId(userId)) {
+            entries.add(new ChangeLogEntry(userId, ChangeLogEntry.EntityType.RESUME, id));
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            entries.get(i).setSeq(i + 1);
+            entries.get(i).setChangedAt(now);
+        }
+        changeLogRepository.saveAll(entries);
+        userRepository.advanceChangeSeq(userId, entries.size());
+        return entries.size();
+    }
+
+    private JobResponse toJobResponse(Job job) {
+        return new JobResponse(job, skillCatalog.toDisplayNames(job.getSkillIds()));
+    }
+
+    private ResumeResponse toResumeResponse(Resume resume) {
+        ResumeResponse response = new ResumeResponse(resume);
+        // Parsed text can be large and is fetched on demand from GET /resume/{id}
+        response.setParsedContent(null);
+        return response;
+    }
+
+    private static <T> Map<Long, Object> byId(List<T> rows, Function<T, Long> id, Function<T, Object> mapper) {
+        Map<Long, Object> result = new HashMap<>(rows.size() * 2);
+        for (T row : rows) {
+            result.put(id.apply(row), mapper.apply(row));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,414 @@
+package com.jobhive.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhive.event.JobContentChangedEvent;
+import com.jobhive.event.JobDeletedEvent;
+import com.jobhive.event.JobStatusChangedEvent;
+import com.jobhive.event.JobsArchivedEvent;
+import com.jobhive.event.ResumeParseFailedEvent;
+import com.jobhive.event.ResumeParsedEvent;
+import com.jobhive.exception.EventStreamUnavailableException;
+import com.jobhive.model.Job;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans out job and resume events to each user's open Server-Sent Events connections.
+ * <p>
+ * Connections are async requests, so an idle one holds no thread: just its socket,
+ * the emitter and an empty queue. Publishing serializes the event once and appends
+ * it to each of the user's connection buffers; a small pool writes buffers out, one
+ * drain per connection at a time, so a slow client never blocks the publisher. A
+ * connection whose buffer fills up is closed (the client reconnects and resyncs),
+ * and connections that have been quiet get a heartbeat comment so proxies keep them
+ * open and dead ones are noticed.
+ * <p>
+ * A write to a client that stopped reading blocks until the container's socket write
+ * timeout. A connection whose write has been stuck longer than app.events.write-timeout
+ * is evicted, and the pool gets an extra thread until that write returns, so a stuck
+ * client only holds up its own stream.
+ */
+@Service
+public class UserEventHub {
+
+    private static final Logger log = LoggerFactory.getLogger(UserEventHub.class);
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> CONNECTED =
+            SseEmitter.event().comment("connected").build();
+
+    private static final Set<ResponseBodyEmitter.DataWithMediaType> HEARTBEAT =
+            SseEmitter.event().comment("heartbeat").build();
+
+    /** Write states of a connection's drain */
+    private static final int IDLE = 0;
+    private static final int WRITING = 1;
+    private static final int STALLED = 2;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("eventPushExecutor")
+    private ThreadPoolTaskExecutor eventPushExecutor;
+
+    @Value("${app.events.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${app.events.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${app.events.max-connections:10000}")
+    private int maxConnections;
+
+    @Value("${app.events.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${app.events.heartbeat-interval-ms:25000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${app.events.push-threads:2}")
+    private int pushThreads;
+
+    @Value("${app.events.write-timeout:10s}")
+    private Duration writeTimeout;
+
+    /** Open connections per user, oldest first */
+    private final ConcurrentHashMap<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong nextEventId = new AtomicLong();
+
+    /** Connections with a write in progress, whether or not they are still subscribed */
+    private final Set<Subscriber> writing = ConcurrentHashMap.newKeySet();
+
+    /** Drain threads blocked on an evicted connection's write, each replaced by an extra pool thread */
+    private int stalledWriters;
+
+    /**
+     * Open an event stream for a user. Beyond the per-user limit the user's oldest
+     * stream is closed.
+     * @param userId the user's ID
+     * @return the emitter to return from the controller
+     * @throws EventStreamUnavailableException if the server-wide limit is reached
+     */
+    public SseEmitter subscribe(Long userId) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw EventStreamUnavailableException.INSTANCE;
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(subscriber));
+
+        Subscriber[] displaced = new Subscriber[1];
+        subscribers.compute(userId, (id, list) -> {
+            List<Subscriber> connections = list != null ? list : new CopyOnWriteArrayList<>();
+            connections.add(subscriber);
+            if (connections.size() > maxConnectionsPerUser) {
+                displaced[0] = connections.remove(0);
+            }
+            return connections;
+        });
+        if (displaced[0] != null) {
+            connectionCount.decrementAndGet();
+            close(displaced[0]);
+        }
+        offer(subscriber, CONNECTED);
+        return emitter;
+    }
+
+    /**
+     * Send an event to all of a user's open streams
+     * @param userId the user's ID
+     * @param name the event name
+     * @param payload the event data, sent as JSON
+     */
+    public void publish(Long userId, String name, Object payload) {
+        List<Subscriber> connections = subscribers.get(userId);
+        if (connections == null) {
+            return;
+        }
+        Set<ResponseBodyEmitter.DataWithMediaType> event;
+        try {
+            event = SseEmitter.event()
+                    .id(Long.toString(nextEventId.incrementAndGet()))
+                    .name(name)
+                    .data(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize {} event: {}", name, e.getMessage());
+            return;
+        }
+        for (Subscriber subscriber : connections) {
+            offer(subscriber, event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeParsed(ResumeParsedEvent event) {
+        publish(event.userId(), "resume.parsed", new ResumePayload(event.resumeId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResumeParseFailed(ResumeParseFailedEvent event) {
+        publish(event.userId(), "resume.failed", new ResumePayload(event.resumeId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobContentChanged(JobContentChangedEvent event) {
+        publish(event.userId(), "job.changed", new JobChangedPayload(event.jobId(), event.contentVersion()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobStatusChanged(JobStatusChangedEvent event) {
+        publish(event.userId(), "job.status", new JobStatusPayload(event.jobId(), event.status()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobDeleted(JobDeletedEvent event) {
+        publish(event.userId(), "job.deleted", new JobPayload(event.jobId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobsArchived(JobsArchivedEvent event) {
+        publish(event.userId(), "job.archived", new JobsArchivedPayload(event.jobIds()));
+    }
+
+    /**
+     * Send a heartbeat comment on every connection that has been quiet for an interval
+     */
+    @Scheduled(fixedDelayString = "${app.events.heartbeat-interval-ms:25000}")
+    public void sendHeartbeats() {
+        long quietSince = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(heartbeatIntervalMs);
+        for (List<Subscriber> connections : subscribers.values()) {
+            for (Subscriber subscriber : connections) {
+                if (subscriber.lastSendNanos - quietSince <= 0) {
+                    offer(subscriber, HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    /**
+     * Evict connections whose current write has been blocked longer than the write
+     * timeout, and give the pool a thread in place of each blocked one
+     */
+    @Scheduled(fixedDelayString = "${app.events.write-check-interval-ms:1000}")
+    public void evictStalledWriters() {
+        long stalledSince = System.nanoTime() - writeTimeout.toNanos();
+        for (Subscriber subscriber : writing) {
+            if (subscriber.writeStartedNanos - stalledSince <= 0
+                    && subscriber.writeState.compareAndSet(WRITING, STALLED)) {
+                if (!subscriber.closed) {
+                    evictedCount.incrementAndGet();
+                    log.debug("Closing event stream of user {}: write blocked for over {}", subscriber.userId, writeTimeout);
+                    remove(subscriber);
+                    subscriber.closed = true;
+                }
+                resizePushPool(1);
+            }
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        for (List<Subscriber> connections : subscribers.values()) {
+            for (Subscriber subscriber : connections) {
+                remove(subscriber);
+                close(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Close all of a user's streams (e.g. when the account is deleted)
+     * @param userId the user's ID
+     */
+    public void disconnect(Long userId) {
+        List<Subscriber> connections = subscribers.remove(userId);
+        if (connections != null) {
+            connectionCount.addAndGet(-connections.size());
+            connections.forEach(this::close);
+        }
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    private void offer(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (subscriber.buffered.incrementAndGet() > bufferSize) {
+            subscriber.buffered.decrementAndGet();
+            evictedCount.incrementAndGet();
+            log.debug("Closing event stream of user {}: {} events unsent", subscriber.userId, bufferSize);
+            remove(subscriber);
+            close(subscriber);
+            return;
+        }
+        subscriber.queue.offer(event);
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            eventPushExecutor.execute(() -> drain(subscriber));
+        } catch (TaskRejectedException e) {
+            // Nothing is writing to this emitter, so completing it here cannot block
+            subscriber.draining.set(false);
+            remove(subscriber);
+            subscriber.closed = true;
+            finish(subscriber);
+        }
+    }
+
+    /**
+     * Write out a connection's buffer. Only one drain runs per connection; a publisher
+     * that finds one running leaves its event for it.
+     */
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while (!subscriber.closed && (event = subscriber.queue.poll()) != null) {
+                subscriber.buffered.decrementAndGet();
+                subscriber.writeStartedNanos = System.nanoTime();
+                subscriber.writeState.set(WRITING);
+                writing.add(subscriber);
+                try {
+                    subscriber.emitter.send(event);
+                    subscriber.lastSendNanos = System.nanoTime();
+                } catch (IOException | IllegalStateException e) {
+                    // Client went away or the emitter already completed
+                    remove(subscriber);
+                    subscriber.closed = true;
+                } finally {
+                    writing.remove(subscriber);
+                    if (subscriber.writeState.getAndSet(IDLE) == STALLED) {
+                        resizePushPool(-1);
+                    }
+                }
+            }
+            if (subscriber.closed) {
+                finish(subscriber);
+                return;
+            }
+            subscriber.draining.set(false);
+            // Recheck so an event offered after the last poll is not stranded
+            if ((subscriber.queue.isEmpty() && !subscriber.closed) || !subscriber.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Ask the drain to complete the emitter, so a publisher never waits on a blocked write
+     */
+    private void close(Subscriber subscriber) {
+        subscriber.closed = true;
+        scheduleDrain(subscriber);
+    }
+
+    private void finish(Subscriber subscriber) {
+        subscriber.queue.clear();
+        if (subscriber.completed.compareAndSet(false, true)) {
+            try {
+                subscriber.emitter.complete();
+            } catch (RuntimeException e) {
+                log.debug("Event stream of user {} already closed: {}", subscriber.userId, e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void resizePushPool(int delta) {
+        stalledWriters += delta;
+        int size = pushThreads + stalledWriters;
+        // The core size may never exceed the maximum, so order the two calls by direction
+        if (delta > 0) {
+            eventPushExecutor.setMaxPoolSize(size);
+            eventPushExecutor.setCorePoolSize(size);
+        } else {
+            eventPushExecutor.setCorePoolSize(size);
+            eventPushExecutor.setMaxPoolSize(size);
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(subscriber.userId, (id, connections) -> {
+            removed[0] = connections.remove(subscriber);
+            return connections.isEmpty() ? null : connections;
+        });
+        if (removed[0]) {
+            connectionCount.decrementAndGet();
+        }
+    }
+
+    private static final class Subscriber {
+        final Long userId;
+        final SseEmitter emitter;
+        final ConcurrentLinkedQueue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        final AtomicInteger buffered = new AtomicInteger();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean completed = new AtomicBoolean();
+        volatile boolean closed;
+        volatile long lastSendNanos = System.nanoTime();
+        final AtomicInteger writeState = new AtomicInteger(IDLE);
+        volatile long writeStartedNanos;
+
+        Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+
+    private record ResumePayload(Long resumeId) {
+    }
+
+    private record JobPayload(Long jobId) {
+    }
+
+    private record JobsArchivedPayload(List<Long> jobIds) {
+    }
+
+    private record JobChangedPayload(Long jobId, int contentVersion) {
+    }
+
+    private record JobStatusPayload(Long jobId, Job.ApplicationStatus status) {
+    }
+}
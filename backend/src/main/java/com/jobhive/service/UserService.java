@@ -3,14 +3,22 @@ package com.jobhive.service;
 import com.jobhive.dto.AuthResponse;
 import com.jobhive.dto.LoginRequest;
 import com.jobhive.dto.RegisterRequest;
+import com.jobhive.exception.EmailAlreadyRegisteredException;
+import com.jobhive.exception.InvalidCredentialsException;
+import com.jobhive.exception.UserNotFoundException;
+import com.jobhive.model.ChangeLogEntry;
 import com.jobhive.model.User;
 import com.jobhive.repository.UserRepository;
 import com.jobhive.security.JwtUtils;
+import io.micrometer.core.annotation.Timed;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -19,11 +27,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Locale;
 
 /**
  * User service for authentication and user management operations
  */
 @Service
+@Timed(value = "jobhive.user.service", description = "UserService method calls", histogram = true)
 public class UserService implements UserDetailsService {
 
     @Autowired
@@ -35,6 +45,15 @@ public class UserService implements UserDetailsService {
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+
+    @Autowired
+    private LoginActivityTracker loginActivityTracker;
+
+    @Autowired
+    private SyncService syncService;
+
     @Autowired
     @Lazy
     private AuthenticationManager authenticationManager;
@@ -47,9 +66,25 @@ public class UserService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(username)
+        String email = normalizeEmail(username);
+
+        // Unknown emails (e.g. credential stuffing) are rejected without a query
+        if (!emailBloomFilter.mightContain(email)) {
+            throw new UsernameNotFoundException("User not found: " + username);
+        }
+
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 
+        return toUserDetails(user);
+    }
+
+    /**
+     * Build Spring Security user details from a user entity
+     * @param user the user
+     * @return UserDetails implementation
+     */
+    private UserDetails toUserDetails(User user) {
         return org.springframework.security.core.userdetails.User.builder()
                 .username(user.getEmail())
                 .password(user.getPassword())
@@ -61,33 +96,37 @@ public class UserService implements UserDetailsService {
      * Register a new user
      * @param registerRequest the registration request
      * @return authentication response with JWT token
-     * @throws RuntimeException if email already exists
+     * @throws EmailAlreadyRegisteredException if email already exists
      */
     @Transactional
     public AuthResponse registerUser(RegisterRequest registerRequest) {
         // Validate JWT signing key BEFORE any DB changes so failures don't persist data
         jwtUtils.assertSigningKeyIsValid();
 
-        // Check if email already exists
-        if (userRepository.existsByEmail(registerRequest.getEmail())) {
-            throw new RuntimeException("Email is already registered");
-        }
-
         // Create new user
         User user = new User();
         user.setName(registerRequest.getName());
-        user.setEmail(registerRequest.getEmail());
+        user.setEmail(normalizeEmail(registerRequest.getEmail()));
         user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
         user.setPhone(registerRequest.getPhone());
         user.setLocation(registerRequest.getLocation());
         user.setEmailVerified(true); // For now, auto-verify
         user.setProfileCompleted(false);
 
-        // Save user
-        User savedUser = userRepository.save(user);
+        // Save user; the unique email constraint decides concurrent registrations
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConstraintViolation(e)) {
+                throw EmailAlreadyRegisteredException.INSTANCE;
+            }
+            throw e;
+        }
+        emailBloomFilter.put(savedUser.getEmail());
 
         // Generate JWT token
-        UserDetails userDetails = loadUserByUsername(savedUser.getEmail());
+        UserDetails userDetails = toUserDetails(savedUser);
         String token = jwtUtils.generateToken(userDetails);
 
         return new AuthResponse(token, savedUser);
@@ -97,7 +136,7 @@ public class UserService implements UserDetailsService {
      * Authenticate user login
      * @param loginRequest the login request
      * @return authentication response with JWT token
-     * @throws RuntimeException if authentication fails
+     * @throws InvalidCredentialsException if authentication fails
      */
     public AuthResponse authenticateUser(LoginRequest loginRequest) {
         try {
@@ -112,14 +151,16 @@ public class UserService implements UserDetailsService {
             // Get user details
             UserDetails userDetails = (UserDetails) authentication.getPrincipal();
             User user = userRepository.findByEmail(userDetails.getUsername())
-                    .orElseThrow(() -> new RuntimeException("User not found"));
+                    .orElseThrow(() -> InvalidCredentialsException.INSTANCE);
 
             // Generate JWT token
             String token = jwtUtils.generateToken(userDetails);
 
+            loginActivityTracker.recordLogin(user.getId());
+
             return new AuthResponse(token, user);
-        } catch (Exception e) {
-            throw new RuntimeException("Invalid email or password");
+        } catch (AuthenticationException e) {
+            throw InvalidCredentialsException.INSTANCE;
         }
     }
 
@@ -127,11 +168,12 @@ public class UserService implements UserDetailsService {
      * Get user profile by email
      * @param email the user's email
      * @return the user
-     * @throws RuntimeException if user not found
+     * @throws UserNotFoundException if user not found
      */
     public User getUserProfile(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = userRepository.findByEmail(normalizeEmail(email))
+                .orElseThrow(() -> UserNotFoundException.INSTANCE);
+        return loginActivityTracker.applyPending(user);
     }
 
     /**
@@ -139,11 +181,12 @@ public class UserService implements UserDetailsService {
      * @param email the user's email
      * @param updates the user updates
      * @return updated user
-     * @throws RuntimeException if user not found
+     * @throws UserNotFoundException if user not found
      */
+    @Transactional
     public User updateUserProfile(String email, User updates) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        User user = userRepository.findByEmail(normalizeEmail(email))
+                .orElseThrow(() -> UserNotFoundException.INSTANCE);
 
         // Update allowed fields
         if (updates.getName() != null) {
@@ -173,7 +216,9 @@ public class UserService implements UserDetailsService {
         
         user.setProfileCompleted(isCompleted);
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        syncService.recordChange(saved.getId(), ChangeLogEntry.EntityType.USER, saved.getId());
+        return loginActivityTracker.applyPending(saved);
     }
 
     /**
@@ -182,17 +227,57 @@ public class UserService implements UserDetailsService {
      * @return true if exists, false otherwise
      */
     public boolean emailExists(String email) {
-        return userRepository.existsByEmail(email);
+        String normalized = normalizeEmail(email);
+
+        // Definite misses are answered from memory; only probable hits hit the DB
+        if (!emailBloomFilter.mightContain(normalized)) {
+            return false;
+        }
+        return userRepository.existsByEmail(normalized);
+    }
+
+    /**
+     * Get the ID of a user by email without loading the entity
+     * @param email the user's email
+     * @return the user ID
+     * @throws UserNotFoundException if user not found
+     */
+    public Long getUserId(String email) {
+        return userRepository.findIdByEmail(normalizeEmail(email))
+                .orElseThrow(() -> UserNotFoundException.INSTANCE);
     }
 
     /**
      * Get user by ID
      * @param id the user ID
      * @return the user
-     * @throws RuntimeException if user not found
+     * @throws UserNotFoundException if user not found
      */
     public User getUserById(Long id) {
         return userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+                .orElseThrow(() -> UserNotFoundException.INSTANCE);
+    }
+
+    /**
+     * Normalize an email address for storage and lookup.
+     * Emails are stored lower-cased so the unique constraint on users.email is case-insensitive.
+     * @param email the raw email
+     * @return trimmed, lower-cased email (null stays null)
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Check whether an integrity violation came from the unique email constraint
+     * @param e the exception raised on insert
+     * @return true if the email was already taken
+     */
+    private static boolean isEmailConstraintViolation(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+            return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
+        }
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
     }
-}
\ No newline at end of file
+}
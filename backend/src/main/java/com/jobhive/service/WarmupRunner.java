@@ -0,0 +1,138 @@
+package com.jobhive.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhive.dto.AuthResponse;
+import com.jobhive.dto.JobResponse;
+import com.jobhive.model.Job;
+import com.jobhive.model.User;
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.UserRepository;
+import com.jobhive.security.JwtUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Exercises the auth and JPA hot paths before the application reports ready, so the
+ * first real requests do not pay for JIT compilation, Hibernate query plan parsing and
+ * Jackson serializer creation. Runners finish before the readiness state switches to
+ * ACCEPTING_TRAFFIC, so a load balancer polling /actuator/health/readiness only sends
+ * traffic once warm-up is done.
+ * <p>
+ * Everything runs against a scratch user and job inside a transaction that is rolled
+ * back, and stops at the configured time limit even if iterations remain.
+ */
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(WarmupRunner.class);
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.iterations:500}")
+    private int iterations;
+
+    @Value("${app.warmup.password-checks:5}")
+    private int passwordChecks;
+
+    @Value("${app.warmup.max-duration:20s}")
+    private Duration maxDuration;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + maxDuration.toNanos();
+        try {
+            int completed = new TransactionTemplate(transactionManager).execute(status -> {
+                status.setRollbackOnly();
+                return warmUp(deadline);
+            });
+            log.info("Warm-up finished: {} of {} iterations in {} ms", completed, iterations,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            // A failed warm-up only costs speed, never availability
+            log.warn("Warm-up aborted after {} ms", (System.nanoTime() - start) / 1_000_000, e);
+        }
+    }
+
+    private int warmUp(long deadline) {
+        String rawPassword = UUID.randomUUID().toString();
+        String email = "warmup-" + UUID.randomUUID() + "@warmup.invalid";
+        User user = userRepository.saveAndFlush(new User("Warm-up", email, passwordEncoder.encode(rawPassword)));
+        Job job = jobRepository.saveAndFlush(new Job("Warm-up Engineer", "Warm-up Inc", user));
+
+        int completed = 0;
+        while (completed < iterations && System.nanoTime() < deadline) {
+            try {
+                // Login and JWT filter path
+                UserDetails details = userService.loadUserByUsername(email);
+                if (completed < passwordChecks) {
+                    passwordEncoder.matches(rawPassword, details.getPassword());
+                }
+                String token = jwtUtils.generateToken(details);
+                jwtUtils.validateToken(token);
+                jwtUtils.validateToken(token, details);
+                jwtUtils.extractUsername(token);
+
+                // Profile and job read paths
+                User profile = userService.getUserProfile(email);
+                userService.emailExists(email);
+                Long userId = userService.getUserId(email);
+                List<JobResponse> jobs = jobService.getJobs(userId, PageRequest.of(0, 20)).getContent().stream()
+                        .map(scored -> new JobResponse(scored.job(), jobService.getSkillNames(scored.job())))
+                        .toList();
+                jobService.getJob(userId, job.getId());
+
+                // Response serialization
+                objectMapper.writeValueAsBytes(new AuthResponse(token, profile));
+                objectMapper.writeValueAsBytes(profile);
+                objectMapper.writeValueAsBytes(jobs);
+            } catch (Exception e) {
+                throw new IllegalStateException("Warm-up iteration " + completed + " failed", e);
+            }
+            completed++;
+        }
+        return completed;
+    }
+}
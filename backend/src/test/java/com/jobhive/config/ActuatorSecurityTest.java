@@ -0,0 +1,66 @@
+package com.jobhive.config;
+
+import com.jobhive.dto.AuthResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Only health and its probes are public; metrics reveal traffic and internals and need a token.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void healthIsPublic() {
+        assertThat(restTemplate.getForEntity("/actuator/health", String.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void metricsNeedAuthentication() {
+        for (String path : new String[] {"/actuator/prometheus", "/actuator/metrics", "/actuator/metrics/jvm.threads.live"}) {
+            assertThat(restTemplate.getForEntity(path, String.class).getStatusCode())
+                    .as(path)
+                    .isIn(HttpStatus.UNAUTHORIZED, HttpStatus.FORBIDDEN);
+        }
+    }
+
+    @Test
+    void metricsAreServedWithToken() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(registerAndGetToken());
+
+        // Test contexts do not export to Prometheus, so read the metrics endpoint instead
+        ResponseEntity<String> response = restTemplate.exchange("/actuator/metrics", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("\"names\"");
+    }
+
+    private String registerAndGetToken() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        String body = "{\"name\":\"Metrics Reader\",\"email\":\"metrics-" + UUID.randomUUID()
+                + "@example.com\",\"password\":\"Secret123!\"}";
+        return restTemplate.postForObject("/user/register", new HttpEntity<>(body, headers), AuthResponse.class)
+                .getToken();
+    }
+}
@@ -0,0 +1,34 @@
+package com.jobhive.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * With lazy initialization on, the request path and scheduled beans stay eager and the rest is lazy.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.lazy-initialization=true")
+@ActiveProfiles("test")
+class LazyInitializationTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    void requestPathBeansStayEager() {
+        for (String name : new String[] {"userController", "jobController", "filterChain", "jwtAuthenticationFilter",
+                "userService", "jwtUtils", "loginActivityTracker"}) {
+            assertThat(beanFactory.getBeanDefinition(name).isLazyInit()).as(name).isFalse();
+        }
+    }
+
+    @Test
+    void otherBeansAreLazy() {
+        assertThat(beanFactory.getBeanDefinition("resumeVersionService").isLazyInit()).isTrue();
+    }
+}
@@ -0,0 +1,68 @@
+package com.jobhive.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test helper asserting how many SQL statements one request to a route issues, read
+ * from the per-route statement summary that SqlStatementFilter records. The filter
+ * records after the response is sent, so the helper waits for the request to show up.
+ */
+public class SqlStatementBudget {
+
+    private static final long RECORD_TIMEOUT_MILLIS = 5000;
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementBudget(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Send one request and assert its statement count
+     * @param method the HTTP method of the route
+     * @param route the route pattern inside the context path, e.g. /user/profile
+     * @param maxStatements the budget
+     * @param request sends the request
+     * @param <T> the response type
+     * @return the response
+     */
+    public <T> T assertAtMost(String method, String route, int maxStatements, Supplier<T> request) {
+        long countBefore = count(method, route);
+        double totalBefore = total(method, route);
+
+        T response = request.get();
+
+        long deadline = System.currentTimeMillis() + RECORD_TIMEOUT_MILLIS;
+        while (count(method, route) == countBefore) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError(method + " " + route + " was not recorded by SqlStatementFilter");
+            }
+            Thread.onSpinWait();
+        }
+        assertThat(count(method, route)).as("requests recorded for %s %s", method, route).isEqualTo(countBefore + 1);
+        long statements = Math.round(total(method, route) - totalBefore);
+        assertThat(statements).as("SQL statements issued by %s %s", method, route).isLessThanOrEqualTo(maxStatements);
+        return response;
+    }
+
+    private long count(String method, String route) {
+        DistributionSummary summary = summary(method, route);
+        return summary != null ? summary.count() : 0;
+    }
+
+    private double total(String method, String route) {
+        DistributionSummary summary = summary(method, route);
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    private DistributionSummary summary(String method, String route) {
+        return meterRegistry.find("jobhive.sql.statements.per_request")
+                .tags("method", method, "uri", route)
+                .summary();
+    }
+}
@@ -0,0 +1,86 @@
+package com.jobhive.controller;
+
+import com.jobhive.dto.AuthResponse;
+import com.jobhive.service.AccountDeletionService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A finished deletion stays visible to the deleted account's token for the retention,
+ * instead of going from RUNNING straight to 404.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class AccountDeletionStatusTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+
+    @Test
+    void finishedDeletionIsReportedUntilItExpires() throws Exception {
+        String token = register();
+        assertThat(exchange("/user/account", HttpMethod.DELETE, token).getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+
+        ResponseEntity<String> status = exchange("/user/account/deletion", HttpMethod.GET, token);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!status.getBody().contains("\"status\":\"DONE\"") && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+            status = exchange("/user/account/deletion", HttpMethod.GET, token);
+        }
+        assertThat(status.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(status.getBody()).contains("\"status\":\"DONE\"");
+
+        // The account is gone: the token opens nothing else, and the status needs it
+        assertThat(exchange("/user/profile", HttpMethod.GET, token).getStatusCode())
+                .isIn(HttpStatus.UNAUTHORIZED, HttpStatus.FORBIDDEN);
+        assertThat(exchange("/user/account/deletion", HttpMethod.GET, null).getStatusCode())
+                .isIn(HttpStatus.UNAUTHORIZED, HttpStatus.FORBIDDEN);
+
+        Duration retention = (Duration) ReflectionTestUtils.getField(accountDeletionService, "statusRetention");
+        ReflectionTestUtils.setField(accountDeletionService, "statusRetention", Duration.ZERO);
+        try {
+            Thread.sleep(10);
+            accountDeletionService.expireDeletedAccounts();
+        } finally {
+            ReflectionTestUtils.setField(accountDeletionService, "statusRetention", retention);
+        }
+        assertThat(exchange("/user/account/deletion", HttpMethod.GET, token).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private String register() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        String body = "{\"name\":\"Leaving User\",\"email\":\"leaving-" + UUID.randomUUID()
+                + "@example.com\",\"password\":\"Secret123!\"}";
+        return restTemplate.postForObject("/user/register", new HttpEntity<>(body, headers), AuthResponse.class)
+                .getToken();
+    }
+
+    private ResponseEntity<String> exchange(String path, HttpMethod method, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        if (token != null) {
+            headers.setBearerAuth(token);
+        }
+        return restTemplate.exchange(path, method, new HttpEntity<>(headers), String.class);
+    }
+}
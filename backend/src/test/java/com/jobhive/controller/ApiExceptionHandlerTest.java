@@ -0,0 +1,93 @@
+package com.jobhive.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhive.exception.EmailAlreadyRegisteredException;
+import com.jobhive.exception.InvalidCredentialsException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Precomputed error bodies must keep the ErrorResponse shape, and failures nobody
+ * anticipated must still answer 500 rather than fall through to the error page.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ApiExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private ApiExceptionHandler handler;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void failedLoginReturnsErrorResponseShape() throws Exception {
+        // HttpURLConnection cannot read a 401 answer to a streamed POST, so use the JDK client
+        String body = "{\"email\":\"nobody@example.com\",\"password\":\"wrong-password\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(restTemplate.getRootUri() + "/user/login"))
+            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(response.headers().firstValue(HttpHeaders.CONTENT_TYPE)).hasValue(MediaType.APPLICATION_JSON_VALUE);
+        JsonNode json = objectMapper.readTree(response.body());
+        assertThat(json.get("error").asText()).isEqualTo("Login failed");
+        assertThat(json.get("message").asText()).isEqualTo("Invalid email or password");
+        assertThat(json.get("timestamp").asLong()).isPositive();
+    }
+
+    @Test
+    void cachedBodyCarriesFreshTimestamp() throws Exception {
+        long before = System.currentTimeMillis();
+        ResponseEntity<byte[]> response = handler.handleDomainException(EmailAlreadyRegisteredException.INSTANCE);
+
+        assertThat(response.getStatusCode()).isEqualTo(EmailAlreadyRegisteredException.INSTANCE.getStatus());
+        JsonNode json = objectMapper.readTree(response.getBody());
+        assertThat(json.fieldNames()).toIterable().containsExactly("error", "message", "timestamp");
+        assertThat(json.get("error").asText()).isEqualTo(EmailAlreadyRegisteredException.INSTANCE.getError());
+        assertThat(json.get("timestamp").asLong()).isGreaterThanOrEqualTo(before);
+    }
+
+    @Test
+    void unexpectedRuntimeExceptionMapsToInternalServerError() throws Exception {
+        ResponseEntity<byte[]> response = handler.handleUnexpectedException(new IllegalStateException("boom"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+        JsonNode json = objectMapper.readTree(response.getBody());
+        assertThat(json.get("error").asText()).isEqualTo("Internal server error");
+        assertThat(json.get("message").asText()).isEqualTo("Please try again later");
+    }
+
+    @Test
+    void securityExceptionsAreLeftToTheFilterChain() {
+        AccessDeniedException denied = new AccessDeniedException("denied");
+        assertThatThrownBy(() -> handler.handleUnexpectedException(denied)).isSameAs(denied);
+    }
+
+    @Test
+    void domainExceptionsDoNotCaptureStackTraces() {
+        assertThat(InvalidCredentialsException.INSTANCE.getStackTrace()).isEmpty();
+    }
+}
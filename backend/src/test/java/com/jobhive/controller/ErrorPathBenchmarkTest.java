@@ -0,0 +1,89 @@
+package com.jobhive.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jobhive.dto.ErrorResponse;
+import com.jobhive.exception.InvalidCredentialsException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cost of answering a failed login: the old path threw a fresh RuntimeException from
+ * deep in the call stack and serialized a new ErrorResponse, the new one throws the
+ * stackless singleton and appends a timestamp to a cached body.
+ * <p>
+ * Run with {@code mvn test -Pbenchmark}; results are printed in ns per failed login.
+ */
+@Tag("benchmark")
+class ErrorPathBenchmarkTest {
+
+    /** Roughly the depth of a login call under the servlet container, filter chain and proxies */
+    private static final int STACK_DEPTH = 120;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int ROUNDS = 10;
+    private static final int OPERATIONS = 20_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApiExceptionHandler handler = new ApiExceptionHandler();
+
+    private long sink;
+
+    @Test
+    void failedLoginErrorPath() {
+        double before = measure("stack trace + new ErrorResponse", () -> {
+            try {
+                throwAtDepth(STACK_DEPTH, () -> new RuntimeException("Invalid email or password"));
+                return 0;
+            } catch (RuntimeException e) {
+                try {
+                    return objectMapper.writeValueAsBytes(new ErrorResponse("Login failed", e.getMessage())).length;
+                } catch (Exception serialization) {
+                    throw new IllegalStateException(serialization);
+                }
+            }
+        });
+        double after = measure("stackless singleton + cached body", () -> {
+            try {
+                throwAtDepth(STACK_DEPTH, () -> InvalidCredentialsException.INSTANCE);
+                return 0;
+            } catch (InvalidCredentialsException e) {
+                ResponseEntity<byte[]> response = handler.handleDomainException(e);
+                return response.getBody().length;
+            }
+        });
+
+        System.out.printf("speedup: %.1fx%n", before / after);
+        assertThat(sink).isPositive();
+    }
+
+    private double measure(String name, Supplier<Integer> operation) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(operation);
+        }
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            run(operation);
+            best = Math.min(best, (System.nanoTime() - start) / (double) OPERATIONS);
+        }
+        System.out.printf("%-36s %10.0f ns/op%n", name, best);
+        return best;
+    }
+
+    private void run(Supplier<Integer> operation) {
+        for (int i = 0; i < OPERATIONS; i++) {
+            sink += operation.get();
+        }
+    }
+
+    private static void throwAtDepth(int depth, Supplier<RuntimeException> exception) {
+        if (depth == 0) {
+            throw exception.get();
+        }
+        throwAtDepth(depth - 1, exception);
+    }
+}
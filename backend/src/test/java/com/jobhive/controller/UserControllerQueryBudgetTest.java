@@ -0,0 +1,141 @@
+package com.jobhive.controller;
+
+import com.jobhive.config.SqlStatementBudget;
+import com.jobhive.dto.AuthResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL statement budget of every UserController route, so an N+1 or an extra round
+ * trip on the hot authentication paths fails the build instead of showing up in metrics.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class UserControllerQueryBudgetTest {
+
+    private static final String PASSWORD = "Secret123!";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SqlStatementBudget budget;
+
+    @BeforeEach
+    void setUp() {
+        budget = new SqlStatementBudget(meterRegistry);
+    }
+
+    @Test
+    void register() {
+        // The Bloom filter rules out the duplicate check, uniqueness is left to the insert
+        ResponseEntity<AuthResponse> response = budget.assertAtMost("POST", "/user/register", 1,
+                () -> register(newEmail()));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void login() {
+        String email = newEmail();
+        register(email);
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}";
+
+        ResponseEntity<AuthResponse> response = budget.assertAtMost("POST", "/user/login", 2,
+                () -> restTemplate.postForEntity("/user/login", json(body, null), AuthResponse.class));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void getProfile() {
+        String token = register(newEmail()).getBody().getToken();
+
+        ResponseEntity<String> response = budget.assertAtMost("GET", "/user/profile", 2,
+                () -> exchange("/user/profile", HttpMethod.GET, null, token));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void updateProfile() {
+        // User row update plus the change-log entry; a user's first change also starts its sync sequence
+        String token = register(newEmail()).getBody().getToken();
+
+        ResponseEntity<String> response = budget.assertAtMost("PUT", "/user/profile", 13,
+                () -> exchange("/user/profile", HttpMethod.PUT, "{\"name\":\"Renamed User\"}", token));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void checkEmail() {
+        String email = newEmail();
+        register(email);
+
+        ResponseEntity<String> response = budget.assertAtMost("GET", "/user/check-email", 1,
+                () -> restTemplate.getForEntity("/user/check-email?email={email}", String.class, email));
+        assertThat(response.getBody()).contains("\"exists\":true");
+    }
+
+    @Test
+    void health() {
+        // Static answer, must never reach the database
+        ResponseEntity<String> response = budget.assertAtMost("GET", "/user/health", 0,
+                () -> restTemplate.getForEntity("/user/health", String.class));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    @Test
+    void deleteAccount() {
+        String token = register(newEmail()).getBody().getToken();
+
+        ResponseEntity<String> response = budget.assertAtMost("DELETE", "/user/account", 2,
+                () -> exchange("/user/account", HttpMethod.DELETE, null, token));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+    }
+
+    @Test
+    void getAccountDeletion() {
+        String token = register(newEmail()).getBody().getToken();
+
+        ResponseEntity<String> response = budget.assertAtMost("GET", "/user/account/deletion", 2,
+                () -> exchange("/user/account/deletion", HttpMethod.GET, null, token));
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private ResponseEntity<AuthResponse> register(String email) {
+        String body = "{\"name\":\"Budget User\",\"email\":\"" + email + "\",\"password\":\"" + PASSWORD + "\"}";
+        return restTemplate.postForEntity("/user/register", json(body, null), AuthResponse.class);
+    }
+
+    private ResponseEntity<String> exchange(String path, HttpMethod method, String body, String token) {
+        return restTemplate.exchange(path, method, json(body, token), String.class);
+    }
+
+    private static HttpEntity<String> json(String body, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (token != null) {
+            headers.setBearerAuth(token);
+        }
+        return new HttpEntity<>(body, headers);
+    }
+
+    private static String newEmail() {
+        return "budget-" + UUID.randomUUID() + "@example.com";
+    }
+}
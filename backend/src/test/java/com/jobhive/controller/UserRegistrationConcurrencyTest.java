@@ -0,0 +1,96 @@
+package com.jobhive.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent registrations of one address must leave exactly one account, whatever
+ * the case of each request: the unique email constraint decides, not a pre-check.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class UserRegistrationConcurrencyTest {
+
+    private static final int THREADS = 24;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void exactlyOneConcurrentRegistrationWins() throws Exception {
+        String local = "race-" + UUID.randomUUID();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<HttpStatus>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                String email = withCase(local + "@Example.com", i);
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return register(email);
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            int conflicts = 0;
+            for (Future<HttpStatus> result : results) {
+                HttpStatus status = result.get(60, TimeUnit.SECONDS);
+                if (status == HttpStatus.OK) {
+                    succeeded++;
+                } else if (status == HttpStatus.CONFLICT) {
+                    conflicts++;
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+            assertThat(conflicts).isEqualTo(THREADS - 1);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        ResponseEntity<String> check = restTemplate.getForEntity(
+                "/user/check-email?email={email}", String.class, local.toUpperCase(Locale.ROOT) + "@EXAMPLE.COM");
+        assertThat(check.getBody()).contains("\"exists\":true");
+    }
+
+    private HttpStatus register(String email) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        String body = "{\"name\":\"Race Tester\",\"email\":\"" + email + "\",\"password\":\"Secret123!\"}";
+        return HttpStatus.valueOf(restTemplate.postForEntity("/user/register", new HttpEntity<>(body, headers), String.class)
+                .getStatusCode().value());
+    }
+
+    /**
+     * Vary the case of the address per request: bit i of the index flips letter i
+     */
+    private static String withCase(String email, int index) {
+        StringBuilder result = new StringBuilder(email.length());
+        for (int i = 0; i < email.length(); i++) {
+            char c = email.charAt(i);
+            boolean upper = ((index >> (i % 5)) & 1) == 1;
+            result.append(upper ? Character.toUpperCase(c) : Character.toLowerCase(c));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.jobhive.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Terms of removed jobs leave the vocabulary, and their ids are reused without
+ * disturbing the jobs still indexed.
+ */
+class Bm25IndexTest {
+
+    @Test
+    void removedJobsTermsArePruned() {
+        Bm25Index index = new Bm25Index();
+        index.put(1L, "Kotlin Gradle");
+        index.put(2L, "Java Spring");
+        assertThat(index.vocabularySize()).isEqualTo(4);
+
+        index.remove(1L);
+
+        assertThat(index.vocabularySize()).isEqualTo(2);
+        assertThat(index.search("kotlin gradle", 10, null)).isEmpty();
+    }
+
+    @Test
+    void reusedTermIdsDoNotMatchOldDocuments() {
+        Bm25Index index = new Bm25Index();
+        index.put(1L, "Kotlin");
+        index.put(2L, "Java Spring");
+        index.remove(1L);
+
+        index.put(3L, "Rust");
+
+        assertThat(index.vocabularySize()).isEqualTo(3);
+        assertThat(index.search("rust", 10, null)).extracting(Bm25Index.Hit::jobId).containsExactly(3L);
+        assertThat(index.search("java", 10, null)).extracting(Bm25Index.Hit::jobId).containsExactly(2L);
+    }
+
+    @Test
+    void reindexingAJobKeepsItsTerms() {
+        Bm25Index index = new Bm25Index();
+        index.put(1L, "Kotlin Gradle");
+
+        index.put(1L, "Kotlin Maven");
+
+        assertThat(index.vocabularySize()).isEqualTo(2);
+        assertThat(index.search("kotlin", 10, null)).extracting(Bm25Index.Hit::jobId).containsExactly(1L);
+    }
+}
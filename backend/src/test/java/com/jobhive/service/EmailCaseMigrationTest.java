@@ -0,0 +1,91 @@
+package com.jobhive.service;
+
+import com.jobhive.model.User;
+import com.jobhive.repository.DataMigrationRepository;
+import com.jobhive.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Accounts stored with mixed-case emails before normalization must stay reachable
+ * through the normalized lookups once the migration has run.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class EmailCaseMigrationTest {
+
+    @Autowired
+    private EmailCaseMigration migration;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataMigrationRepository dataMigrationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void lowerCasesLegacyEmails() {
+        String local = "legacy-" + UUID.randomUUID();
+        Long id = legacyUser(" " + local + "@Example.COM", null);
+
+        migration.normalizeStoredEmails();
+
+        assertThat(userRepository.findIdByEmail(local + "@example.com")).contains(id);
+    }
+
+    @Test
+    void keepsNormalizedOwnerOnCollision() {
+        String local = "clash-" + UUID.randomUUID();
+        Long normalized = legacyUser(local + "@example.com", null);
+        Long mixed = legacyUser(local + "@EXAMPLE.com", LocalDateTime.now());
+
+        migration.normalizeStoredEmails();
+
+        assertThat(userRepository.findIdByEmail(local + "@example.com")).contains(normalized);
+        assertThat(userRepository.findById(mixed)).map(User::getEmail).contains(local + "@EXAMPLE.com");
+    }
+
+    @Test
+    void mostRecentlyActiveWinsAmongMixedCaseAccounts() {
+        String local = "recent-" + UUID.randomUUID();
+        legacyUser(local + "@Example.com", LocalDateTime.now().minusDays(30));
+        Long recent = legacyUser(local + "@EXAMPLE.COM", LocalDateTime.now());
+
+        migration.normalizeStoredEmails();
+
+        assertThat(userRepository.findIdByEmail(local + "@example.com")).contains(recent);
+    }
+
+    @Test
+    void runsOnlyOnce() {
+        // The startup run has already recorded completion
+        assertThat(dataMigrationRepository.existsById(EmailCaseMigration.NAME)).isTrue();
+        String stored = "late-" + UUID.randomUUID() + "@Example.com";
+        Long id = legacyUser(stored, null);
+
+        migration.run(null);
+
+        assertThat(userRepository.findById(id)).map(User::getEmail).contains(stored);
+    }
+
+    /**
+     * Save a user, then overwrite its email directly as a row from before normalization would look
+     */
+    private Long legacyUser(String storedEmail, LocalDateTime lastLoginAt) {
+        User user = new User("Legacy User", "tmp-" + UUID.randomUUID() + "@example.com", "not-a-real-hash");
+        Long id = userRepository.save(user).getId();
+        jdbcTemplate.update("UPDATE users SET email = ?, last_login_at = ? WHERE id = ?", storedEmail, lastLoginAt, id);
+        return id;
+    }
+}
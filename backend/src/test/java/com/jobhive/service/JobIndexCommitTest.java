@@ -0,0 +1,112 @@
+package com.jobhive.service;
+
+import com.jobhive.dto.JobRequest;
+import com.jobhive.model.Job;
+import com.jobhive.model.Resume;
+import com.jobhive.model.User;
+import com.jobhive.repository.ResumeRepository;
+import com.jobhive.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The in-memory job indexes must only ever reflect committed job writes.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class JobIndexCommitTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private SkillMatchIndex skillMatchIndex;
+
+    @Autowired
+    private JobRankingService jobRankingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void committedJobReachesIndexes() {
+        Long userId = loadedUser();
+
+        Job job = jobService.createJob(userId, request());
+
+        assertThat(skillMatchIndex.coverage(userId, 0L, List.of(job.getId())).get(job.getId()).required())
+                .isPositive();
+        assertThat(jobRankingService.getIndexedJobCount(userId)).isEqualTo(1);
+    }
+
+    @Test
+    void rolledBackJobNeverReachesIndexes() {
+        Long userId = loadedUser();
+
+        Long jobId = new TransactionTemplate(transactionManager).execute(status -> {
+            Job job = jobService.createJob(userId, request());
+            status.setRollbackOnly();
+            return job.getId();
+        });
+
+        assertThat(skillMatchIndex.coverage(userId, 0L, List.of(jobId)).get(jobId).required()).isZero();
+        assertThat(jobRankingService.getIndexedJobCount(userId)).isZero();
+    }
+
+    @Test
+    void deletedJobLeavesIndexesOnCommitOnly() {
+        Long userId = loadedUser();
+        Long jobId = jobService.createJob(userId, request()).getId();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jobService.deleteJob(userId, jobId);
+            status.setRollbackOnly();
+        });
+        assertThat(skillMatchIndex.coverage(userId, 0L, List.of(jobId)).get(jobId).required()).isPositive();
+        assertThat(jobRankingService.getIndexedJobCount(userId)).isEqualTo(1);
+
+        jobService.deleteJob(userId, jobId);
+        assertThat(skillMatchIndex.coverage(userId, 0L, List.of(jobId)).get(jobId).required()).isZero();
+        assertThat(jobRankingService.getIndexedJobCount(userId)).isZero();
+    }
+
+    /**
+     * A new user with a parsed resume, whose skill and ranking indexes are loaded (and empty)
+     */
+    private Long loadedUser() {
+        User user = userRepository.save(new User("Index User", "index-" + UUID.randomUUID() + "@example.com",
+                "not-a-real-hash"));
+        Resume resume = new Resume("resume.txt", "txt", 1L, user);
+        resume.setStatus(Resume.ParseStatus.DONE);
+        resume.setParsedContent("Java developer with Spring Boot experience");
+        resumeRepository.save(resume);
+
+        skillMatchIndex.coverage(user.getId(), 0L, List.of());
+        jobRankingService.rankJobs(user.getId(), 10);
+        return user.getId();
+    }
+
+    private static JobRequest request() {
+        JobRequest request = new JobRequest();
+        request.setJobTitle("Backend Engineer");
+        request.setCompanyName("Acme");
+        request.setJobDescription("Build services in Java with Spring Boot and PostgreSQL.");
+        request.setRequirements("Java, Spring, SQL, Docker");
+        return request;
+    }
+}
@@ -0,0 +1,66 @@
+package com.jobhive.service;
+
+import com.jobhive.model.Resume;
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.ResumeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A slow ranking index build holds up only its own user, and a job indexed while it
+ * runs is applied on top of the built index.
+ */
+class JobRankingLoadTest {
+
+    @Test
+    void slowBuildBlocksOnlyItsUserAndKeepsConcurrentUpdates() throws Exception {
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JobRepository jobRepository = mock(JobRepository.class);
+        when(jobRepository.findSearchableTextByUserId(1L)).thenAnswer(invocation -> {
+            building.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return List.<Object[]>of(new Object[]{10L, "Java developer", null, null});
+        });
+        when(jobRepository.findSearchableTextByUserId(2L))
+                .thenReturn(List.<Object[]>of(new Object[]{20L, "Java developer", null, null}));
+        when(jobRepository.findByIdInAndUserId(any(), anyLong())).thenReturn(List.of());
+        ResumeRepository resumeRepository = mock(ResumeRepository.class);
+        when(resumeRepository.findFirstByUserIdAndStatusOrderByIdDesc(anyLong(), any()))
+                .thenReturn(Optional.of(new Resume()));
+        ResumeVersionService resumeVersionService = mock(ResumeVersionService.class);
+        when(resumeVersionService.getParsedContent(any())).thenReturn("Java Kotlin");
+
+        JobRankingService service = new JobRankingService();
+        ReflectionTestUtils.setField(service, "jobRepository", jobRepository);
+        ReflectionTestUtils.setField(service, "resumeRepository", resumeRepository);
+        ReflectionTestUtils.setField(service, "resumeVersionService", resumeVersionService);
+
+        CompletableFuture<?> slowBuild = CompletableFuture.runAsync(() -> service.rankJobs(1L, 10));
+        assertThat(building.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<?> update = CompletableFuture.runAsync(
+                () -> service.indexJob(1L, 11L, "Kotlin developer", null, null));
+
+        // Another user's index builds while user 1's query is still running
+        service.rankJobs(2L, 10);
+        assertThat(service.getIndexedJobCount(2L)).isEqualTo(1);
+        assertThat(update).isNotDone();
+
+        release.countDown();
+        slowBuild.get(10, TimeUnit.SECONDS);
+        update.get(10, TimeUnit.SECONDS);
+        assertThat(service.getIndexedJobCount(1L)).isEqualTo(2);
+    }
+}
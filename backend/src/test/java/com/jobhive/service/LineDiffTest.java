@@ -0,0 +1,98 @@
+package com.jobhive.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Edit scripts must round-trip through the delta format, and the edit limit must only
+ * bound the O(ND) search over the changed middle section.
+ */
+class LineDiffTest {
+
+    private static final int MAX_EDITS = 10;
+
+    @Test
+    void largeAppendIsOneInsertRun() {
+        String base = numbered("line", 0, 20);
+        String appended = base + "\n" + numbered("new", 0, 5000);
+
+        List<LineDiff.Op> ops = diff(base, appended);
+
+        assertThat(ops).extracting(LineDiff.Op::type).containsExactly(LineDiff.Type.EQUAL, LineDiff.Type.INSERT);
+        assertThat(ops.get(1).length()).isEqualTo(5000);
+        assertRoundTrip(base, appended);
+    }
+
+    @Test
+    void largeDeletionIsOneDeleteRun() {
+        String base = numbered("head", 0, 3) + "\n" + numbered("gone", 0, 5000) + "\n" + numbered("tail", 0, 3);
+        String trimmed = numbered("head", 0, 3) + "\n" + numbered("tail", 0, 3);
+
+        List<LineDiff.Op> ops = diff(base, trimmed);
+
+        assertThat(ops).extracting(LineDiff.Op::type)
+                .containsExactly(LineDiff.Type.EQUAL, LineDiff.Type.DELETE, LineDiff.Type.EQUAL);
+        assertThat(ops.get(1).length()).isEqualTo(5000);
+        assertRoundTrip(base, trimmed);
+    }
+
+    @Test
+    void rewriteOverLimitKeepsCommonPrefixAndSuffix() {
+        String base = "intro\n" + numbered("old", 0, 100) + "\noutro";
+        String rewritten = "intro\n" + numbered("new", 0, 100) + "\noutro";
+
+        List<LineDiff.Op> ops = diff(base, rewritten);
+
+        assertThat(ops).extracting(LineDiff.Op::type).containsExactly(LineDiff.Type.EQUAL, LineDiff.Type.DELETE,
+                LineDiff.Type.INSERT, LineDiff.Type.EQUAL);
+        assertThat(ops.get(0).length()).isEqualTo(1);
+        assertThat(ops.get(3).length()).isEqualTo(1);
+        assertRoundTrip(base, rewritten);
+    }
+
+    @Test
+    void smallEditsGetShortestScript() {
+        String base = numbered("line", 0, 50);
+        String edited = base.replace("line 10\n", "line ten\n").replace("line 30\n", "");
+
+        List<LineDiff.Op> ops = diff(base, edited);
+
+        int deleted = ops.stream().filter(op -> op.type() == LineDiff.Type.DELETE).mapToInt(LineDiff.Op::length).sum();
+        int inserted = ops.stream().filter(op -> op.type() == LineDiff.Type.INSERT).mapToInt(LineDiff.Op::length).sum();
+        assertThat(deleted).isEqualTo(2);
+        assertThat(inserted).isEqualTo(1);
+        assertRoundTrip(base, edited);
+    }
+
+    @Test
+    void hunksOfPureInsertionShowOnlyAddedLines() {
+        String base = numbered("line", 0, 5);
+        String appended = base + "\n" + numbered("new", 0, 3);
+        String[] a = LineDiff.lines(base);
+        String[] b = LineDiff.lines(appended);
+
+        List<LineDiff.Hunk> hunks = LineDiff.hunks(a, b, LineDiff.diff(a, b, MAX_EDITS), 1);
+
+        assertThat(hunks).hasSize(1);
+        assertThat(hunks.get(0).lines()).containsExactly(" line 4", "+new 0", "+new 1", "+new 2");
+    }
+
+    private static List<LineDiff.Op> diff(String from, String to) {
+        return LineDiff.diff(LineDiff.lines(from), LineDiff.lines(to), MAX_EDITS);
+    }
+
+    private static void assertRoundTrip(String from, String to) {
+        String[] b = LineDiff.lines(to);
+        String delta = LineDiff.encode(b, LineDiff.diff(LineDiff.lines(from), b, MAX_EDITS));
+        assertThat(LineDiff.apply(from, delta)).isEqualTo(to);
+    }
+
+    private static String numbered(String prefix, int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> prefix + " " + i).collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.jobhive.service;
+
+import com.jobhive.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * The pending map stays bounded without login requests ever writing to the database,
+ * and a failed flush neither loses nor double-counts logins.
+ */
+class LoginActivityTrackerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private TaskScheduler taskScheduler;
+    private LoginActivityTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        taskScheduler = mock(TaskScheduler.class);
+
+        tracker = new LoginActivityTracker();
+        ReflectionTestUtils.setField(tracker, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(tracker, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(tracker, "taskScheduler", taskScheduler);
+        ReflectionTestUtils.setField(tracker, "maxPending", 2);
+    }
+
+    @Test
+    void fullMapSignalsTheFlusherAndDropsNewUsers() {
+        tracker.recordLogin(1L);
+        tracker.recordLogin(2L);
+        tracker.recordLogin(3L);
+        tracker.recordLogin(1L);
+
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(tracker.getPendingCount()).isEqualTo(2);
+        assertThat(tracker.getDroppedCount()).isEqualTo(1);
+        assertThat(tracker.applyPending(user(1L)).getLoginCount()).isEqualTo(2);
+    }
+
+    @Test
+    void failedFlushRollsBackAndRequeuesEachLoginOnce() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("database unavailable"));
+        tracker.recordLogin(1L);
+
+        assertThat(tracker.flush()).isZero();
+
+        verify(transactionManager).rollback(any());
+        assertThat(tracker.getPendingCount()).isEqualTo(1);
+        assertThat(tracker.applyPending(user(1L)).getLoginCount()).isEqualTo(1);
+    }
+
+    private static User user(Long id) {
+        User user = new User("Tracked User", "tracked-" + id + "@example.com", "not-a-real-hash");
+        user.setId(id);
+        return user;
+    }
+}
@@ -0,0 +1,132 @@
+package com.jobhive.service;
+
+import com.jobhive.model.Resume;
+import com.jobhive.model.ResumeAnalysis;
+import com.jobhive.repository.ResumeAnalysisRepository;
+import com.jobhive.repository.ResumeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Resumes requested together are sent to the analyzer in one batch, identical content
+ * is analyzed once, and memoized results never reach the analyzer.
+ */
+class ResumeAnalysisServiceTest {
+
+    private ResumeAnalyzer analyzer;
+    private ResumeRepository resumeRepository;
+    private ResumeAnalysisRepository resumeAnalysisRepository;
+    private ThreadPoolTaskExecutor executor;
+    private ResumeAnalysisService service;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        analyzer = mock(ResumeAnalyzer.class);
+        when(analyzer.getId()).thenReturn("test-analyzer");
+        when(analyzer.analyze(any())).thenAnswer(invocation -> {
+            Map<String, String> results = new HashMap<>();
+            for (ResumeAnalyzer.Request request : invocation.<List<ResumeAnalyzer.Request>>getArgument(0)) {
+                results.put(request.key(), "{\"content\":\"" + request.content() + "\"}");
+            }
+            return results;
+        });
+        resumeRepository = mock(ResumeRepository.class);
+        resumeAnalysisRepository = mock(ResumeAnalysisRepository.class);
+        when(resumeAnalysisRepository.findById(anyString())).thenReturn(Optional.empty());
+        ResumeVersionService resumeVersionService = mock(ResumeVersionService.class);
+        when(resumeVersionService.getParsedContent(any())).thenAnswer(
+                invocation -> invocation.<Resume>getArgument(0).getParsedContent());
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.initialize();
+
+        service = new ResumeAnalysisService();
+        ReflectionTestUtils.setField(service, "resumeAnalyzer", analyzer);
+        ReflectionTestUtils.setField(service, "resumeRepository", resumeRepository);
+        ReflectionTestUtils.setField(service, "resumeAnalysisRepository", resumeAnalysisRepository);
+        ReflectionTestUtils.setField(service, "skillExtractor", mock(SkillExtractor.class));
+        ReflectionTestUtils.setField(service, "resumeVersionService", resumeVersionService);
+        ReflectionTestUtils.setField(service, "syncService", mock(SyncService.class));
+        ReflectionTestUtils.setField(service, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(service, "resumeAnalysisExecutor", executor);
+        ReflectionTestUtils.setField(service, "batchSize", 16);
+        ReflectionTestUtils.setField(service, "batchMaxWait", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(service, "maxConcurrentCalls", 2);
+        ReflectionTestUtils.setField(service, "timeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(service, "queueCapacity", 100);
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.stop();
+        executor.shutdown();
+    }
+
+    @Test
+    void identicalContentIsAnalyzedOnceInOneBatch() throws Exception {
+        parsedResume(1L, "Java developer");
+        parsedResume(2L, "Java developer");
+        parsedResume(3L, "Kotlin developer");
+
+        service.requestAnalysis(1L);
+        service.requestAnalysis(2L);
+        service.requestAnalysis(3L);
+
+        verify(resumeRepository, timeout(5000)).storeAiSuggestions(eq(Set.of(1L, 2L)), anyString());
+        verify(resumeRepository, timeout(5000)).storeAiSuggestions(eq(Set.of(3L)), anyString());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ResumeAnalyzer.Request>> batch = ArgumentCaptor.forClass(List.class);
+        verify(analyzer).analyze(batch.capture());
+        assertThat(batch.getValue()).extracting(ResumeAnalyzer.Request::content)
+                .containsExactlyInAnyOrder("Java developer", "Kotlin developer");
+        verify(resumeAnalysisRepository, timeout(5000)).saveAll(any());
+    }
+
+    @Test
+    void memoizedResultSkipsAnalyzer() throws Exception {
+        parsedResume(1L, "Java developer");
+        when(resumeAnalysisRepository.findById(anyString()))
+                .thenReturn(Optional.of(new ResumeAnalysis("key", "test-analyzer", "{\"memoized\":true}")));
+
+        service.requestAnalysis(1L);
+
+        verify(resumeRepository).storeAiSuggestions(List.of(1L), "{\"memoized\":true}");
+        verify(analyzer, never()).analyze(any());
+        verify(resumeRepository, never()).storeAiSuggestions(anyCollection(), eq("{\"content\":\"Java developer\"}"));
+    }
+
+    private void parsedResume(Long id, String content) {
+        Resume resume = new Resume();
+        resume.setId(id);
+        resume.setStatus(Resume.ParseStatus.DONE);
+        resume.setParsedContent(content);
+        when(resumeRepository.findById(id)).thenReturn(Optional.of(resume));
+    }
+}
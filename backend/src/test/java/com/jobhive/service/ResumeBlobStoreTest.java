@@ -0,0 +1,82 @@
+package com.jobhive.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A blob handed to an upload must survive an account deletion until the upload's
+ * resume references it, and after that for as long as the reference exists.
+ */
+class ResumeBlobStoreTest {
+
+    @TempDir
+    Path blobDir;
+
+    private ResumeBlobStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        store = new ResumeBlobStore();
+        ReflectionTestUtils.setField(store, "blobDir", blobDir.toString());
+        store.init();
+    }
+
+    @Test
+    void pinnedBlobIsNotDeleted() throws Exception {
+        ResumeBlobStore.StoredBlob blob = store(("resume " + blobDir).getBytes(StandardCharsets.UTF_8));
+
+        assertThat(store.deleteIfUnreferenced(blob.hash(), hash -> false)).isFalse();
+        assertThat(store.exists(blob.hash())).isTrue();
+
+        store.release(blob.hash());
+        assertThat(store.deleteIfUnreferenced(blob.hash(), hash -> false)).isTrue();
+        assertThat(store.exists(blob.hash())).isFalse();
+    }
+
+    @Test
+    void deduplicatedUploadPinsTheExistingBlob() throws Exception {
+        byte[] content = ("shared " + blobDir).getBytes(StandardCharsets.UTF_8);
+        ResumeBlobStore.StoredBlob first = store(content);
+        store.release(first.hash());
+
+        ResumeBlobStore.StoredBlob second = store(content);
+
+        assertThat(second.deduplicated()).isTrue();
+        assertThat(store.deleteIfUnreferenced(second.hash(), hash -> false)).isFalse();
+        assertThat(store.exists(second.hash())).isTrue();
+    }
+
+    @Test
+    void referencedBlobIsNotDeleted() throws Exception {
+        ResumeBlobStore.StoredBlob blob = store(("kept " + blobDir).getBytes(StandardCharsets.UTF_8));
+        store.release(blob.hash());
+
+        assertThat(store.deleteIfUnreferenced(blob.hash(), hash -> true)).isFalse();
+        assertThat(store.exists(blob.hash())).isTrue();
+    }
+
+    @Test
+    void pinsAreCountedPerUpload() throws Exception {
+        byte[] content = ("twice " + blobDir).getBytes(StandardCharsets.UTF_8);
+        ResumeBlobStore.StoredBlob first = store(content);
+        store(content);
+
+        store.release(first.hash());
+        assertThat(store.deleteIfUnreferenced(first.hash(), hash -> false)).isFalse();
+
+        store.release(first.hash());
+        assertThat(store.deleteIfUnreferenced(first.hash(), hash -> false)).isTrue();
+    }
+
+    private ResumeBlobStore.StoredBlob store(byte[] content) throws Exception {
+        return store.store(new ByteArrayInputStream(content));
+    }
+}
@@ -0,0 +1,101 @@
+package com.jobhive.service;
+
+import com.jobhive.model.ChangeLogEntry;
+import com.jobhive.model.Resume;
+import com.jobhive.model.User;
+import com.jobhive.repository.ResumeRepository;
+import com.jobhive.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+/**
+ * A resume write and its change_log row commit together: when the change cannot be
+ * recorded, the write is rolled back instead of being hidden from delta-sync clients.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ResumeChangeLogTest {
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private ResumeBlobStore resumeBlobStore;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Object syncService;
+
+    @BeforeEach
+    void failChangeRecording() {
+        syncService = ReflectionTestUtils.getField(resumeService, "syncService");
+        SyncService failing = mock(SyncService.class);
+        doThrow(new IllegalStateException("change log unavailable"))
+                .when(failing).recordChange(any(), any(ChangeLogEntry.EntityType.class), any());
+        ReflectionTestUtils.setField(resumeService, "syncService", failing);
+    }
+
+    @AfterEach
+    void restoreChangeRecording() {
+        ReflectionTestUtils.setField(resumeService, "syncService", syncService);
+    }
+
+    @Test
+    void createdResumeIsRolledBackWithItsChange() throws Exception {
+        Long userId = newUser();
+        ResumeBlobStore.StoredBlob blob = resumeBlobStore.store(new ByteArrayInputStream(
+                ("Resume " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8)));
+
+        assertThatThrownBy(() -> resumeService.createResume(userId, "resume.txt", "txt", blob))
+                .hasMessageContaining("change log unavailable");
+
+        assertThat(resumeRepository.findIdsByUserId(userId)).isEmpty();
+    }
+
+    @Test
+    void parseResultIsRolledBackWithItsChange() throws Exception {
+        Long userId = newUser();
+        ResumeBlobStore.StoredBlob blob = resumeBlobStore.store(new ByteArrayInputStream(
+                ("Experience\nJava developer " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8)));
+        resumeBlobStore.release(blob.hash());
+        Resume resume = new Resume("resume.txt", "txt", blob.size(), userRepository.getReferenceById(userId));
+        resume.setContentHash(blob.hash());
+        resume.setStatus(Resume.ParseStatus.PENDING);
+        Long resumeId = resumeRepository.save(resume).getId();
+
+        assertThatThrownBy(() -> resumeService.parseResume(resumeId)).hasMessageContaining("change log unavailable");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM resumes WHERE id = ?", String.class, resumeId))
+                .isEqualTo(Resume.ParseStatus.PARSING.name());
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM resume_skills WHERE resume_id = ?",
+                Integer.class, resumeId)).isZero();
+    }
+
+    private Long newUser() {
+        return userRepository.save(new User("Sync User", "sync-" + UUID.randomUUID() + "@example.com",
+                "not-a-real-hash")).getId();
+    }
+}
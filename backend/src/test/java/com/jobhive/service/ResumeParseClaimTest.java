@@ -0,0 +1,97 @@
+package com.jobhive.service;
+
+import com.jobhive.model.Resume;
+import com.jobhive.model.User;
+import com.jobhive.repository.ResumeRepository;
+import com.jobhive.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A resume in PARSING belongs to the worker holding its claim: the requeue sweep only
+ * takes back lapsed claims, and a worker that lost its claim cannot store an outcome.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ResumeParseClaimTest {
+
+    @Autowired
+    private ResumeService resumeService;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void liveClaimIsNotRequeuedHoweverOld() {
+        Long id = parsingResume("live", LocalDateTime.now().plusMinutes(1), LocalDateTime.now().minusHours(1));
+
+        resumeService.requeueStalledResumes();
+
+        assertThat(status(id)).isEqualTo(Resume.ParseStatus.PARSING);
+    }
+
+    @Test
+    void lapsedClaimIsRequeued() {
+        Long id = parsingResume("lapsed", LocalDateTime.now().minusSeconds(1), LocalDateTime.now());
+
+        resumeService.requeueStalledResumes();
+
+        assertThat(status(id)).isEqualTo(Resume.ParseStatus.PENDING);
+        assertThat(claim(id)).isNull();
+    }
+
+    @Test
+    void lostClaimCannotStoreOutcome() {
+        Long id = parsingResume("current", LocalDateTime.now().plusMinutes(1), LocalDateTime.now());
+
+        assertThat(resumeRepository.failParsing(id, "stale", "boom", LocalDateTime.now())).isZero();
+        assertThat(resumeRepository.completeParsing(id, "stale", "text", "", null, null, LocalDateTime.now())).isZero();
+        assertThat(status(id)).isEqualTo(Resume.ParseStatus.PARSING);
+    }
+
+    @Test
+    void failureDoesNotOverwriteFinishedResume() {
+        Long id = parsingResume("done", LocalDateTime.now().plusMinutes(1), LocalDateTime.now());
+        jdbcTemplate.update("UPDATE resumes SET status = 'DONE' WHERE id = ?", id);
+
+        assertThat(resumeRepository.failParsing(id, "done", "boom", LocalDateTime.now())).isZero();
+        assertThat(status(id)).isEqualTo(Resume.ParseStatus.DONE);
+    }
+
+    /**
+     * Save a resume and put it in PARSING under the given claim, as a worker would have
+     */
+    private Long parsingResume(String claim, LocalDateTime claimExpiresAt, LocalDateTime updatedAt) {
+        User user = userRepository.save(new User("Claim User", "claim-" + UUID.randomUUID() + "@example.com",
+                "not-a-real-hash"));
+        Resume resume = new Resume("resume.txt", "txt", 1L, user);
+        resume.setContentHash("0".repeat(64));
+        Long id = resumeRepository.save(resume).getId();
+        jdbcTemplate.update("UPDATE resumes SET status = 'PARSING', parse_claim = ?, claim_expires_at = ?, updated_at = ? " +
+                "WHERE id = ?", claim, claimExpiresAt, updatedAt, id);
+        return id;
+    }
+
+    private Resume.ParseStatus status(Long id) {
+        return Resume.ParseStatus.valueOf(jdbcTemplate.queryForObject("SELECT status FROM resumes WHERE id = ?",
+                String.class, id));
+    }
+
+    private String claim(Long id) {
+        return jdbcTemplate.queryForObject("SELECT parse_claim FROM resumes WHERE id = ?", String.class, id);
+    }
+}
@@ -0,0 +1,62 @@
+package com.jobhive.service;
+
+import com.jobhive.repository.ResumeRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A resume waiting in the parser queue is queued once, however often the requeue
+ * sweep sees it still PENDING.
+ */
+class ResumeParseQueueTest {
+
+    @Test
+    void queuedResumeIsNotSubmittedAgainUntilItStarts() {
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        ResumeRepository resumeRepository = mock(ResumeRepository.class);
+        when(resumeRepository.findById(7L)).thenReturn(Optional.empty());
+        ResumeService service = service(executor, resumeRepository);
+
+        service.submitForParsing(7L);
+        service.submitForParsing(7L);
+
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(1)).execute(task.capture());
+
+        task.getValue().run();
+        service.submitForParsing(7L);
+
+        verify(executor, times(2)).execute(any(Runnable.class));
+    }
+
+    @Test
+    void rejectedResumeCanBeSubmittedAgain() {
+        ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+        doThrow(new TaskRejectedException("queue full")).doNothing().when(executor).execute(any(Runnable.class));
+        ResumeService service = service(executor, mock(ResumeRepository.class));
+
+        service.submitForParsing(7L);
+        service.submitForParsing(7L);
+
+        verify(executor, times(2)).execute(any(Runnable.class));
+    }
+
+    private static ResumeService service(ThreadPoolTaskExecutor executor, ResumeRepository resumeRepository) {
+        ResumeService service = new ResumeService();
+        ReflectionTestUtils.setField(service, "resumeParsingExecutor", executor);
+        ReflectionTestUtils.setField(service, "resumeRepository", resumeRepository);
+        return service;
+    }
+}
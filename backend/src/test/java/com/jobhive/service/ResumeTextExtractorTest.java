@@ -0,0 +1,44 @@
+package com.jobhive.service;
+
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Spreadsheet resumes stop parsing once the text limit is reached, keeping the rows
+ * read so far.
+ */
+class ResumeTextExtractorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void xlsxStopsAtTextLimit() throws Exception {
+        Path file = dir.resolve("resume.xlsx");
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); OutputStream out = Files.newOutputStream(file)) {
+            XSSFSheet sheet = workbook.createSheet("Experience");
+            for (int i = 0; i < 5_000; i++) {
+                sheet.createRow(i).createCell(0).setCellValue("Row " + i + " Java Spring PostgreSQL");
+            }
+            workbook.createSheet("Education").createRow(0).createCell(0).setCellValue("Never read");
+            workbook.write(out);
+        }
+        ResumeTextExtractor extractor = new ResumeTextExtractor();
+        ReflectionTestUtils.setField(extractor, "maxParsedChars", 1_000);
+
+        ResumeTextExtractor.ParsedResume parsed = extractor.extract(file, "xlsx");
+
+        assertThat(parsed.content()).startsWith("Row 0 Java Spring PostgreSQL");
+        assertThat(parsed.content()).hasSizeLessThanOrEqualTo(1_000);
+        assertThat(parsed.content()).doesNotContain("Never read");
+    }
+}
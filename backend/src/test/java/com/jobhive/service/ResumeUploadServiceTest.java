@@ -0,0 +1,149 @@
+package com.jobhive.service;
+
+import com.jobhive.exception.InvalidUploadException;
+import com.jobhive.exception.UploadSessionNotFoundException;
+import com.jobhive.model.Resume;
+import com.jobhive.model.User;
+import com.jobhive.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Chunks may arrive in any order, the client's checksum decides whether the upload is
+ * kept, and concurrent starts cannot exceed the per-user session limit.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ResumeUploadServiceTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Autowired
+    private ResumeUploadService resumeUploadService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${app.resume.upload.max-sessions-per-user}")
+    private int maxSessionsPerUser;
+
+    @Test
+    void outOfOrderChunksCompleteIntoResume() throws Exception {
+        Long userId = newUser();
+        byte[] content = resumeText();
+        ResumeUploadService.UploadSession session =
+                resumeUploadService.startUpload(userId, "resume.txt", content.length, CHUNK_SIZE);
+        assertThat(session.getChunkCount()).isEqualTo(3);
+
+        for (int index : new int[] {2, 0, 1}) {
+            writeChunk(userId, session, content, index);
+        }
+        Resume resume = resumeUploadService.completeUpload(userId, session.getId(), sha256(content));
+
+        assertThat(resume.getId()).isNotNull();
+        assertThat(resume.getFileSize()).isEqualTo(content.length);
+    }
+
+    @Test
+    void checksumMismatchIsRejectedAndDiscardsSession() throws Exception {
+        Long userId = newUser();
+        byte[] content = resumeText();
+        ResumeUploadService.UploadSession session =
+                resumeUploadService.startUpload(userId, "resume.txt", content.length, CHUNK_SIZE);
+        for (int index : new int[] {1, 2, 0}) {
+            writeChunk(userId, session, content, index);
+        }
+
+        String wrong = sha256("something else".getBytes(StandardCharsets.UTF_8));
+        assertThatThrownBy(() -> resumeUploadService.completeUpload(userId, session.getId(), wrong))
+                .isInstanceOfSatisfying(InvalidUploadException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> resumeUploadService.getUpload(userId, session.getId()))
+                .isInstanceOf(UploadSessionNotFoundException.class);
+    }
+
+    @Test
+    void concurrentStartsStayWithinSessionLimit() throws Exception {
+        Long userId = newUser();
+        int threads = maxSessionsPerUser * 4;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        resumeUploadService.startUpload(userId, "resume.txt", CHUNK_SIZE, CHUNK_SIZE);
+                        return true;
+                    } catch (InvalidUploadException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int started = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    started++;
+                }
+            }
+            assertThat(started).isEqualTo(maxSessionsPerUser);
+        } finally {
+            pool.shutdownNow();
+            resumeUploadService.abortUploads(userId);
+        }
+
+        // Aborting frees the slots again
+        assertThat(resumeUploadService.startUpload(userId, "resume.txt", CHUNK_SIZE, CHUNK_SIZE)).isNotNull();
+        resumeUploadService.abortUploads(userId);
+    }
+
+    private void writeChunk(Long userId, ResumeUploadService.UploadSession session, byte[] content, int index) {
+        int from = index * CHUNK_SIZE;
+        int length = Math.min(CHUNK_SIZE, content.length - from);
+        resumeUploadService.writeChunk(userId, session.getId(), index, length,
+                new ByteArrayInputStream(content, from, length));
+    }
+
+    private Long newUser() {
+        return userRepository.save(new User("Upload User", "upload-" + UUID.randomUUID() + "@example.com",
+                "not-a-real-hash")).getId();
+    }
+
+    /**
+     * Unique plain-text resume a little over two chunks long
+     */
+    private static byte[] resumeText() {
+        StringBuilder text = new StringBuilder("Experience\n").append(UUID.randomUUID()).append('\n');
+        while (text.length() < 2 * CHUNK_SIZE + 1000) {
+            text.append("Built Java and Spring services backed by PostgreSQL.\n");
+        }
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobhive.service;
+
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.ResumeRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A slow index load holds up only its own user, and a change that arrives while it
+ * runs is applied on top of the loaded data.
+ */
+class SkillMatchIndexLoadTest {
+
+    @Test
+    void slowLoadBlocksOnlyItsUserAndKeepsConcurrentUpdates() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        JobRepository jobRepository = mock(JobRepository.class);
+        when(jobRepository.findSkillIdsByUserId(1L)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return List.<Object[]>of(new Object[]{10L, 1});
+        });
+        when(jobRepository.findSkillIdsByUserId(2L)).thenReturn(List.<Object[]>of(new Object[]{20L, 1}));
+        ResumeRepository resumeRepository = mock(ResumeRepository.class);
+        when(resumeRepository.findSkillIdsByUserId(1L)).thenReturn(List.of());
+        when(resumeRepository.findSkillIdsByUserId(2L)).thenReturn(List.of());
+
+        SkillMatchIndex index = new SkillMatchIndex();
+        ReflectionTestUtils.setField(index, "jobRepository", jobRepository);
+        ReflectionTestUtils.setField(index, "resumeRepository", resumeRepository);
+
+        CompletableFuture<?> slowLoad = CompletableFuture.runAsync(() -> index.coverage(1L, 0L, List.of()));
+        assertThat(loading.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<?> update = CompletableFuture.runAsync(() -> index.putJob(1L, 11L, List.of(2, 3)));
+
+        // Another user loads while user 1's query is still running
+        assertThat(index.coverage(2L, 0L, List.of(20L)).get(20L).required()).isEqualTo(1);
+        assertThat(update).isNotDone();
+
+        release.countDown();
+        slowLoad.get(10, TimeUnit.SECONDS);
+        update.get(10, TimeUnit.SECONDS);
+        assertThat(index.coverage(1L, 0L, List.of(10L, 11L)))
+                .satisfies(coverage -> {
+                    assertThat(coverage.get(10L).required()).isEqualTo(1);
+                    assertThat(coverage.get(11L).required()).isEqualTo(2);
+                });
+    }
+}
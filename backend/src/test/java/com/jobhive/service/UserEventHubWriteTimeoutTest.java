@@ -0,0 +1,112 @@
+package com.jobhive.service;
+
+import com.jobhive.dto.AuthResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A client that stops reading must not hold up other users' streams: with a single
+ * push thread, its blocked write is evicted and the other stream still gets its event.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.events.push-threads=1",
+        "app.events.write-timeout=500ms",
+        "app.events.write-check-interval-ms=100"})
+@ActiveProfiles("test")
+class UserEventHubWriteTimeoutTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserEventHub userEventHub;
+
+    @Autowired
+    private UserService userService;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void stalledClientIsEvictedWithoutBlockingOthers() throws Exception {
+        String stalledEmail = "stalled-" + UUID.randomUUID() + "@example.com";
+        String readerEmail = "reader-" + UUID.randomUUID() + "@example.com";
+        String stalledToken = register(stalledEmail);
+        String readerToken = register(readerEmail);
+        Long stalledUserId = userService.getUserId(stalledEmail);
+        Long readerUserId = userService.getUserId(readerEmail);
+
+        BlockingQueue<String> readerLines = new LinkedBlockingQueue<>();
+        HttpClient.newHttpClient().sendAsync(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/events"))
+                        .header("Authorization", "Bearer " + readerToken).build(),
+                HttpResponse.BodyHandlers.ofLines())
+                .thenAccept(response -> response.body().forEach(readerLines::add));
+        assertThat(readerLines.poll(10, TimeUnit.SECONDS)).isEqualTo(":connected");
+
+        long evictedBefore = userEventHub.getEvictedCount();
+        try (Socket stalled = new Socket()) {
+            // A small receive window that is never read fills up after a few kilobytes
+            stalled.setReceiveBufferSize(4096);
+            stalled.connect(new InetSocketAddress("localhost", port));
+            OutputStream out = stalled.getOutputStream();
+            out.write(("GET /api/v1/events HTTP/1.1\r\nHost: localhost\r\nAuthorization: Bearer " + stalledToken
+                    + "\r\nAccept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            waitFor(() -> userEventHub.getConnectionCount() == 2);
+
+            String large = "x".repeat(4 << 20);
+            for (int i = 0; i < 8; i++) {
+                userEventHub.publish(stalledUserId, "filler", large);
+            }
+            waitFor(() -> userEventHub.getEvictedCount() > evictedBefore);
+
+            userEventHub.publish(readerUserId, "ping", "hello");
+            String line;
+            boolean received = false;
+            while (!received && (line = readerLines.poll(5, TimeUnit.SECONDS)) != null) {
+                received = line.equals("event:ping");
+            }
+            assertThat(received).isTrue();
+        }
+        userEventHub.disconnect(readerUserId);
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met within 10 s").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private String register(String email) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        String body = "{\"name\":\"Event Reader\",\"email\":\"" + email + "\",\"password\":\"Secret123!\"}";
+        return restTemplate.postForObject("/user/register", new HttpEntity<>(body, headers), AuthResponse.class)
+                .getToken();
+    }
+}
@@ -0,0 +1,57 @@
+package com.jobhive.service;
+
+import com.jobhive.repository.JobRepository;
+import com.jobhive.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A failed warm-up must not stop startup, but its cause has to reach the log.
+ */
+@ExtendWith(OutputCaptureExtension.class)
+class WarmupRunnerTest {
+
+    @Test
+    void failedIterationIsLoggedWithItsCause(CapturedOutput output) {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        JobRepository jobRepository = mock(JobRepository.class);
+        when(jobRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenReturn("not-a-real-hash");
+        UserService userService = mock(UserService.class);
+        when(userService.loadUserByUsername(anyString())).thenThrow(new IllegalArgumentException("scratch user vanished"));
+
+        WarmupRunner runner = new WarmupRunner();
+        ReflectionTestUtils.setField(runner, "enabled", true);
+        ReflectionTestUtils.setField(runner, "iterations", 1);
+        ReflectionTestUtils.setField(runner, "maxDuration", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(runner, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(runner, "userRepository", userRepository);
+        ReflectionTestUtils.setField(runner, "jobRepository", jobRepository);
+        ReflectionTestUtils.setField(runner, "passwordEncoder", passwordEncoder);
+        ReflectionTestUtils.setField(runner, "userService", userService);
+
+        runner.run(null);
+
+        assertThat(output).contains("Warm-up aborted")
+                .contains("Warm-up iteration 0 failed")
+                .contains("Caused by: java.lang.IllegalArgumentException: scratch user vanished");
+    }
+}
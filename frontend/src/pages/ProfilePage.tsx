@@ -133,6 +133,12 @@ export function ProfilePage() {
             <p className="text-gray-400 text-lg">
               Manage your personal information and preferences
             </p>
+            {user?.lastLoginAt && (
+              <p className="text-gray-500 text-sm mt-1">
+                Last login {new Date(user.lastLoginAt).toLocaleString()}
+                {user.loginCount ? ` · ${user.loginCount} sign-ins` : ''}
+              </p>
+            )}
           </div>
           
           <div className="flex items-center space-x-3">
@@ -145,6 +145,8 @@ export const useStore = create<AppState>()(
               links: {},
               created_at: data.createdAt || new Date().toISOString(),
               email_verified: data.emailVerified || false,
+              lastLoginAt: data.lastLoginAt || undefined,
+              loginCount: data.loginCount ?? undefined,
             };
             set({ user, isAuthenticated: true, error: null });
           } else {
@@ -197,6 +199,8 @@ export const useStore = create<AppState>()(
             links: updates.links || {},
             created_at: data.createdAt || new Date().toISOString(),
             email_verified: data.emailVerified || false,
+            lastLoginAt: data.lastLoginAt || undefined,
+            loginCount: data.loginCount ?? undefined,
           };
           set({ user });
         }
@@ -17,6 +17,9 @@ export interface User {
   // Supabase auth metadata
   created_at?: string;
   email_verified?: boolean;
+  // Login statistics from the backend profile
+  lastLoginAt?: string;
+  loginCount?: number;
 }
 
 export interface Education {
@@ -0,0 +1,128 @@
+package com.jobhive.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the backend jar in a child JVM against its in-memory H2 database, so a run
+ * needs nothing but this machine. Rate limiting is switched off because every
+ * simulated user logs in from the same address.
+ */
+final class BackendProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private final Process process;
+    private final URI baseUrl;
+    private final long startedNanos;
+    private long firstResponseNanos;
+
+    private BackendProcess(Process process, URI baseUrl, long startedNanos) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+        this.startedNanos = startedNanos;
+    }
+
+    static Path defaultJava() {
+        return Path.of(System.getProperty("java.home"), "bin", "java");
+    }
+
+    /**
+     * Start the backend with extra JVM and application arguments and wait until it
+     * reports ready (after its warm-up)
+     * @param java java executable
+     * @param jvmArgs arguments placed before -jar
+     * @param jar the backend jar
+     * @param appArgs application arguments (Spring properties)
+     * @param port HTTP port
+     * @param workDir working directory of the backend
+     * @param log file receiving the backend's output
+     * @return the running backend
+     */
+    static BackendProcess start(Path java, List<String> jvmArgs, Path jar, List<String> appArgs, int port, Path workDir,
+                                Path log) throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IOException("Backend jar not found: " + jar + " (run mvn package in backend/)");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(java.toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toAbsolutePath().toString());
+        command.add("--server.port=" + port);
+        command.add("--app.jwt.secret=" + UUID.randomUUID() + UUID.randomUUID() + UUID.randomUUID());
+        command.add("--app.rate-limit.enabled=false");
+        command.add("--logging.level.com.jobhive=INFO");
+        command.add("--logging.level.org.springframework.security=INFO");
+        command.addAll(appArgs);
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        BackendProcess backend = new BackendProcess(process, URI.create("http://localhost:" + port + "/api/v1"),
+                started);
+        try {
+            backend.awaitHealthy();
+        } catch (IOException | InterruptedException e) {
+            backend.close();
+            throw e;
+        }
+        return backend;
+    }
+
+    URI getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Time from launching the JVM to the first successful readiness check, i.e. until
+     * a load balancer would send it traffic
+     */
+    Duration getTimeToReady() {
+        return Duration.ofNanos(firstResponseNanos - startedNanos);
+    }
+
+    private void awaitHealthy() throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Backend exited with code " + process.exitValue());
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    firstResponseNanos = System.nanoTime();
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            Thread.sleep(POLL_INTERVAL_MILLIS);
+        }
+        throw new IOException("Backend did not become ready within " + STARTUP_TIMEOUT);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly();
+        }
+    }
+}
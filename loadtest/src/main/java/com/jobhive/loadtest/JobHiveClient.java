@@ -0,0 +1,95 @@
+package com.jobhive.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Minimal HTTP client for the backend endpoints the scenarios use. Every call is
+ * timed and recorded under its operation name, including failed ones.
+ */
+final class JobHiveClient {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final URI baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LatencyStats stats;
+
+    JobHiveClient(HttpClient httpClient, URI baseUrl, ObjectMapper objectMapper, LatencyStats stats) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.stats = stats;
+    }
+
+    /**
+     * Send a request and record its latency
+     * @param operation name the latency is recorded under
+     * @param method HTTP method
+     * @param path path below the API base URL
+     * @param token bearer token, or null
+     * @param body JSON body, or null
+     * @param expectedStatus status that counts as success
+     * @return the parsed response body (null if empty)
+     * @throws IOException if the request fails or returns another status
+     */
+    JsonNode call(String operation, String method, String path, String token, ObjectNode body, int expectedStatus)
+            throws IOException, InterruptedException {
+        return call(operation, method, path, token, body, expectedStatus, System.nanoTime());
+    }
+
+    /**
+     * Send a request and record its latency from the time it was scheduled to be sent,
+     * so a request held back behind a busy backend is charged for the wait
+     * @param operation name the latency is recorded under
+     * @param method HTTP method
+     * @param path path below the API base URL
+     * @param token bearer token, or null
+     * @param body JSON body, or null
+     * @param expectedStatus status that counts as success
+     * @param scheduledStart System.nanoTime() at which the request should have been sent
+     * @return the parsed response body (null if empty)
+     * @throws IOException if the request fails or returns another status
+     */
+    JsonNode call(String operation, String method, String path, String token, ObjectNode body, int expectedStatus,
+                  long scheduledStart) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long start = Math.min(scheduledStart, System.nanoTime());
+        HttpResponse<byte[]> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            stats.record(operation, System.nanoTime() - start, false);
+            throw e;
+        }
+        boolean success = response.statusCode() == expectedStatus;
+        stats.record(operation, System.nanoTime() - start, success);
+        if (!success) {
+            throw new IOException(operation + " returned HTTP " + response.statusCode());
+        }
+        return response.body().length > 0 ? objectMapper.readTree(response.body()) : null;
+    }
+
+    ObjectNode json() {
+        return objectMapper.createObjectNode();
+    }
+}
@@ -0,0 +1,58 @@
+package com.jobhive.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and error counts per operation. Recording is lock-free, so
+ * every request can be recorded from any worker thread.
+ */
+final class LatencyStats {
+
+    /** Slowest latency the histograms can hold; anything slower is clamped */
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Operation> operations = new ConcurrentSkipListMap<>();
+
+    void record(String operation, long latencyNanos, boolean success) {
+        Operation stats = operations.computeIfAbsent(operation, name -> new Operation());
+        stats.recorder.recordValue(Math.min(Math.max(latencyNanos / 1000, 1), MAX_MICROS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    /**
+     * Discard everything recorded so far (end of warm-up)
+     */
+    void reset() {
+        for (Operation stats : operations.values()) {
+            stats.recorder.reset();
+            stats.errors.reset();
+        }
+    }
+
+    /**
+     * Take the histograms recorded since the last reset or snapshot
+     * @return operation name to (histogram in microseconds, error count)
+     */
+    Map<String, Snapshot> snapshot() {
+        Map<String, Snapshot> result = new ConcurrentSkipListMap<>();
+        operations.forEach((name, stats) ->
+                result.put(name, new Snapshot(stats.recorder.getIntervalHistogram(), stats.errors.sumThenReset())));
+        return result;
+    }
+
+    record Snapshot(Histogram histogram, long errors) {
+    }
+
+    private static final class Operation {
+        final Recorder recorder = new Recorder(MAX_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,234 @@
+package com.jobhive.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load generator for the JobHive backend.
+ * <p>
+ * In the closed model a fixed number of users run scenarios back to back. In the open
+ * model scenarios arrive at a fixed rate whether or not earlier ones have finished,
+ * and each scenario's latency is measured from its scheduled start, so time spent
+ * queued behind a slow backend is counted instead of hidden (coordinated omission).
+ * The same applies per request: a scenario's first request is measured from the
+ * scenario's scheduled start, and each later one is sent as soon as the one before
+ * it finished. Per-request latencies are recorded under their operation name and whole
+ * scenarios under "scenario".
+ */
+public final class LoadTest {
+
+    private static final DateTimeFormatter REPORT_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final LoadTestConfig config;
+    private final LatencyStats stats = new LatencyStats();
+    private final AtomicLong userSequence = new AtomicLong();
+    private final LongAdder failures = new LongAdder();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private LoadTest(LoadTestConfig config) {
+        this.config = config;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && "compare".equals(args[0])) {
+            if (args.length != 3) {
+                System.err.print(LoadTestConfig.USAGE);
+                System.exit(2);
+            }
+            Report.compare(Path.of(args[1]), Path.of(args[2]), System.out);
+            return;
+        }
+        if (args.length > 0 && "startup".equals(args[0])) {
+            StartupBenchmark.run(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+        new LoadTest(config).execute();
+    }
+
+    private void execute() throws Exception {
+        Path reportDir = config.reportDir().resolve(config.label() + "-" + LocalDateTime.now().format(REPORT_TIME));
+        Files.createDirectories(reportDir);
+
+        if (config.baseUrl() != null) {
+            run(config.baseUrl(), reportDir);
+            return;
+        }
+        System.out.println("Starting backend from " + config.jar() + " on port " + config.port());
+        List<String> appArgs = new ArrayList<>();
+        appArgs.add("--spring.datasource.url=jdbc:h2:mem:loadtest");
+        if (config.profiles() != null) {
+            appArgs.add("--spring.profiles.active=" + config.profiles());
+        }
+        try (BackendProcess backend = BackendProcess.start(config.java(), List.of(), config.jar(), appArgs,
+                config.port(), Path.of("."), reportDir.resolve("backend.log"))) {
+            run(backend.getBaseUrl(), reportDir);
+        }
+    }
+
+    private void run(URI baseUrl, Path reportDir) throws InterruptedException, IOException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Scenario scenario = new Scenario(new JobHiveClient(httpClient, baseUrl, new ObjectMapper(), stats), runId,
+                userSequence, config.jobsPerUser(), config.thinkTime());
+
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        System.out.printf("Running %s model against %s: %s warm-up, %s measured%n",
+                config.mode().name().toLowerCase(), baseUrl, LoadTestConfig.format(config.warmup()),
+                LoadTestConfig.format(config.duration()));
+
+        Thread driver = new Thread(() -> {
+            try {
+                if (config.mode() == LoadTestConfig.Mode.CLOSED) {
+                    runClosed(scenario, end);
+                } else {
+                    runOpen(scenario, start, end);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "load-driver");
+        driver.start();
+
+        LockSupport.parkNanos(measureFrom - System.nanoTime());
+        stats.reset();
+        failures.reset();
+        long measuredStart = System.nanoTime();
+        driver.join();
+        double seconds = (System.nanoTime() - measuredStart) / 1e9;
+
+        Map<String, LatencyStats.Snapshot> results = stats.snapshot();
+        Report.write(reportDir, header(baseUrl, seconds), results, seconds);
+        System.out.print(Files.readString(reportDir.resolve("summary.txt")));
+        System.out.println("Report written to " + reportDir);
+    }
+
+    /**
+     * Each user starts its next scenario as soon as the previous one ends
+     */
+    private void runClosed(Scenario scenario, long end) throws InterruptedException {
+        List<Thread> users = new ArrayList<>(config.users());
+        for (int i = 0; i < config.users(); i++) {
+            Thread user = new Thread(() -> {
+                while (System.nanoTime() < end) {
+                    runScenario(scenario, System.nanoTime());
+                }
+            }, "load-user-" + i);
+            user.start();
+            users.add(user);
+        }
+        for (Thread user : users) {
+            user.join();
+        }
+    }
+
+    /**
+     * Scenarios start on a fixed schedule; when all users are busy they queue, and the
+     * queueing time counts towards their latency
+     */
+    private void runOpen(Scenario scenario, long start, long end) throws InterruptedException {
+        ThreadPoolExecutor users = new ThreadPoolExecutor(config.users(), config.users(), 0, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>());
+        long interval = (long) (1e9 / config.rate());
+        for (long scheduled = start; scheduled < end; scheduled += interval) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long intended = scheduled;
+            users.execute(() -> runScenario(scenario, intended));
+        }
+        shutdown(users);
+    }
+
+    private void runScenario(Scenario scenario, long intendedStart) {
+        boolean success = true;
+        try {
+            scenario.run(intendedStart);
+        } catch (IOException e) {
+            success = false;
+            failures.increment();
+            if (failures.sum() <= 10) {
+                System.err.println("Scenario failed: " + e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        stats.record("scenario", System.nanoTime() - intendedStart, success);
+    }
+
+    private static void shutdown(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(2, TimeUnit.MINUTES)) {
+            System.err.println("Abandoning scenarios still running after 2 minutes");
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, String> header(URI baseUrl, double seconds) {
+        Map<String, String> header = new LinkedHashMap<>();
+        header.put("label", config.label());
+        header.put("commit", gitCommit());
+        header.put("target", config.baseUrl() != null ? baseUrl.toString() : config.jar() + " (H2)"
+                + (config.profiles() != null ? ", profiles " + config.profiles() : ""));
+        header.put("mode", config.mode() == LoadTestConfig.Mode.CLOSED
+                ? "closed, " + config.users() + " users"
+                : "open, " + config.rate() + " scenarios/s, max " + config.users() + " in flight");
+        header.put("scenario", "register, login, profile, " + config.jobsPerUser() + " x job create/get/update/delete, "
+                + "list; think time " + LoadTestConfig.format(config.thinkTime()));
+        header.put("measured", String.format(Locale.ROOT, "%.1fs after %s warm-up", seconds,
+                LoadTestConfig.format(config.warmup())));
+        header.put("failures", Long.toString(failures.sum()));
+        header.put("java", System.getProperty("java.version") + ", " + Runtime.getRuntime().availableProcessors() + " cpus"
+                + (config.baseUrl() == null ? "; backend on " + config.java() : ""));
+        return header;
+    }
+
+    private static String gitCommit() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String output = new String(git.getInputStream().readAllBytes()).trim();
+            return git.waitFor() == 0 ? output : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+}
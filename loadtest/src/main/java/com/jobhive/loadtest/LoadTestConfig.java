@@ -0,0 +1,113 @@
+package com.jobhive.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command line options for a load test run.
+ *
+ * @param baseUrl API base URL (including /api/v1) of a running backend, or null to boot one
+ * @param jar backend jar to boot when no base URL is given
+ * @param port port for the booted backend
+ * @param java java executable for the booted backend
+ * @param profiles Spring profiles for the booted backend, or null
+ * @param mode closed (fixed number of users looping) or open (fixed arrival rate)
+ * @param users concurrent users (closed) or maximum scenarios in flight (open)
+ * @param rate scenario starts per second (open model only)
+ * @param duration measured run time
+ * @param warmup unmeasured run time before the measurement starts
+ * @param jobsPerUser jobs each scenario creates, reads, updates and deletes
+ * @param thinkTime pause between requests within a scenario
+ * @param label name of the report directory
+ * @param reportDir parent directory for reports
+ */
+record LoadTestConfig(URI baseUrl, Path jar, int port, Path java, String profiles, Mode mode, int users, double rate, Duration duration,
+                      Duration warmup, int jobsPerUser, Duration thinkTime, String label, Path reportDir) {
+
+    enum Mode { CLOSED, OPEN }
+
+    static final String USAGE = """
+            Usage: java -jar jobhive-loadtest.jar [options]
+                   java -jar jobhive-loadtest.jar compare <baseline summary.csv> <candidate summary.csv>
+                   java -jar jobhive-loadtest.jar startup [--variant default|fast] [--runs n]
+
+            Options (defaults in brackets):
+              --url <url>           API base URL of a running backend, e.g. http://localhost:8080/api/v1
+              --jar <path>          backend jar to boot against H2 when --url is not given
+                                    [../backend/target/jobhive-backend-1.0.0.jar]
+              --port <n>            port for the booted backend [18080]
+              --java <path>         java executable for the booted backend [the one running this]
+              --profiles <list>     Spring profiles for the booted backend, e.g. virtual
+              --mode closed|open    closed: --users loop back to back; open: --rate arrivals per second [closed]
+              --users <n>           concurrent users, or max scenarios in flight in open mode [8]
+              --rate <n>            scenario arrivals per second in open mode [5]
+              --duration <d>        measured duration, e.g. 60s, 2m [60s]
+              --warmup <d>          unmeasured warm-up before measuring [15s]
+              --jobs-per-user <n>   jobs per scenario [3]
+              --think-time <d>      pause between requests [0s]
+              --label <name>        report name [run]
+              --out <dir>           report directory [reports]
+            """;
+
+    private static final Set<String> OPTIONS = Set.of("url", "jar", "port", "java", "profiles", "mode", "users", "rate", "duration",
+            "warmup", "jobs-per-user", "think-time", "label", "out");
+
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : null;
+            if (name == null || !OPTIONS.contains(name) || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            options.put(name, args[++i]);
+        }
+
+        String url = options.get("url");
+        LoadTestConfig config = new LoadTestConfig(
+                url != null ? URI.create(url.endsWith("/") ? url.substring(0, url.length() - 1) : url) : null,
+                Path.of(options.getOrDefault("jar", "../backend/target/jobhive-backend-1.0.0.jar")),
+                Integer.parseInt(options.getOrDefault("port", "18080")),
+                options.containsKey("java") ? Path.of(options.get("java")) : BackendProcess.defaultJava(),
+                options.get("profiles"),
+                Mode.valueOf(options.getOrDefault("mode", "closed").toUpperCase()),
+                Integer.parseInt(options.getOrDefault("users", "8")),
+                Double.parseDouble(options.getOrDefault("rate", "5")),
+                parseDuration(options.getOrDefault("duration", "60s")),
+                parseDuration(options.getOrDefault("warmup", "15s")),
+                Integer.parseInt(options.getOrDefault("jobs-per-user", "3")),
+                parseDuration(options.getOrDefault("think-time", "0s")),
+                options.getOrDefault("label", "run"),
+                Path.of(options.getOrDefault("out", "reports")));
+        if (config.users < 1 || config.rate <= 0 || config.jobsPerUser < 0) {
+            throw new IllegalArgumentException("--users and --rate must be positive");
+        }
+        return config;
+    }
+
+    /**
+     * Format a duration the way it is written on the command line
+     */
+    static String format(Duration duration) {
+        long millis = duration.toMillis();
+        return millis % 1000 == 0 ? millis / 1000 + "s" : millis + "ms";
+    }
+
+    /**
+     * Parse durations like 500ms, 30s or 2m
+     */
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Bad duration: " + value);
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.jobhive.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes and compares run reports. A report directory holds summary.txt for reading,
+ * summary.csv for comparing runs, and one .hgrm percentile distribution per operation
+ * (loadable in the HdrHistogram plotter).
+ */
+final class Report {
+
+    private static final String CSV_HEADER = "operation,count,errors,throughput_per_s,mean_ms,p50_ms,p90_ms,p99_ms,p999_ms,max_ms";
+
+    private Report() {
+    }
+
+    /**
+     * Write a run's results
+     * @param dir report directory (created if missing)
+     * @param header description of the run, one line per entry
+     * @param results operation name to histogram (microseconds) and error count
+     * @param seconds measured duration in seconds
+     */
+    static void write(Path dir, Map<String, String> header, Map<String, LatencyStats.Snapshot> results, double seconds)
+            throws IOException {
+        Files.createDirectories(dir);
+        StringBuilder csv = new StringBuilder();
+        StringBuilder text = new StringBuilder();
+        header.forEach((key, value) -> {
+            csv.append("# ").append(key).append(": ").append(value).append('\n');
+            text.append(String.format(Locale.ROOT, "%-12s %s%n", key + ":", value));
+        });
+        csv.append(CSV_HEADER).append('\n');
+        text.append(String.format(Locale.ROOT, "%n%-12s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n", "operation", "count",
+                "errors", "req/s", "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        for (Map.Entry<String, LatencyStats.Snapshot> entry : results.entrySet()) {
+            String name = entry.getKey();
+            Histogram histogram = entry.getValue().histogram();
+            long count = histogram.getTotalCount();
+            double throughput = count / seconds;
+            double mean = histogram.getMean() / 1000.0;
+            double p50 = histogram.getValueAtPercentile(50) / 1000.0;
+            double p90 = histogram.getValueAtPercentile(90) / 1000.0;
+            double p99 = histogram.getValueAtPercentile(99) / 1000.0;
+            double p999 = histogram.getValueAtPercentile(99.9) / 1000.0;
+            double max = histogram.getMaxValue() / 1000.0;
+
+            csv.append(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f%n", name, count,
+                    entry.getValue().errors(), throughput, mean, p50, p90, p99, p999, max));
+            text.append(String.format(Locale.ROOT, "%-12s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %9.2f%n", name,
+                    count, entry.getValue().errors(), throughput, mean, p50, p90, p99, p999, max));
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(name + ".hgrm")), false,
+                    StandardCharsets.UTF_8)) {
+                // Values are microseconds; scale to milliseconds in the output
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        Files.writeString(dir.resolve("summary.csv"), csv);
+        Files.writeString(dir.resolve("summary.txt"), text);
+    }
+
+    /**
+     * Print per-operation changes between two summary.csv files
+     * @param baseline the reference run
+     * @param candidate the run being judged
+     */
+    static void compare(Path baseline, Path candidate, PrintStream out) throws IOException {
+        Map<String, double[]> base = readCsv(baseline);
+        Map<String, double[]> next = readCsv(candidate);
+        out.printf(Locale.ROOT, "%-12s %24s %24s %24s %18s%n", "operation", "p50 ms", "p99 ms", "p99.9 ms", "req/s");
+        for (Map.Entry<String, double[]> entry : next.entrySet()) {
+            double[] before = base.get(entry.getKey());
+            if (before == null) {
+                continue;
+            }
+            double[] after = entry.getValue();
+            out.printf(Locale.ROOT, "%-12s %24s %24s %24s %18s%n", entry.getKey(), change(before[5], after[5]),
+                    change(before[7], after[7]), change(before[8], after[8]), change(before[3], after[3]));
+        }
+    }
+
+    private static String change(double before, double after) {
+        double percent = before > 0 ? (after - before) * 100 / before : 0;
+        return String.format(Locale.ROOT, "%.2f->%.2f %+.0f%%", before, after, percent);
+    }
+
+    private static Map<String, double[]> readCsv(Path file) throws IOException {
+        Map<String, double[]> rows = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("#") || line.startsWith("operation,") || line.isBlank()) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                double[] values = new double[fields.length];
+                for (int i = 1; i < fields.length; i++) {
+                    values[i] = Double.parseDouble(fields[i]);
+                }
+                rows.put(fields[0], values);
+            }
+        }
+        return rows;
+    }
+}
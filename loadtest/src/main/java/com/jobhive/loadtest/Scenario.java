@@ -0,0 +1,104 @@
+package com.jobhive.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One user's session: register, log in, read the profile, then create, list, read,
+ * update and delete a few saved jobs.
+ */
+final class Scenario {
+
+    private static final String PASSWORD = "LoadTest123!";
+
+    private static final String[] TITLES = {"Backend Engineer", "Java Developer", "Data Engineer",
+            "Platform Engineer", "Full Stack Developer", "Site Reliability Engineer"};
+    private static final String[] DESCRIPTIONS = {
+            "Build REST APIs with Java, Spring Boot and PostgreSQL. Experience with Docker and Kubernetes a plus.",
+            "Design data pipelines in Python and SQL on AWS. Kafka, Spark and Airflow experience preferred.",
+            "Work on React and TypeScript front ends backed by Node.js services and GraphQL.",
+            "Operate Linux fleets with Terraform, Ansible and Prometheus; on-call for Go services."};
+
+    private final JobHiveClient client;
+    private final String runId;
+    private final AtomicLong userSequence;
+    private final int jobsPerUser;
+    private final Duration thinkTime;
+
+    Scenario(JobHiveClient client, String runId, AtomicLong userSequence, int jobsPerUser, Duration thinkTime) {
+        this.client = client;
+        this.runId = runId;
+        this.userSequence = userSequence;
+        this.jobsPerUser = jobsPerUser;
+        this.thinkTime = thinkTime;
+    }
+
+    /**
+     * Run one session. Later requests are sent as soon as the previous one (and the
+     * think time) is done, so only the first can be held back by the load generator.
+     * @param intendedStart System.nanoTime() at which the session was scheduled to start
+     */
+    void run(long intendedStart) throws IOException, InterruptedException {
+        String email = "load-" + runId + "-" + userSequence.incrementAndGet() + "@example.com";
+
+        ObjectNode register = client.json();
+        register.put("name", "Load Tester");
+        register.put("email", email);
+        register.put("password", PASSWORD);
+        client.call("register", "POST", "/user/register", null, register, 200, intendedStart);
+        pause();
+
+        ObjectNode login = client.json();
+        login.put("email", email);
+        login.put("password", PASSWORD);
+        String token = client.call("login", "POST", "/user/login", null, login, 200).path("token").asText();
+        pause();
+
+        client.call("profile", "GET", "/user/profile", token, null, 200);
+        pause();
+
+        List<Long> jobIds = new ArrayList<>(jobsPerUser);
+        for (int i = 0; i < jobsPerUser; i++) {
+            JsonNode job = client.call("job_create", "POST", "/job", token, job(), 201);
+            jobIds.add(job.path("id").asLong());
+            pause();
+        }
+        client.call("job_list", "GET", "/job", token, null, 200);
+        pause();
+        for (Long id : jobIds) {
+            client.call("job_get", "GET", "/job/" + id, token, null, 200);
+            pause();
+            ObjectNode update = job();
+            update.put("applicationStatus", "APPLIED");
+            client.call("job_update", "PUT", "/job/" + id, token, update, 200);
+            pause();
+        }
+        for (Long id : jobIds) {
+            client.call("job_delete", "DELETE", "/job/" + id, token, null, 204);
+            pause();
+        }
+    }
+
+    private ObjectNode job() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ObjectNode job = client.json();
+        job.put("jobTitle", TITLES[random.nextInt(TITLES.length)]);
+        job.put("companyName", "Company " + random.nextInt(500));
+        job.put("location", "Remote");
+        job.put("jobDescription", DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+        return job;
+    }
+
+    private void pause() throws InterruptedException {
+        if (!thinkTime.isZero()) {
+            Thread.sleep(thinkTime.toMillis());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobhive.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures backend cold start: time from launching the JVM until it reports ready
+ * (the first request a load balancer would send), then the latency of a first register and login, where lazily created
+ * beans and cold code paths show up.
+ * <p>
+ * The "default" variant runs the regular Spring Boot jar (schema created on every
+ * start). The "fast" variant runs the thin jar from {@code mvn -Pfast-startup package}
+ * with its AOT bean definitions, CDS archive and the fast profile, against a file
+ * database whose schema is created by one unmeasured run beforehand.
+ */
+final class StartupBenchmark {
+
+    static final String USAGE = """
+            Usage: java -jar jobhive-loadtest.jar startup [options]
+
+            Options (defaults in brackets):
+              --variant default|fast  which build to start [default]
+              --target <dir>          backend build directory [../backend/target]
+              --runs <n>              measured starts [5]
+              --port <n>              port for the backend [18080]
+              --out <dir>             report directory [reports]
+            """;
+
+    private static final Set<String> OPTIONS = Set.of("variant", "target", "runs", "port", "out");
+    private static final DateTimeFormatter REPORT_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private StartupBenchmark() {
+    }
+
+    static void run(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : null;
+            if (name == null || !OPTIONS.contains(name) || i + 1 >= args.length) {
+                System.err.println("Unexpected argument: " + args[i]);
+                System.err.print(USAGE);
+                System.exit(2);
+            }
+            options.put(name, args[++i]);
+        }
+        String variant = options.getOrDefault("variant", "default");
+        Path target = Path.of(options.getOrDefault("target", "../backend/target")).toAbsolutePath();
+        int runs = Integer.parseInt(options.getOrDefault("runs", "5"));
+        int port = Integer.parseInt(options.getOrDefault("port", "18080"));
+        Path reportDir = Path.of(options.getOrDefault("out", "reports"))
+                .resolve("startup-" + variant + "-" + LocalDateTime.now().format(REPORT_TIME));
+        Files.createDirectories(reportDir);
+
+        Path jar;
+        List<String> jvmArgs;
+        List<String> appArgs;
+        Path workDir = Files.createTempDirectory("jobhive-startup-");
+        if ("fast".equals(variant)) {
+            Path dir = target.resolve("fast-startup");
+            jar = dir.resolve("jobhive-backend-1.0.0-app.jar");
+            jvmArgs = List.of("-XX:SharedArchiveFile=" + dir.resolve("jobhive-backend.jsa"), "-Xlog:cds=error",
+                    "-Dspring.aot.enabled=true");
+            appArgs = List.of("--spring.profiles.active=fast");
+            System.out.println("Creating schema for the fast variant in " + workDir);
+            List<String> bootstrap = new ArrayList<>(appArgs);
+            bootstrap.add("--spring.jpa.hibernate.ddl-auto=update");
+            BackendProcess.start(BackendProcess.defaultJava(), jvmArgs, jar, bootstrap, port, workDir, reportDir.resolve("bootstrap.log")).close();
+        } else if ("default".equals(variant)) {
+            jar = target.resolve("jobhive-backend-1.0.0.jar");
+            jvmArgs = List.of();
+            appArgs = List.of("--spring.datasource.url=jdbc:h2:mem:startup");
+        } else {
+            throw new IllegalArgumentException("Unknown variant: " + variant);
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        long[] timeToReady = new long[runs];
+        long[] firstRegister = new long[runs];
+        long[] firstLogin = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            LatencyStats stats = new LatencyStats();
+            try (BackendProcess backend = BackendProcess.start(BackendProcess.defaultJava(), jvmArgs, jar, appArgs, port, workDir,
+                    reportDir.resolve("run-" + (run + 1) + ".log"))) {
+                timeToReady[run] = backend.getTimeToReady().toMillis();
+                JobHiveClient client = new JobHiveClient(httpClient, backend.getBaseUrl(), new ObjectMapper(), stats);
+                // A scenario without jobs covers register, login and profile
+                new Scenario(client, "startup" + System.nanoTime(), new AtomicLong(), 0, Duration.ZERO).run(System.nanoTime());
+            }
+            Map<String, LatencyStats.Snapshot> results = stats.snapshot();
+            firstRegister[run] = results.get("register").histogram().getMaxValue() / 1000;
+            firstLogin[run] = results.get("login").histogram().getMaxValue() / 1000;
+            System.out.printf(Locale.ROOT, "run %d: ready after %d ms, register %d ms, login %d ms%n",
+                    run + 1, timeToReady[run], firstRegister[run], firstLogin[run]);
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "variant:     %s%njar:         %s%nruns:        %d%njava:        %s, %d cpus%n%n",
+                variant, jar, runs, System.getProperty("java.version"), Runtime.getRuntime().availableProcessors()));
+        report.append(String.format(Locale.ROOT, "%-22s %10s %10s %10s%n", "", "min ms", "median ms", "max ms"));
+        report.append(row("time to ready", timeToReady));
+        report.append(row("first register", firstRegister));
+        report.append(row("first login", firstLogin));
+        Files.writeString(reportDir.resolve("startup.txt"), report);
+        System.out.print(report);
+        System.out.println("Report written to " + reportDir);
+    }
+
+    private static String row(String name, long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return String.format(Locale.ROOT, "%-22s %10d %10d %10d%n", name, sorted[0], sorted[sorted.length / 2],
+                sorted[sorted.length - 1]);
+    }
+}